@@ -0,0 +1,20 @@
+package com.foot.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Read-only, non-blocking API over the database of foot-service.
+ * <p>
+ * Requests are served by the Netty event loops and the database is read with R2DBC: a slow
+ * client holds a connection and some buffers, not a thread, and rows are pulled from the
+ * database only as fast as the client reads the response.
+ * </p>
+ */
+@SpringBootApplication
+public class FootReactiveApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(FootReactiveApplication.class, args);
+    }
+}
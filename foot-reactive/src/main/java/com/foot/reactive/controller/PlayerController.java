@@ -0,0 +1,35 @@
+package com.foot.reactive.controller;
+
+import com.foot.reactive.dto.PlayerDTO;
+import com.foot.reactive.service.PlayerService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * Non-blocking mirror of the read endpoints of the foot-service {@code PlayerController}.
+ */
+@RestController
+@RequestMapping("/api/v1/players")
+public class PlayerController {
+
+    @Autowired
+    private PlayerService service;
+
+    /**
+     * Retrieves all the players of a team.
+     * <p>
+     * Returned as a JSON array, or streamed one player per line with {@code Accept: application/x-ndjson}.
+     * </p>
+     *
+     * @param teamId the ID of the team
+     * @return the players of the team
+     */
+    @GetMapping("/teams/{teamId}")
+    Flux<PlayerDTO> getPlayersByTeam(@PathVariable Long teamId) {
+        return service.findByTeam(teamId);
+    }
+}
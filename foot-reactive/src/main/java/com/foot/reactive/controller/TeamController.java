@@ -0,0 +1,52 @@
+package com.foot.reactive.controller;
+
+import com.foot.reactive.dto.TeamDTO;
+import com.foot.reactive.service.TeamService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking mirror of the read endpoints of the foot-service {@code TeamController}.
+ */
+@RestController
+@RequestMapping("/api/v1/teams")
+public class TeamController {
+
+    @Autowired
+    private TeamService service;
+
+    /**
+     * Retrieves a page of teams sorted by specified criteria.
+     * <p>
+     * Unlike foot-service, the teams are returned without the page metadata (no count query):
+     * as a JSON array, or as one team per line with {@code Accept: application/x-ndjson}.
+     * </p>
+     *
+     * @param pageable the pagination and sorting information
+     * @return the teams of the page
+     */
+    @GetMapping
+    Flux<TeamDTO> getTeams(
+            @PageableDefault(page = 0, size = 10, sort = "name", direction = Sort.Direction.ASC) Pageable pageable) {
+        return service.findAll(pageable);
+    }
+
+    /**
+     * Retrieves a team by its ID.
+     *
+     * @param id the ID of the team to retrieve
+     * @return the team, or a 404 response if it does not exist
+     */
+    @GetMapping("/{id}")
+    Mono<TeamDTO> getTeamById(@PathVariable Long id) {
+        return service.findById(id);
+    }
+}
@@ -0,0 +1,18 @@
+package com.foot.reactive.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Same JSON representation as the {@code PlayerDTO} of foot-service.
+ */
+public record PlayerDTO(
+        Long id,
+        String name,
+        Integer no,
+        int matchPlayed,
+        String position,
+        Long teamId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
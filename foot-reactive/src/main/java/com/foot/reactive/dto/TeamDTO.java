@@ -0,0 +1,18 @@
+package com.foot.reactive.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Same JSON representation as the {@code TeamDTO} of foot-service.
+ */
+public record TeamDTO(
+        Long id,
+        String name,
+        String acronym,
+        Integer budget,
+        List<PlayerDTO> players,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
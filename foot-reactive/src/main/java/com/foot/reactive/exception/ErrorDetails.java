@@ -0,0 +1,10 @@
+package com.foot.reactive.exception;
+
+import java.util.Date;
+
+public record ErrorDetails(
+        Date timestamp,
+        String message,
+        String details
+) {
+}
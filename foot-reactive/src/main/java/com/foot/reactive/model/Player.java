@@ -0,0 +1,22 @@
+package com.foot.reactive.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row of the {@code player} table, written by foot-service.
+ */
+@Table("player")
+public record Player(
+        @Id Long id,
+        String name,
+        Integer no,
+        int matchPlayed,
+        String position,
+        Long teamId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
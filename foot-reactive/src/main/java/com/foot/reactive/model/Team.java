@@ -0,0 +1,24 @@
+package com.foot.reactive.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row of the {@code team} table, written by foot-service.
+ * <p>
+ * R2DBC does not map relations: the players of a team are read separately,
+ * see {@link com.foot.reactive.repository.PlayerRepository}.
+ * </p>
+ */
+@Table("team")
+public record Team(
+        @Id Long id,
+        String name,
+        String acronym,
+        Integer budget,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
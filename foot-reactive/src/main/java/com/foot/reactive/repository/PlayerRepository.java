@@ -0,0 +1,28 @@
+package com.foot.reactive.repository;
+
+import com.foot.reactive.model.Player;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+
+@Repository
+public interface PlayerRepository extends R2dbcRepository<Player, Long> {
+
+    /**
+     * Reads the players of a team.
+     *
+     * @param teamId the ID of the team
+     * @return the players of the team, streamed as they are read
+     */
+    Flux<Player> findByTeamId(Long teamId);
+
+    /**
+     * Reads the players of several teams with a single query.
+     *
+     * @param teamIds the IDs of the teams
+     * @return the players of the teams
+     */
+    Flux<Player> findByTeamIdIn(Collection<Long> teamIds);
+}
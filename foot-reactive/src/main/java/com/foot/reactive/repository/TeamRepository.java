@@ -0,0 +1,19 @@
+package com.foot.reactive.repository;
+
+import com.foot.reactive.model.Team;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Repository
+public interface TeamRepository extends R2dbcRepository<Team, Long> {
+
+    /**
+     * Reads a page of teams, without counting them.
+     *
+     * @param pageable the pagination and sorting information
+     * @return the teams of the page
+     */
+    Flux<Team> findAllBy(Pageable pageable);
+}
@@ -0,0 +1,18 @@
+package com.foot.reactive.service;
+
+import com.foot.reactive.dto.PlayerDTO;
+import reactor.core.publisher.Flux;
+
+/**
+ * Interface for reading players without blocking.
+ */
+public interface IPlayerService {
+
+    /**
+     * Reads the players of a team.
+     *
+     * @param teamId the ID of the team
+     * @return the players of the team, empty if the team does not exist
+     */
+    Flux<PlayerDTO> findByTeam(Long teamId);
+}
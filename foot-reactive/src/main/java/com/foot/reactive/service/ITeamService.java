@@ -0,0 +1,29 @@
+package com.foot.reactive.service;
+
+import com.foot.reactive.dto.TeamDTO;
+import com.foot.reactive.exception.ResourceNotFoundException;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Interface for reading teams without blocking.
+ */
+public interface ITeamService {
+
+    /**
+     * Reads a page of teams with their players.
+     *
+     * @param pageable the pagination and sorting information
+     * @return the teams of the page
+     */
+    Flux<TeamDTO> findAll(Pageable pageable);
+
+    /**
+     * Reads a team with its players.
+     *
+     * @param id the ID of the team
+     * @return the team, or an error with a {@link ResourceNotFoundException} if it does not exist
+     */
+    Mono<TeamDTO> findById(Long id);
+}
@@ -0,0 +1,31 @@
+package com.foot.reactive.service;
+
+import com.foot.reactive.dto.PlayerDTO;
+import com.foot.reactive.repository.PlayerRepository;
+import com.foot.reactive.utils.mapper.DtoMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+/**
+ * Player read service implementation.
+ */
+@Service
+public class PlayerService implements IPlayerService {
+
+    @Autowired
+    private PlayerRepository repository;
+
+    /**
+     * Reads the players of a team.
+     * <p>
+     * The players are mapped and written as the rows are read, at the pace of the client.
+     * </p>
+     *
+     * @param teamId the ID of the team
+     * @return the players of the team, empty if the team does not exist
+     */
+    public Flux<PlayerDTO> findByTeam(Long teamId) {
+        return repository.findByTeamId(teamId).map(DtoMapper::toDTO);
+    }
+}
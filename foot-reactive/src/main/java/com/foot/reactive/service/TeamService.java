@@ -0,0 +1,77 @@
+package com.foot.reactive.service;
+
+import com.foot.reactive.dto.PlayerDTO;
+import com.foot.reactive.dto.TeamDTO;
+import com.foot.reactive.exception.ResourceNotFoundException;
+import com.foot.reactive.model.Player;
+import com.foot.reactive.model.Team;
+import com.foot.reactive.repository.PlayerRepository;
+import com.foot.reactive.repository.TeamRepository;
+import com.foot.reactive.utils.mapper.DtoMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Team read service implementation.
+ */
+@Service
+public class TeamService implements ITeamService {
+
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    /**
+     * Reads a page of teams with their players.
+     * <p>
+     * Like foot-service, the rosters of the page are read with a single query
+     * ({@code team_id IN (...)}) rather than one query per team.
+     * </p>
+     *
+     * @param pageable the pagination and sorting information
+     * @return the teams of the page
+     */
+    public Flux<TeamDTO> findAll(Pageable pageable) {
+        return teamRepository.findAllBy(pageable)
+                .collectList()
+                .flatMapMany(teams -> {
+                    if (teams.isEmpty()) {
+                        return Flux.empty();
+                    }
+                    List<Long> ids = teams.stream().map(Team::id).toList();
+                    return playerRepository.findByTeamIdIn(ids)
+                            .collectMultimap(Player::teamId, DtoMapper::toDTO)
+                            .flatMapIterable(players -> teams.stream()
+                                    .map(team -> DtoMapper.toDTO(team, roster(players, team.id())))
+                                    .toList());
+                });
+    }
+
+    /**
+     * Reads a team with its players.
+     *
+     * @param id the ID of the team
+     * @return the team, or an error with a {@link ResourceNotFoundException} if it does not exist
+     */
+    public Mono<TeamDTO> findById(Long id) {
+        return teamRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Team not found for this id :: " + id)))
+                .flatMap(team -> playerRepository.findByTeamId(id)
+                        .map(DtoMapper::toDTO)
+                        .collectList()
+                        .map(players -> DtoMapper.toDTO(team, players)));
+    }
+
+    private static List<PlayerDTO> roster(Map<Long, Collection<PlayerDTO>> players, Long teamId) {
+        Collection<PlayerDTO> roster = players.get(teamId);
+        return roster == null ? List.of() : List.copyOf(roster);
+    }
+}
@@ -0,0 +1,27 @@
+package com.foot.reactive.utils.mapper;
+
+import com.foot.reactive.dto.PlayerDTO;
+import com.foot.reactive.dto.TeamDTO;
+import com.foot.reactive.model.Player;
+import com.foot.reactive.model.Team;
+
+import java.util.List;
+
+/**
+ * Maps the rows read with R2DBC to the DTOs of the API.
+ */
+public final class DtoMapper {
+
+    private DtoMapper() {
+    }
+
+    public static PlayerDTO toDTO(Player player) {
+        return new PlayerDTO(player.id(), player.name(), player.no(), player.matchPlayed(), player.position(),
+                player.teamId(), player.createdAt(), player.updatedAt());
+    }
+
+    public static TeamDTO toDTO(Team team, List<PlayerDTO> players) {
+        return new TeamDTO(team.id(), team.name(), team.acronym(), team.budget(), players,
+                team.createdAt(), team.updatedAt());
+    }
+}
@@ -0,0 +1,99 @@
+package com.foot.reactive.controller;
+
+import com.foot.reactive.dto.PlayerDTO;
+import com.foot.reactive.dto.TeamDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the read API against an in-memory database created by the Flyway migrations of foot-service,
+ * run in the order of their names.
+ */
+@SpringBootTest(properties = {
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive;DB_CLOSE_DELAY=-1",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=file:../src/main/resources/db/migration/V*.sql"})
+@AutoConfigureWebTestClient
+class ReadApiTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void testGetTeams() {
+        List<TeamDTO> teams = webTestClient.get().uri("/api/v1/teams?size=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TeamDTO.class)
+                .returnResult().getResponseBody();
+
+        assertEquals(List.of("AS Monaco", "Olympique de Marseille"), teams.stream().map(TeamDTO::name).toList());
+        assertEquals(0, teams.get(0).players().size());
+        assertEquals(List.of(1L, 2L), teams.get(1).players().stream().map(PlayerDTO::id).sorted().toList());
+    }
+
+    @Test
+    void testGetTeamsSecondPageSortedByBudget() {
+        webTestClient.get().uri("/api/v1/teams?page=1&size=2&sort=budget,desc")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].acronym").isEqualTo("OM");
+    }
+
+    @Test
+    void testGetTeamById() {
+        webTestClient.get().uri("/api/v1/teams/2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("Paris Saint-Germain")
+                .jsonPath("$.players[0].name").isEqualTo("Player Three")
+                .jsonPath("$.players[0].teamId").isEqualTo(2);
+    }
+
+    @Test
+    void testGetTeamByIdNotFound() {
+        webTestClient.get().uri("/api/v1/teams/99")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Team not found for this id :: 99")
+                .jsonPath("$.details").isEqualTo("uri=/api/v1/teams/99");
+    }
+
+    @Test
+    void testGetPlayersByTeamAsNdjson() {
+        Flux<PlayerDTO> players = webTestClient.get().uri("/api/v1/players/teams/1")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(PlayerDTO.class)
+                .getResponseBody();
+
+        StepVerifier.create(players.map(PlayerDTO::name).sort())
+                .expectNext("Player One", "Player Two")
+                .verifyComplete();
+    }
+
+    @Test
+    void testGetPlayersOfUnknownTeam() {
+        webTestClient.get().uri("/api/v1/players/teams/99")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .json("[]");
+    }
+}
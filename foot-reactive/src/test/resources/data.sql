@@ -0,0 +1,10 @@
+INSERT INTO team (id, name, acronym, budget, created_at, updated_at, version) VALUES
+    (1, 'Olympique de Marseille', 'OM', 100, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0),
+    (2, 'Paris Saint-Germain', 'PSG', 200, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0),
+    (3, 'AS Monaco', 'ASM', 300, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0);
+
+INSERT INTO player (id, name, no, match_played, position, team_id, created_at, updated_at, version) VALUES
+    (1, 'Player One', 1, 10, 'Gardien', 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0),
+    (2, 'Player Two', 2, 20, 'Milieu', 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0),
+    (3, 'Player Three', 3, 30, 'Attaquant', 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0),
+    (4, 'Free Agent', 4, 0, 'Milieu', NULL, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0);
@@ -0,0 +1,84 @@
+package com.foot.team_service.benchmark;
+
+import com.foot.team_service.model.Player;
+import com.foot.team_service.model.Team;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Fixture factory shared by the JMH benchmarks.
+ * <p>
+ * Generates teams and players with the same shape as {@code LoadDatabase}, but with a fixed seed
+ * so that every run of a benchmark works on identical data.
+ * </p>
+ */
+final class BenchmarkData {
+
+    private static final String[] PLAYER_POSITIONS = {"Gardien", "Défenseur", "Milieu", "Attaquant"};
+    private static final String[] FIRST_NAMES = {
+            "Alex", "Max", "Chris", "Jordan", "Taylor", "Morgan", "Jamie", "Casey", "Robin", "Dana"};
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Miller", "Davis", "Garcia", "Rodriguez", "Wilson"};
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Builds a detached team (no id) named after the given index.
+     *
+     * @param index the index of the team, used to build a unique name and acronym
+     * @return the team
+     */
+    static Team team(int index) {
+        Team team = new Team();
+        team.setName("Equipe " + index);
+        team.setAcronym("EQ-" + index);
+        team.setBudget(1000 + index);
+        return team;
+    }
+
+    /**
+     * Builds {@code count} detached players (no id) attached to the given team.
+     *
+     * @param team  the team of the players, may be null
+     * @param count the number of players to build
+     * @param seed  the seed of the random generator
+     * @return the players
+     */
+    static List<Player> players(Team team, int count, long seed) {
+        Random random = new Random(seed);
+        List<Player> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Player player = new Player();
+            player.setName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " +
+                    LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+            player.setNo(random.nextInt(99) + 1);
+            player.setMatchPlayed(random.nextInt(100));
+            player.setPosition(PLAYER_POSITIONS[random.nextInt(PLAYER_POSITIONS.length)]);
+            player.setTeam(team);
+            players.add(player);
+        }
+        return players;
+    }
+
+    /**
+     * Builds a team with ids set on the team and on each of its {@code rosterSize} players,
+     * as if it had been loaded from the database.
+     *
+     * @param rosterSize the number of players in the team
+     * @return the team with its players
+     */
+    static Team persistedTeam(int rosterSize) {
+        Team team = team(1);
+        team.setId(1L);
+        List<Player> players = players(team, rosterSize, 42L);
+        long id = 1;
+        for (Player player : players) {
+            player.setId(id++);
+        }
+        team.setPlayers(players);
+        return team;
+    }
+}
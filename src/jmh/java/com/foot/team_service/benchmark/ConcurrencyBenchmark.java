@@ -0,0 +1,129 @@
+package com.foot.team_service.benchmark;
+
+import com.foot.team_service.FootServiceApplication;
+import com.foot.team_service.model.Team;
+import com.foot.team_service.repository.PlayerRepository;
+import com.foot.team_service.repository.TeamRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares request handling on Tomcat platform worker threads and on virtual threads under bursts
+ * of concurrent connections.
+ * <p>
+ * Each trial boots the application on a real port, with the shipped {@code virtual-threads} profile
+ * when {@code threads} is {@code virtual} and the default configuration otherwise, and seeds
+ * {@value #TEAM_COUNT} teams of {@value #ROSTER_SIZE} players.
+ * Each invocation then opens a burst of {@code connections} simultaneous requests
+ * ({@code GET /teams/{id}} and {@code GET /players/teams/{id}}) and waits for all of them:
+ * the sampled time is the latency of the slowest request of the burst, which is where queueing
+ * behind the 200 Tomcat workers shows up.
+ * </p>
+ * <p>
+ * Each mode runs with the settings it ships with, so the connection limits of Tomcat and the size of
+ * the Hikari pool (which bounds the requests in the database on virtual threads) are measured too:
+ * with the default configuration, a burst beyond the connections Tomcat accepts fails the run.
+ * The client and the server share the machine: raise the open files limit
+ * ({@code ulimit -n 65536}) before running the 10 000 connections case.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ConcurrencyBenchmark {
+
+    private static final int TEAM_COUNT = 20;
+    private static final int ROSTER_SIZE = 25;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"1000", "5000", "10000"})
+    private int connections;
+
+    private ConfigurableApplicationContext context;
+    private ExecutorService clientExecutor;
+    private HttpClient client;
+    private List<HttpRequest> requests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplicationBuilder application = new SpringApplicationBuilder(FootServiceApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "logging.level.root=WARN");
+        if ("virtual".equals(threads)) {
+            application.profiles("virtual-threads");
+        }
+        context = application.run();
+        int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+
+        TeamRepository teamRepository = context.getBean(TeamRepository.class);
+        PlayerRepository playerRepository = context.getBean(PlayerRepository.class);
+        requests = new ArrayList<>(TEAM_COUNT * 2);
+        for (int i = 0; i < TEAM_COUNT; i++) {
+            Team team = teamRepository.save(BenchmarkData.team(i));
+            playerRepository.saveAll(BenchmarkData.players(team, ROSTER_SIZE, i));
+            requests.add(request(port, "/api/v1/teams/" + team.getId()));
+            requests.add(request(port, "/api/v1/players/teams/" + team.getId()));
+        }
+
+        // le client ne doit pas être le goulot d'étranglement : un thread virtuel par réponse attendue
+        clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        client = HttpClient.newBuilder()
+                .executor(clientExecutor)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        clientExecutor.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int burst() {
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            responses.add(client.sendAsync(requests.get(i % requests.size()), HttpResponse.BodyHandlers.discarding()));
+        }
+        int ok = 0;
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            int status = response.join().statusCode();
+            if (status != 200) {
+                throw new IllegalStateException("Unexpected status " + status);
+            }
+            ok++;
+        }
+        return ok;
+    }
+
+    private static HttpRequest request(int port, String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .version(HttpClient.Version.HTTP_1_1)
+                .timeout(Duration.ofMinutes(1))
+                .GET()
+                .build();
+    }
+}
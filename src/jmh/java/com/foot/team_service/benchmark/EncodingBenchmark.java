@@ -0,0 +1,79 @@
+package com.foot.team_service.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.foot.team_service.dto.TeamDTO;
+import com.foot.team_service.model.Team;
+import com.foot.team_service.utils.json.PlayerDTOSerializer;
+import com.foot.team_service.utils.json.TeamDTOSerializer;
+import com.foot.team_service.utils.mapper.TeamMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the encodings offered by the controllers for a {@code TeamDTO} with its roster:
+ * JSON, CBOR ({@code application/cbor}) and Smile ({@code application/x-jackson-smile}).
+ * <p>
+ * The mappers are built like the ones of the message converters (same builder, same DTO serializers).
+ * The size of the encoded team is printed once per trial.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EncodingBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"25", "500"})
+    private int rosterSize;
+
+    private ObjectMapper objectMapper;
+    private TeamDTO team;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .serializers(new PlayerDTOSerializer(), new TeamDTOSerializer())
+                .build();
+        Team persistedTeam = BenchmarkData.persistedTeam(rosterSize);
+        LocalDateTime now = LocalDateTime.now();
+        persistedTeam.setCreatedAt(now);
+        persistedTeam.setUpdatedAt(now);
+        persistedTeam.getPlayers().forEach(player -> {
+            player.setCreatedAt(now);
+            player.setUpdatedAt(now);
+        });
+        team = TeamMapper.INSTANCE.teamToTeamDTO(persistedTeam);
+        encoded = objectMapper.writeValueAsBytes(team);
+        System.out.printf("%n%s, %d players: %d bytes%n", format, rosterSize, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return objectMapper.writeValueAsBytes(team);
+    }
+
+    @Benchmark
+    public TeamDTO decode() throws Exception {
+        return objectMapper.readValue(encoded, TeamDTO.class);
+    }
+}
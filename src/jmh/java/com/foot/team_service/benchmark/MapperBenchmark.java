@@ -0,0 +1,46 @@
+package com.foot.team_service.benchmark;
+
+import com.foot.team_service.dto.PlayerDTO;
+import com.foot.team_service.dto.TeamDTO;
+import com.foot.team_service.model.Player;
+import com.foot.team_service.model.Team;
+import com.foot.team_service.utils.mapper.PlayerMapper;
+import com.foot.team_service.utils.mapper.TeamMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the MapStruct entity to DTO conversions used on every read path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"11", "100", "1000", "5000"})
+    private int rosterSize;
+
+    private Team team;
+    private List<Player> players;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        team = BenchmarkData.persistedTeam(rosterSize);
+        players = team.getPlayers();
+    }
+
+    @Benchmark
+    public TeamDTO teamToTeamDTO() {
+        return TeamMapper.INSTANCE.teamToTeamDTO(team);
+    }
+
+    @Benchmark
+    public List<PlayerDTO> playersToPlayerDTOs() {
+        return PlayerMapper.INSTANCE.playersToPlayerDTOs(players);
+    }
+}
@@ -0,0 +1,114 @@
+package com.foot.team_service.benchmark;
+
+import com.foot.team_service.FootServiceApplication;
+import com.foot.team_service.dto.PlayerDTO;
+import com.foot.team_service.dto.TeamDTO;
+import com.foot.team_service.model.Team;
+import com.foot.team_service.repository.PlayerRepository;
+import com.foot.team_service.repository.TeamRepository;
+import com.foot.team_service.service.PlayerService;
+import com.foot.team_service.service.TeamService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Measures the read paths against a fully started application backed by an in-memory H2 database.
+ * <p>
+ * Each trial boots the application on its own database, seeds {@value #TEAM_COUNT} teams of
+ * {@code rosterSize} players, then measures the service layer ({@link TeamService#findAll},
+ * {@link PlayerService#findAll}) and the full request path (controller, service, repository and
+ * JSON serialization) through {@link MockMvc}.
+ * </p>
+ * <p>
+ * Service calls run inside a transaction, like the open-in-view session of a web request,
+ * since the team roster is loaded lazily while mapping.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PersistenceBenchmark {
+
+    private static final int TEAM_COUNT = 20;
+
+    @Param({"11", "100", "1000", "5000"})
+    private int rosterSize;
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private TeamService teamService;
+    private PlayerService playerService;
+    private MockMvc mockMvc;
+    private TransactionTemplate transactionTemplate;
+    private Pageable pageable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(FootServiceApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "logging.level.root=WARN")
+                .run();
+        teamService = context.getBean(TeamService.class);
+        playerService = context.getBean(PlayerService.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+        pageable = PageRequest.of(0, pageSize, Sort.by(Sort.Direction.ASC, "name"));
+
+        TeamRepository teamRepository = context.getBean(TeamRepository.class);
+        PlayerRepository playerRepository = context.getBean(PlayerRepository.class);
+        for (int i = 0; i < TEAM_COUNT; i++) {
+            Team team = teamRepository.save(BenchmarkData.team(i));
+            playerRepository.saveAll(BenchmarkData.players(team, rosterSize, i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<TeamDTO> teamServiceFindAll() {
+        return transactionTemplate.execute(status -> teamService.findAll(pageable));
+    }
+
+    @Benchmark
+    public Page<PlayerDTO> playerServiceFindAll() {
+        return transactionTemplate.execute(status -> playerService.findAll(pageable));
+    }
+
+    @Benchmark
+    public String getTeamsRequest() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/teams").param("size", String.valueOf(pageSize))).andReturn();
+        return result.getResponse().getContentAsString();
+    }
+
+    @Benchmark
+    public String getPlayersRequest() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/players").param("size", String.valueOf(pageSize))).andReturn();
+        return result.getResponse().getContentAsString();
+    }
+}
@@ -0,0 +1,86 @@
+package com.foot.team_service.benchmark;
+
+import com.foot.team_service.dto.SearchHitDTO;
+import com.foot.team_service.model.Player;
+import com.foot.team_service.model.Team;
+import com.foot.team_service.repository.ProjectionRepository;
+import com.foot.team_service.service.SearchIndex;
+import com.foot.team_service.utils.projection.FieldSelection;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the autocomplete search of {@link SearchIndex}: a prefix of a name, and a prefix with a typo,
+ * which goes through the trigram candidates and the edit distance.
+ * <p>
+ * The index is loaded from generated rows instead of the database: {@code players} players with
+ * random surnames (mostly distinct names), spread over teams of 20.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+
+    private static final String[] FIRST_NAMES = {
+            "Alex", "Max", "Chris", "Jordan", "Taylor", "Morgan", "Jamie", "Casey", "Robin", "Dana"};
+    private static final String[] SYLLABLES = {
+            "ba", "ko", "mi", "ra", "tel", "van", "do", "li", "mar", "pe", "su", "ron", "ga", "zi", "be", "lo"};
+
+    @Param({"1000", "100000"})
+    private int players;
+
+    @Param({"mar", "dana kora", "jordna"})
+    private String query;
+
+    private SearchIndex searchIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        List<Map<String, Object>> teamRows = new ArrayList<>();
+        List<Map<String, Object>> playerRows = new ArrayList<>(players);
+        Random random = new Random(42);
+        for (long id = 1; id <= players; id++) {
+            long teamId = (id - 1) / 20 + 1;
+            if ((id - 1) % 20 == 0) {
+                Team team = BenchmarkData.team((int) teamId);
+                teamRows.add(Map.of("id", teamId, "name", team.getName(), "acronym", team.getAcronym()));
+            }
+            StringBuilder surname = new StringBuilder();
+            for (int i = 0, n = 2 + random.nextInt(3); i < n; i++) {
+                surname.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + Character.toUpperCase(surname.charAt(0)) + surname.substring(1);
+            playerRows.add(Map.of("id", id, "name", name, "teamId", teamId));
+        }
+
+        searchIndex = new SearchIndex();
+        Field repository = SearchIndex.class.getDeclaredField("projectionRepository");
+        repository.setAccessible(true);
+        repository.set(searchIndex, new ProjectionRepository() {
+            @Override
+            public <T> List<Map<String, Object>> findAll(Class<T> type, FieldSelection fields,
+                                                         Specification<T> specification, Sort sort) {
+                return type == Player.class ? playerRows : teamRows;
+            }
+        });
+        System.out.printf("%n%d players, \"%s\": %d hits%n", players, query, searchIndex.search(query, 10).size());
+    }
+
+    @Benchmark
+    public List<SearchHitDTO> search() {
+        return searchIndex.search(query, 10);
+    }
+}
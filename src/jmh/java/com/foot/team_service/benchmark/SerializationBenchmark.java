@@ -0,0 +1,76 @@
+package com.foot.team_service.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.foot.team_service.dto.PageDTO;
+import com.foot.team_service.dto.PlayerDTO;
+import com.foot.team_service.model.Player;
+import com.foot.team_service.utils.json.PlayerDTOSerializer;
+import com.foot.team_service.utils.json.TeamDTOSerializer;
+import com.foot.team_service.utils.mapper.PlayerMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Jackson serialization of the page returned by {@code GET /api/v1/players}.
+ * <p>
+ * {@code serializePlayerPage} writes a {@code PageImpl} with the bean serializer of {@code PlayerDTO}
+ * (the former response), {@code serializePlayerPageDTO} writes the {@link PageDTO} envelope with the
+ * hand-written {@link PlayerDTOSerializer} (the current one). The {@link ObjectMapper}s are built the
+ * same way Spring Boot builds the application one. Run with {@code -prof gc} to compare the allocations.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"11", "100", "500", "5000"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper serializersObjectMapper;
+    private Page<PlayerDTO> page;
+    private PageDTO<PlayerDTO> pageDTO;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        serializersObjectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .serializers(new PlayerDTOSerializer(), new TeamDTOSerializer())
+                .build();
+        List<Player> players = BenchmarkData.persistedTeam(pageSize).getPlayers();
+        LocalDateTime now = LocalDateTime.now();
+        players.forEach(player -> {
+            player.setCreatedAt(now);
+            player.setUpdatedAt(now);
+        });
+        List<PlayerDTO> content = PlayerMapper.INSTANCE.playersToPlayerDTOs(players);
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize, Sort.by("name")), 100_000L);
+        pageDTO = PageDTO.of(page);
+    }
+
+    @Benchmark
+    public byte[] serializePlayerPage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializePlayerPageDTO() throws Exception {
+        return serializersObjectMapper.writeValueAsBytes(pageDTO);
+    }
+}
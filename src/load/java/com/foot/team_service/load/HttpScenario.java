@@ -0,0 +1,80 @@
+package com.foot.team_service.load;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A request of the {@code rest-client/*.http} files, as written by hand for the IntelliJ HTTP client.
+ * <p>
+ * Each request starts with a {@code ### name} line, followed by the request line ({@code GET http://...}),
+ * the headers, a blank line and the body. The host of the files is ignored: {@link LoadTest} sends the
+ * requests to the application it boots.
+ * </p>
+ *
+ * @param name    the first word of the {@code ###} line, e.g. {@code getTeamById}
+ * @param method  the HTTP method
+ * @param target  the path and the query string, e.g. {@code /api/v1/teams/1}
+ * @param headers the headers, in file order
+ * @param body    the body, empty if none
+ */
+record HttpScenario(String name, String method, String target, Map<String, String> headers, String body) {
+
+    private static final Pattern REQUEST_LINE = Pattern.compile("^(GET|POST|PUT|PATCH|DELETE|HEAD|OPTIONS)\\s+(\\S+)");
+    private static final Pattern HEADER = Pattern.compile("^([\\w-]+):\\s*(.*)$");
+    private static final Pattern HOST = Pattern.compile("^https?://[^/]+");
+
+    /**
+     * Reads the requests of an {@code .http} file. Blocks without a request line are skipped.
+     *
+     * @param file the {@code .http} file
+     * @return the requests, in file order
+     * @throws IOException if the file cannot be read
+     */
+    static List<HttpScenario> parse(Path file) throws IOException {
+        List<HttpScenario> scenarios = new ArrayList<>();
+        List<String> block = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            if (line.startsWith("###")) {
+                parseBlock(block).ifPresent(scenarios::add);
+                block.clear();
+            }
+            block.add(line);
+        }
+        parseBlock(block).ifPresent(scenarios::add);
+        return scenarios;
+    }
+
+    private static Optional<HttpScenario> parseBlock(List<String> block) {
+        if (block.isEmpty()) {
+            return Optional.empty();
+        }
+        String title = block.get(0).replaceFirst("^#+", "").trim();
+        String name = title.isEmpty() ? "" : title.split("\\s+")[0];
+        int i = 1;
+        while (i < block.size() && block.get(i).isBlank()) {
+            i++;
+        }
+        Matcher requestLine = i < block.size() ? REQUEST_LINE.matcher(block.get(i).trim()) : null;
+        if (name.isEmpty() || requestLine == null || !requestLine.find()) {
+            return Optional.empty();
+        }
+        String target = HOST.matcher(requestLine.group(2)).replaceFirst("");
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (i++; i < block.size() && !block.get(i).isBlank(); i++) {
+            Matcher header = HEADER.matcher(block.get(i).trim());
+            if (header.matches()) {
+                headers.put(header.group(1), header.group(2));
+            }
+        }
+        String body = String.join("\n", block.subList(Math.min(i, block.size()), block.size())).trim();
+        return Optional.of(new HttpScenario(name, requestLine.group(1), target, headers, body));
+    }
+}
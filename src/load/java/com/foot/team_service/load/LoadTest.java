@@ -0,0 +1,299 @@
+package com.foot.team_service.load;
+
+import com.foot.team_service.FootServiceApplication;
+import com.foot.team_service.model.Player;
+import com.foot.team_service.model.Team;
+import com.foot.team_service.repository.PlayerRepository;
+import com.foot.team_service.repository.TeamRepository;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Open-model load test of the HTTP API, replaying the requests of {@code rest-client/team.http} and
+ * {@code rest-client/player.http}.
+ * <p>
+ * The application is booted on a random port with its own in-memory database, seeded with
+ * {@code --teams} teams of {@code --roster-size} players. The requests named in {@code --mix} are then
+ * started at a fixed {@code --rate}, each one on its own virtual thread, whatever the response times:
+ * a slow server does not slow the client down. The ids of the files ({@code /teams/1}, {@code "teamId": 2}...)
+ * are replaced by random seeded ids, and their {@code If-Match} / {@code If-None-Match} headers dropped.
+ * </p>
+ * <p>
+ * The latency of a request is measured from the time it was due to start, not from the time it was
+ * sent, so that a stalled client or server is not hidden (coordinated omission). It is recorded in one
+ * HdrHistogram per request name; the percentile distributions are written to {@code --report-dir}
+ * ({@code .hgrm} files, which can be plotted and compared between runs). The run fails (exit code 1)
+ * when a request fails, or when the overall p99 exceeds {@code --max-p99} milliseconds.
+ * </p>
+ * <p>
+ * Run with: {@code mvn -Pload-test test-compile exec:exec -Dload.args="--rate=500 --duration=2m --max-p99=50"}
+ * </p>
+ */
+public class LoadTest {
+
+    private static final Pattern TEAM_PATH_ID = Pattern.compile("/teams/\\d+");
+    private static final Pattern PLAYER_PATH_ID = Pattern.compile("/players/\\d+");
+    private static final Pattern TEAM_ID_MEMBER = Pattern.compile("\"teamId\"\\s*:\\s*\\d+");
+    private static final Pattern PLAYER_ID_MEMBER = Pattern.compile("\"id\"\\s*:\\s*\\d+");
+    // ETags recopiés à la main dans les fichiers .http, et en-têtes gérés par le client
+    private static final Set<String> IGNORED_HEADERS = Set.of("if-match", "if-none-match", "host", "content-length");
+    private static final String[] PLAYER_POSITIONS = {"Gardien", "Défenseur", "Milieu", "Attaquant"};
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    // de 1 µs à 1 min, 3 chiffres significatifs
+    private static final long HIGHEST_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final LoadTestOptions options;
+    private final SplittableRandom random;
+    private final Map<String, Stats> stats = new LinkedHashMap<>();
+    private final Stats total = new Stats();
+    private List<Long> teamIds;
+    private List<Long> playerIds;
+
+    LoadTest(LoadTestOptions options) {
+        this.options = options;
+        this.random = new SplittableRandom(options.seed());
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        boolean passed = new LoadTest(options).run();
+        System.exit(passed ? 0 : 1);
+    }
+
+    /**
+     * Boots the application, seeds it, runs the warmup and the measurement, and prints the report.
+     *
+     * @return false if a request failed or if the p99 exceeded {@code --max-p99}
+     * @throws IOException if a scenario file cannot be read or a report cannot be written
+     */
+    boolean run() throws IOException {
+        List<HttpScenario> mix = mix();
+        try (ConfigurableApplicationContext context = start()) {
+            seed(context);
+            URI baseUri = URI.create("http://localhost:" + ((ServletWebServerApplicationContext) context).getWebServer().getPort());
+            System.out.printf("Seeded %d teams and %d players, %d requests/s for %s after a %s warmup%n",
+                    teamIds.size(), playerIds.size(), options.rate(), options.duration(), options.warmup());
+            try (HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(REQUEST_TIMEOUT)
+                    .build()) {
+                drive(client, baseUri, mix);
+            }
+        }
+        return report();
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(FootServiceApplication.class)
+                .profiles(options.profiles().isBlank() ? new String[0] : options.profiles().split(","))
+                // en arguments (et non en propriétés par défaut) pour passer devant application.yaml
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:load-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "--logging.level.root=WARN");
+    }
+
+    private void seed(ConfigurableApplicationContext context) {
+        TeamRepository teamRepository = context.getBean(TeamRepository.class);
+        PlayerRepository playerRepository = context.getBean(PlayerRepository.class);
+        SplittableRandom dataRandom = new SplittableRandom(options.seed());
+        for (int i = 0; i < options.teams(); i++) {
+            Team team = new Team();
+            team.setName("Equipe " + i);
+            team.setAcronym("EQ-" + i);
+            team.setBudget(1000 + i);
+            teamRepository.save(team);
+            List<Player> players = new ArrayList<>(options.rosterSize());
+            for (int j = 0; j < options.rosterSize(); j++) {
+                Player player = new Player();
+                player.setName("Joueur " + i + "-" + j);
+                player.setNo(j + 1);
+                player.setMatchPlayed(dataRandom.nextInt(100));
+                player.setPosition(PLAYER_POSITIONS[dataRandom.nextInt(PLAYER_POSITIONS.length)]);
+                player.setTeam(team);
+                players.add(player);
+            }
+            playerRepository.saveAll(players);
+        }
+        // les données de LoadDatabase font aussi partie du jeu de données
+        teamIds = teamRepository.findAll().stream().map(Team::getId).toList();
+        playerIds = playerRepository.findAll().stream().map(Player::getId).toList();
+    }
+
+    // une entrée par unité de poids : le tirage d'une requête est un simple index aléatoire
+    private List<HttpScenario> mix() throws IOException {
+        Map<String, HttpScenario> scenarios = new LinkedHashMap<>();
+        for (Path file : options.scenarioFiles()) {
+            for (HttpScenario scenario : HttpScenario.parse(file)) {
+                scenarios.putIfAbsent(scenario.name(), scenario);
+            }
+        }
+        List<HttpScenario> mix = new ArrayList<>();
+        options.mix().forEach((name, weight) -> {
+            HttpScenario scenario = scenarios.get(name);
+            if (scenario == null) {
+                throw new IllegalArgumentException("Unknown request " + name + ", expected one of " + scenarios.keySet());
+            }
+            stats.put(name, new Stats());
+            for (int i = 0; i < weight; i++) {
+                mix.add(scenario);
+            }
+        });
+        return mix;
+    }
+
+    private void drive(HttpClient client, URI baseUri, List<HttpScenario> mix) {
+        long interval = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        long start = System.nanoTime();
+        long measureStart = start + options.warmup().toNanos();
+        long end = measureStart + options.duration().toNanos();
+        // la fermeture de l'executor attend la fin des requêtes en cours (au plus REQUEST_TIMEOUT)
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long intendedStart = start; intendedStart < end; intendedStart += interval) {
+                long delay = intendedStart - System.nanoTime();
+                if (delay > 0) {
+                    LockSupport.parkNanos(delay);
+                }
+                HttpScenario scenario = mix.get(random.nextInt(mix.size()));
+                HttpRequest request = request(baseUri, scenario);
+                Stats scenarioStats = intendedStart >= measureStart ? stats.get(scenario.name()) : null;
+                long due = intendedStart;
+                executor.execute(() -> send(client, request, due, scenarioStats));
+            }
+        }
+    }
+
+    private HttpRequest request(URI baseUri, HttpScenario scenario) {
+        String target = replace(TEAM_PATH_ID, scenario.target(), id -> "/teams/" + id, teamIds);
+        target = replace(PLAYER_PATH_ID, target, id -> "/players/" + id, playerIds);
+        String body = replace(TEAM_ID_MEMBER, scenario.body(), id -> "\"teamId\": " + id, teamIds);
+        body = replace(PLAYER_ID_MEMBER, body, id -> "\"id\": " + id, playerIds);
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(target))
+                .timeout(REQUEST_TIMEOUT)
+                .method(scenario.method(), body.isEmpty()
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body));
+        scenario.headers().forEach((name, value) -> {
+            if (!IGNORED_HEADERS.contains(name.toLowerCase())) {
+                builder.header(name, value);
+            }
+        });
+        return builder.build();
+    }
+
+    private String replace(Pattern pattern, String text, Function<Long, String> replacement, List<Long> ids) {
+        return pattern.matcher(text).replaceAll(match -> replacement.apply(ids.get(random.nextInt(ids.size()))));
+    }
+
+    private void send(HttpClient client, HttpRequest request, long intendedStart, Stats scenarioStats) {
+        String error = null;
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 400) {
+                error = request.method() + " " + request.uri().getPath() + " -> " + response.statusCode() + " " + response.body();
+            }
+        } catch (IOException e) {
+            error = request.method() + " " + request.uri().getPath() + " -> " + e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (scenarioStats != null) {
+            long latency = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart);
+            scenarioStats.record(latency, error);
+            total.record(latency, error);
+        }
+    }
+
+    private boolean report() throws IOException {
+        Files.createDirectories(options.reportDir());
+        System.out.printf("%n%-24s %8s %7s %9s %9s %9s %9s %9s%n",
+                "Request", "Count", "Errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        stats.forEach(this::printLine);
+        printLine("TOTAL", total);
+        System.out.printf("%nThroughput: %.1f requests/s (target %d)%n",
+                total.histogram.getTotalCount() / (double) options.duration().toSeconds(), options.rate());
+        System.out.println("Percentile distributions: " + options.reportDir().toAbsolutePath());
+
+        boolean passed = true;
+        for (Map.Entry<String, Stats> entry : stats.entrySet()) {
+            Stats scenarioStats = entry.getValue();
+            writeDistribution(entry.getKey(), scenarioStats.histogram);
+            if (scenarioStats.errors.sum() > 0) {
+                System.out.println("FAILED " + entry.getKey() + ": " + scenarioStats.lastError);
+                passed = false;
+            }
+        }
+        writeDistribution("total", total.histogram);
+        double p99 = millis(total.histogram.getValueAtPercentile(99));
+        if (options.maxP99Millis() > 0 && p99 > options.maxP99Millis()) {
+            System.out.printf("FAILED p99 %.2f ms exceeds %.2f ms%n", p99, options.maxP99Millis());
+            passed = false;
+        }
+        return passed;
+    }
+
+    private void printLine(String name, Stats lineStats) {
+        Histogram histogram = lineStats.histogram;
+        System.out.printf("%-24s %8d %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n", name,
+                histogram.getTotalCount(), lineStats.errors.sum(),
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private void writeDistribution(String name, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(options.reportDir().resolve(name + ".hgrm")))) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    /**
+     * Latencies (in microseconds) and errors of the requests of one name.
+     */
+    private static final class Stats {
+
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_LATENCY_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+        private volatile String lastError;
+
+        void record(long latencyMicros, String error) {
+            histogram.recordValue(Math.min(latencyMicros, HIGHEST_LATENCY_MICROS));
+            if (error != null) {
+                errors.increment();
+                lastError = error;
+            }
+        }
+    }
+}
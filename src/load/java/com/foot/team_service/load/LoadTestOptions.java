@@ -0,0 +1,87 @@
+package com.foot.team_service.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Options of {@link LoadTest}, read from {@code --name=value} arguments.
+ *
+ * @param scenarioFiles the {@code .http} files holding the requests
+ * @param mix           the weight of each request, by name
+ * @param rate          the number of requests started per second, whatever the response times
+ * @param warmup        the duration of the warmup, not measured
+ * @param duration      the duration of the measurement
+ * @param teams         the number of teams seeded before the run
+ * @param rosterSize    the number of players of each seeded team
+ * @param seed          the seed of the random generators (data and request mix)
+ * @param profiles      the Spring profiles of the application, e.g. {@code virtual-threads}
+ * @param reportDir     the directory of the HdrHistogram percentile distributions
+ * @param maxP99Millis  the p99 above which the run fails, 0 for none
+ */
+record LoadTestOptions(List<Path> scenarioFiles, Map<String, Integer> mix, int rate, Duration warmup, Duration duration,
+                       int teams, int rosterSize, long seed, String profiles, Path reportDir, double maxP99Millis) {
+
+    /**
+     * Default mix: 90 % reads, 10 % writes which neither delete nor replace whole rosters, so that the
+     * data set keeps the same shape during the run.
+     */
+    static final String DEFAULT_MIX = "getTeams=10,getTeamsWithoutCount=5,getTeamById=25,"
+            + "getPlayers=10,getPlayerById=25,getPlayersByTeam=15,"
+            + "createPlayer=3,updatePlayer=2,patchPlayer=3,patchTeam=2";
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put("scenarios", "rest-client/team.http,rest-client/player.http");
+        values.put("mix", DEFAULT_MIX);
+        values.put("rate", "200");
+        values.put("warmup", "15s");
+        values.put("duration", "60s");
+        values.put("teams", "200");
+        values.put("roster-size", "25");
+        values.put("seed", "42");
+        values.put("profiles", "");
+        values.put("report-dir", "target/load-test");
+        values.put("max-p99", "0");
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            String name = arg.startsWith("--") && equals > 2 ? arg.substring(2, equals) : null;
+            if (name == null || !values.containsKey(name)) {
+                throw new IllegalArgumentException("Unknown option " + arg + ", expected one of --" + values.keySet());
+            }
+            values.put(name, arg.substring(equals + 1));
+        }
+        return new LoadTestOptions(
+                Arrays.stream(values.get("scenarios").split(",")).map(String::trim).map(Path::of).toList(),
+                parseMix(values.get("mix")),
+                Integer.parseInt(values.get("rate")),
+                parseDuration(values.get("warmup")),
+                parseDuration(values.get("duration")),
+                Integer.parseInt(values.get("teams")),
+                Integer.parseInt(values.get("roster-size")),
+                Long.parseLong(values.get("seed")),
+                values.get("profiles"),
+                Path.of(values.get("report-dir")),
+                Double.parseDouble(values.get("max-p99")));
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] nameAndWeight = entry.trim().split("=");
+            weights.put(nameAndWeight[0], nameAndWeight.length > 1 ? Integer.parseInt(nameAndWeight[1]) : 1);
+        }
+        return weights;
+    }
+
+    // "90s", "2m" ou un nombre de secondes
+    private static Duration parseDuration(String value) {
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value.endsWith("s") ? value.substring(0, value.length() - 1) : value));
+    }
+}
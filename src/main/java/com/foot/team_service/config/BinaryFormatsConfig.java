@@ -0,0 +1,57 @@
+package com.foot.team_service.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.foot.team_service.utils.http.ResourceVersion;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuration class adding binary encodings of the JSON payloads, for service-to-service calls.
+ * <p>
+ * With {@code Accept: application/cbor} or {@code application/x-jackson-smile}, the controllers write
+ * the same documents as in JSON (same fields, same DTO serializers) in CBOR or Smile; request bodies
+ * are read from these formats with the matching {@code Content-Type}. The mappers are built from the
+ * builder of Spring Boot, so that they share the configuration of the JSON one ({@code spring.jackson.*},
+ * modules and {@code @JsonComponent}s).
+ * </p>
+ * <p>
+ * Since the representation of a URI depends on {@code Accept}, the responses of the API, 304 included,
+ * carry {@code Vary: Accept} for the caches; the ETags also tell the representations apart
+ * (see {@link ResourceVersion#eTag(org.springframework.web.context.request.WebRequest)}).
+ * </p>
+ */
+@Configuration
+public class BinaryFormatsConfig implements WebMvcConfigurer {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                // avant le contrôleur : les réponses 304 de checkNotModified portent aussi l'en-tête
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                return true;
+            }
+        }).addPathPatterns("/api/**");
+    }
+}
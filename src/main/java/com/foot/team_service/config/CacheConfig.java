@@ -0,0 +1,62 @@
+package com.foot.team_service.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * Configuration class enabling the caching of team and player lookups.
+ * <p>
+ * The caches themselves (Caffeine, bounded in size and time) are configured in {@code application.yaml}
+ * under {@code spring.cache}. It also gives Hibernate the JCache manager of its second-level cache.
+ * </p>
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Cache of the team DTOs (with their roster), by team ID.
+     */
+    public static final String TEAMS = "teams";
+
+    /**
+     * Cache of the player DTOs, by player ID.
+     */
+    public static final String PLAYERS = "players";
+
+    /**
+     * JCache manager of the Hibernate second-level cache, whose regions are configured in {@code application.conf}.
+     * <p>
+     * The default manager of the provider is shared by the whole JVM: two application contexts, such as
+     * the test contexts on their own databases, would serve each other's entities. Each context
+     * therefore gets its own manager, closed with the context.
+     * </p>
+     *
+     * @return the cache manager
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager() {
+        return Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("foot:second-level-cache:" + UUID.randomUUID()), getClass().getClassLoader());
+    }
+
+    /**
+     * Hands the second-level cache manager to Hibernate.
+     *
+     * @param secondLevelCacheManager the cache manager
+     * @return the customizer of the Hibernate properties
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+}
@@ -0,0 +1,31 @@
+package com.foot.team_service.config;
+
+import org.h2.tools.Server;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.sql.SQLException;
+
+/**
+ * Configuration class exposing the in-memory H2 database over TCP.
+ * <p>
+ * Enabled with {@code foot.h2.tcp-server.enabled=true}, so that the reactive read API
+ * ({@code foot-reactive}) can read the database of this application with R2DBC
+ * ({@code r2dbc:h2:tcp://localhost:9092/mem:footdb}). The server only accepts local connections
+ * and cannot create new databases.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "foot.h2.tcp-server.enabled", havingValue = "true")
+public class H2TcpServerConfig {
+
+    @Value("${foot.h2.tcp-server.port:9092}")
+    private int port;
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public Server h2TcpServer() throws SQLException {
+        return Server.createTcpServer("-tcp", "-tcpPort", String.valueOf(port), "-ifExists");
+    }
+}
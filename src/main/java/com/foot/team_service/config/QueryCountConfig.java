@@ -0,0 +1,44 @@
+package com.foot.team_service.config;
+
+import com.foot.team_service.utils.querycount.QueryCountFilter;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration class counting the JDBC statements of each HTTP request.
+ * <p>
+ * The data source is wrapped in a proxy (datasource-proxy) which counts the statements per thread,
+ * and {@link QueryCountFilter} checks each request against its budget ({@code foot.query-count.budgets}).
+ * Disabled with {@code foot.query-count.enabled=false}.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "foot.query-count.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(QueryCountProperties.class)
+public class QueryCountConfig {
+
+    @Bean
+    public static BeanPostProcessor queryCountDataSourceProxy() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource).name(beanName).countQuery().build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public QueryCountFilter queryCountFilter(QueryCountProperties properties) {
+        return new QueryCountFilter(properties);
+    }
+}
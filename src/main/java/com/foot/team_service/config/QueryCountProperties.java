@@ -0,0 +1,32 @@
+package com.foot.team_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * Settings of the per-request SQL statement count ({@code foot.query-count.*}).
+ *
+ * @param enabled       whether the statements are counted
+ * @param header        whether the count is sent in the {@code X-Query-Count} response header
+ * @param defaultBudget the maximum number of statements of a route without its own budget
+ * @param budgets       the budget of each route, keyed by method and path pattern ({@code GET /api/v1/teams/{id}})
+ */
+@ConfigurationProperties(prefix = "foot.query-count")
+public record QueryCountProperties(
+        @DefaultValue("true") boolean enabled,
+        boolean header,
+        @DefaultValue("10") int defaultBudget,
+        Map<String, Integer> budgets) {
+
+    /**
+     * Returns the budget of a route.
+     *
+     * @param route the method and path pattern of the route
+     * @return the maximum number of statements the route should run
+     */
+    public int budgetOf(String route) {
+        return budgets == null ? defaultBudget : budgets.getOrDefault(route, defaultBudget);
+    }
+}
@@ -0,0 +1,18 @@
+package com.foot.team_service.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.annotation.EnableRetry;
+
+/**
+ * Configuration class enabling the optional retry of the writes that lost a race with another one.
+ * <p>
+ * The updates and deletes of teams and players are retried, in a new transaction, when they fail
+ * with a {@link org.springframework.dao.ConcurrencyFailureException}. The number of attempts is set with
+ * {@code foot.concurrency.retry.max-attempts} (1 by default, i.e. no retry: the client gets a 409).
+ * A write rejected because of its {@code If-Match} header is never retried.
+ * </p>
+ */
+@Configuration
+@EnableRetry
+public class RetryConfig {
+}
@@ -1,20 +1,41 @@
 package com.foot.team_service.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.foot.team_service.dto.CursorPageDTO;
+import com.foot.team_service.dto.ImportReportDTO;
+import com.foot.team_service.dto.PageDTO;
 import com.foot.team_service.dto.PlayerDTO;
+import com.foot.team_service.dto.SearchHitDTO;
+import com.foot.team_service.utils.filter.PlayerFilter;
+import com.foot.team_service.utils.http.MergePatch;
+import com.foot.team_service.utils.http.ResourceVersion;
+import com.foot.team_service.utils.importing.ImportFormat;
+import com.foot.team_service.utils.pagination.PageCountMode;
+import com.foot.team_service.utils.projection.FieldSelection;
 import com.foot.team_service.repository.PlayerRepository;
+import com.foot.team_service.service.ExportService;
+import com.foot.team_service.service.ImportService;
 import com.foot.team_service.service.PlayerService;
+import com.foot.team_service.service.SearchIndex;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Controller class for handling REST endpoints related to Player operations.
@@ -29,18 +50,122 @@ public class PlayerController {
     private PlayerRepository repository;
     @Autowired
     private PlayerService service;
+    @Autowired
+    private ExportService exportService;
+    @Autowired
+    private ImportService importService;
 
     /**
-     * Retrieves a paginated list of players sorted by specified criteria.
+     * Retrieves a paginated list of players sorted by specified criteria, optionally filtered, e.g.
+     * {@code ?position=Milieu&teamId=3&minMatchPlayed=10&sort=matchPlayed,desc}.
      *
-     * @param pageable the pagination and sorting information
+     * <p>
+     * The {@code count} parameter selects how {@code totalElements} is computed: {@code EXACT} (default)
+     * runs a count query, {@code CACHED} reads a maintained counter, and {@code NONE} skips it
+     * and only tells whether there is a next page. The page is returned in a {@link PageDTO} envelope.
+     * </p>
+     * <p>
+     * The sort is on one of {@code id, name, no, matchPlayed, position}, each backed by an index;
+     * another sort gets a 400 response.
+     * </p>
+     *
+     * @param pageable  the pagination and sorting information
+     * @param countMode how the total number of players is computed
+     * @param filter    the filters, bound from the {@code position, teamId, minNo, maxNo, minMatchPlayed,
+     *                  maxMatchPlayed} parameters
      * @return a ResponseEntity containing a paginated list of PlayerDTOs
      */
     @GetMapping
-    ResponseEntity<Page<PlayerDTO>> getPlayers(
-            @PageableDefault(page = 0, size = 10, sort = "name", direction = Sort.Direction.ASC) Pageable pageable) {
-        Page<PlayerDTO> pageablePlayers = service.findAll(pageable);
-        return new ResponseEntity<>(pageablePlayers, HttpStatus.OK);
+    ResponseEntity<PageDTO<PlayerDTO>> getPlayers(
+            @PageableDefault(page = 0, size = 10, sort = "name", direction = Sort.Direction.ASC) Pageable pageable,
+            @RequestParam(name = "count", defaultValue = "EXACT") PageCountMode countMode,
+            PlayerFilter filter) {
+        Slice<PlayerDTO> pageablePlayers = service.findAll(pageable, countMode, filter);
+        return new ResponseEntity<>(PageDTO.of(pageablePlayers), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves a paginated list of players with only the requested fields, e.g. {@code fields=id,name,no}.
+     * <p>
+     * Only the columns of the requested fields are read. The fields are among {@code id, name, no,
+     * matchPlayed, position, teamId, createdAt, updatedAt}; an unknown field gets a 400 response.
+     * The filters and the sort are the ones of {@link #getPlayers}.
+     * </p>
+     *
+     * @param pageable  the pagination and sorting information
+     * @param countMode how the total number of players is computed
+     * @param filter    the filters
+     * @param fields    the comma separated fields to return
+     * @return a ResponseEntity containing a paginated list of players with their requested fields
+     */
+    @GetMapping(params = "fields")
+    ResponseEntity<PageDTO<Map<String, Object>>> getPlayerFields(
+            @PageableDefault(page = 0, size = 10, sort = "name", direction = Sort.Direction.ASC) Pageable pageable,
+            @RequestParam(name = "count", defaultValue = "EXACT") PageCountMode countMode,
+            PlayerFilter filter,
+            @RequestParam String fields) {
+        Slice<Map<String, Object>> players = service.findAll(pageable, countMode, filter,
+                FieldSelection.of(fields, PlayerService.FIELDS));
+        return new ResponseEntity<>(PageDTO.of(players), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves a page of players sorted by name using keyset pagination.
+     *
+     * @param cursor the cursor returned with the previous page, absent for the first page
+     * @param size   the maximum number of players to return
+     * @return a ResponseEntity containing a cursor page of PlayerDTOs
+     */
+    @GetMapping("/scroll")
+    ResponseEntity<CursorPageDTO<PlayerDTO>> scrollPlayers(
+            @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "10") int size) {
+        CursorPageDTO<PlayerDTO> playerDTOs = service.scroll(cursor, size);
+        return new ResponseEntity<>(playerDTOs, HttpStatus.OK);
+    }
+
+    /**
+     * Autocompletes a name: returns the players and the teams whose name starts with the query,
+     * or nearly (a typo or two), e.g. {@code q=mbap}. Served from an in-memory index.
+     *
+     * @param q     the text typed by the user
+     * @param limit the maximum number of hits to return, at most {@value SearchIndex#MAX_LIMIT}
+     * @return a ResponseEntity containing the hits, best first
+     */
+    @GetMapping("/search")
+    ResponseEntity<List<SearchHitDTO>> searchPlayers(
+            @RequestParam String q, @RequestParam(defaultValue = "10") int limit) {
+        return new ResponseEntity<>(service.search(q, limit), HttpStatus.OK);
+    }
+
+    /**
+     * Exports every player as NDJSON (one PlayerDTO per line), streamed while the rows are read.
+     *
+     * @param fetchSize the number of rows read per database round trip, absent for the default
+     * @return a ResponseEntity whose body writes the players
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> exportPlayers(@RequestParam(required = false) Integer fetchSize) {
+        StreamingResponseBody body = exportService.exportPlayers(fetchSize);
+        // produces ne suffit pas : le Content-Type d'un StreamingResponseBody doit être posé explicitement
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Imports players from an NDJSON or CSV body, read and committed chunk by chunk.
+     *
+     * @param contentType the format of the body, {@code application/x-ndjson} or {@code text/csv}
+     * @param chunkSize   the number of records per transaction, absent for the default
+     * @param body        the body of the request
+     * @return a ResponseEntity containing the import report, with the rejected lines
+     * @throws IOException if the body cannot be read
+     */
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, ImportFormat.TEXT_CSV_VALUE})
+    ResponseEntity<ImportReportDTO> importPlayers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            @RequestParam(required = false) Integer chunkSize,
+            InputStream body) throws IOException {
+        ImportReportDTO report = importService.importPlayers(body, ImportFormat.of(contentType), chunkSize);
+        return new ResponseEntity<>(report, HttpStatus.OK);
     }
 
     /**
@@ -55,52 +180,181 @@ public class PlayerController {
         return new ResponseEntity<>(playerDTOCreated, HttpStatus.CREATED);
     }
 
+    /**
+     * Creates several players at once.
+     * <p>
+     * The players are inserted in JDBC batches, which makes this endpoint suited to bulk loads
+     * such as roster synchronisations.
+     * </p>
+     *
+     * @param playerDTOs the player data transfer objects to create
+     * @return a ResponseEntity containing the created PlayerDTOs
+     */
+    @PostMapping("/batch")
+    ResponseEntity<List<PlayerDTO>> createPlayers(@Valid @RequestBody List<@Valid PlayerDTO> playerDTOs) {
+        List<PlayerDTO> playerDTOsCreated = service.createAll(playerDTOs);
+        return new ResponseEntity<>(playerDTOsCreated, HttpStatus.CREATED);
+    }
+
     /**
      * Retrieves a player by its ID.
+     * <p>
+     * A conditional request matching the {@code ETag} or {@code Last-Modified} of the player
+     * gets a 304 response, and the player is not loaded.
+     * </p>
      *
-     * @param id the ID of the player to retrieve
-     * @return a ResponseEntity containing the PlayerDTO with the specified ID
+     * @param id      the ID of the player to retrieve
+     * @param request the request, to check its conditional headers
+     * @return a ResponseEntity containing the PlayerDTO with the specified ID, or null if not modified
      */
     @GetMapping("/{id}")
-    ResponseEntity<PlayerDTO> getPlayerById(@PathVariable Long id) {
-        PlayerDTO playerDTO = service.findById(id);
+    ResponseEntity<PlayerDTO> getPlayerById(@PathVariable Long id, WebRequest request) {
+        ResourceVersion version = service.findVersion(id);
+        if (request.checkNotModified(version.eTag(request), version.lastModifiedMillis())) {
+            return null;
+        }
+        PlayerDTO playerDTO = service.findById(id, version);
         return new ResponseEntity<>(playerDTO, HttpStatus.OK);
     }
 
+    /**
+     * Retrieves the requested fields of a player, e.g. {@code fields=name,position}.
+     * <p>
+     * Conditional requests work as for the full player.
+     * </p>
+     *
+     * @param id      the ID of the player to retrieve
+     * @param fields  the comma separated fields to return
+     * @param request the request, to check its conditional headers
+     * @return a ResponseEntity containing the requested fields of the player, or null if not modified
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    ResponseEntity<Map<String, Object>> getPlayerFieldsById(
+            @PathVariable Long id, @RequestParam String fields, WebRequest request) {
+        FieldSelection selection = FieldSelection.of(fields, PlayerService.FIELDS);
+        ResourceVersion version = service.findVersion(id);
+        if (request.checkNotModified(version.eTag(request), version.lastModifiedMillis())) {
+            return null;
+        }
+        return new ResponseEntity<>(service.findById(id, selection), HttpStatus.OK);
+    }
+
     /**
      * Updates an existing player.
+     * <p>
+     * With an {@code If-Match} header holding the ETag of the player, the update only applies if the
+     * player has not been modified since; otherwise the response is 412 Precondition Failed.
+     * </p>
      *
      * @param newPlayerDTO the updated player details
      * @param id           the ID of the player to update
+     * @param ifMatch      the ETag of the player the client read, if the update must not overwrite a newer version
      * @return a ResponseEntity containing the updated PlayerDTO
      */
     @PutMapping("/{id}")
-    ResponseEntity<?> updatePlayer(@Valid @RequestBody PlayerDTO newPlayerDTO, @PathVariable Long id) {
-        PlayerDTO playerDTO = service.update(newPlayerDTO, id);
+    ResponseEntity<?> updatePlayer(
+            @Valid @RequestBody PlayerDTO newPlayerDTO, @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        PlayerDTO playerDTO = service.update(newPlayerDTO, id, ResourceVersion.versionOf(ifMatch));
+        return new ResponseEntity<>(playerDTO, HttpStatus.OK);
+    }
+
+    /**
+     * Partially updates a player with a JSON Merge Patch, for instance {@code {"matchPlayed":12}}.
+     * <p>
+     * Only the members present in the patch are changed, and only the changed columns are written.
+     * The {@code If-Match} header works as for a full update.
+     * </p>
+     *
+     * @param patch   the merge patch, a JSON object
+     * @param id      the ID of the player to patch
+     * @param ifMatch the ETag of the player the client read, if the patch must not apply to a newer version
+     * @return a ResponseEntity containing the patched PlayerDTO
+     */
+    @PatchMapping(value = "/{id}", consumes = {MergePatch.MEDIA_TYPE_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    ResponseEntity<PlayerDTO> patchPlayer(
+            @RequestBody JsonNode patch, @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        PlayerDTO playerDTO = service.patch(id, patch, ResourceVersion.versionOf(ifMatch));
         return new ResponseEntity<>(playerDTO, HttpStatus.OK);
     }
 
     /**
      * Deletes a player by its ID.
+     * <p>
+     * With an {@code If-Match} header holding the ETag of the player, the player is only deleted if it
+     * has not been modified since; otherwise the response is 412 Precondition Failed.
+     * </p>
      *
-     * @param id the ID of the player to delete
+     * @param id      the ID of the player to delete
+     * @param ifMatch the ETag of the player the client read, if a newer version must not be deleted
      * @return a ResponseEntity with no content status
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> deletePlayer(@PathVariable Long id) {
-        return service.delete(id);
+    public ResponseEntity<?> deletePlayer(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return service.delete(id, ResourceVersion.versionOf(ifMatch));
     }
 
     /**
      * Retrieves a list of players belonging to a specific team.
+     * <p>
+     * A conditional request matching the {@code ETag} or {@code Last-Modified} of the roster
+     * gets a 304 response, and the players are not loaded.
+     * </p>
      *
-     * @param teamId the ID of the team
-     * @return a ResponseEntity containing a list of PlayerDTOs belonging to the team
+     * @param teamId  the ID of the team
+     * @param request the request, to check its conditional headers
+     * @return a ResponseEntity containing a list of PlayerDTOs belonging to the team, or null if not modified
      */
     @GetMapping("/teams/{teamId}")
-    public ResponseEntity<List<PlayerDTO>> getPlayersByTeam(@PathVariable Long teamId) {
+    public ResponseEntity<List<PlayerDTO>> getPlayersByTeam(@PathVariable Long teamId, WebRequest request) {
+        ResourceVersion version = service.findVersionByTeam(teamId);
+        if (request.checkNotModified(version.eTag(request), version.lastModifiedMillis())) {
+            return null;
+        }
         List<PlayerDTO> playerDTOs = service.findByTeam(teamId);
         return new ResponseEntity<>(playerDTOs, HttpStatus.OK);
     }
 
+    /**
+     * Retrieves the requested fields of the players of a team, sorted by ID, e.g. {@code fields=id,name,no}.
+     * <p>
+     * Conditional requests work as for the full roster.
+     * </p>
+     *
+     * @param teamId  the ID of the team
+     * @param fields  the comma separated fields to return
+     * @param request the request, to check its conditional headers
+     * @return a ResponseEntity containing the requested fields of each player, or null if not modified
+     */
+    @GetMapping(value = "/teams/{teamId}", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getPlayerFieldsByTeam(
+            @PathVariable Long teamId, @RequestParam String fields, WebRequest request) {
+        FieldSelection selection = FieldSelection.of(fields, PlayerService.FIELDS);
+        ResourceVersion version = service.findVersionByTeam(teamId);
+        if (request.checkNotModified(version.eTag(request), version.lastModifiedMillis())) {
+            return null;
+        }
+        return new ResponseEntity<>(service.findByTeam(teamId, selection), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves a page of the players of a team using keyset pagination.
+     *
+     * @param teamId the ID of the team
+     * @param cursor the cursor returned with the previous page, absent for the first page
+     * @param size   the maximum number of players to return
+     * @return a ResponseEntity containing a cursor page of PlayerDTOs belonging to the team
+     */
+    @GetMapping("/teams/{teamId}/scroll")
+    public ResponseEntity<CursorPageDTO<PlayerDTO>> scrollPlayersByTeam(
+            @PathVariable Long teamId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        CursorPageDTO<PlayerDTO> playerDTOs = service.scrollByTeam(teamId, cursor, size);
+        return new ResponseEntity<>(playerDTOs, HttpStatus.OK);
+    }
+
 }
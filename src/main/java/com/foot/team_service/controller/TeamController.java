@@ -1,16 +1,37 @@
 package com.foot.team_service.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.foot.team_service.dto.CursorPageDTO;
+import com.foot.team_service.dto.ImportReportDTO;
+import com.foot.team_service.dto.PageDTO;
 import com.foot.team_service.dto.TeamDTO;
+import com.foot.team_service.dto.TeamStatsDTO;
+import com.foot.team_service.utils.http.MergePatch;
+import com.foot.team_service.utils.http.ResourceVersion;
+import com.foot.team_service.utils.importing.ImportFormat;
+import com.foot.team_service.utils.pagination.PageCountMode;
+import com.foot.team_service.utils.projection.FieldSelection;
+import com.foot.team_service.service.ExportService;
+import com.foot.team_service.service.ImportService;
 import com.foot.team_service.service.TeamService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Controller class for handling REST endpoints related to Team operations.
@@ -20,20 +41,141 @@ import org.springframework.web.bind.annotation.*;
 public class TeamController {
     @Autowired
     private TeamService service;
+    @Autowired
+    private ExportService exportService;
+    @Autowired
+    private ImportService importService;
 
     /**
      * Retrieves a paginated list of teams sorted by specified criteria.
      *
-     * @param pageable the pagination and sorting information
+     * <p>
+     * The {@code count} parameter selects how {@code totalElements} is computed: {@code EXACT} (default)
+     * runs a count query, {@code CACHED} reads a maintained counter, and {@code NONE} skips it
+     * and only tells whether there is a next page. The page is returned in a {@link PageDTO} envelope.
+     * </p>
+     *
+     * @param pageable  the pagination and sorting information
+     * @param countMode how the total number of teams is computed
      * @return a ResponseEntity containing a paginated list of TeamDTOs
      */
     @GetMapping
-    ResponseEntity<Page<TeamDTO>> getTeams(
-            @PageableDefault(page = 0, size = 10, sort = "name", direction = Sort.Direction.ASC) Pageable pageable) {
-        Page<TeamDTO> teamDTOs = service.findAll(pageable);
+    ResponseEntity<PageDTO<TeamDTO>> getTeams(
+            @PageableDefault(page = 0, size = 10, sort = "name", direction = Sort.Direction.ASC) Pageable pageable,
+            @RequestParam(name = "count", defaultValue = "EXACT") PageCountMode countMode) {
+        Slice<TeamDTO> teamDTOs = service.findAll(pageable, countMode);
+        return new ResponseEntity<>(PageDTO.of(teamDTOs), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves a paginated list of teams with only the requested fields, e.g. {@code fields=id,name}.
+     * <p>
+     * Only the columns of the requested fields are read, and the rosters are not. The fields are among
+     * {@code id, name, acronym, budget, createdAt, updatedAt}; an unknown field gets a 400 response.
+     * </p>
+     *
+     * @param pageable  the pagination and sorting information
+     * @param countMode how the total number of teams is computed
+     * @param fields    the comma separated fields to return
+     * @return a ResponseEntity containing a paginated list of teams with their requested fields
+     */
+    @GetMapping(params = "fields")
+    ResponseEntity<PageDTO<Map<String, Object>>> getTeamFields(
+            @PageableDefault(page = 0, size = 10, sort = "name", direction = Sort.Direction.ASC) Pageable pageable,
+            @RequestParam(name = "count", defaultValue = "EXACT") PageCountMode countMode,
+            @RequestParam String fields) {
+        Slice<Map<String, Object>> teams = service.findAll(pageable, countMode, FieldSelection.of(fields, TeamService.FIELDS));
+        return new ResponseEntity<>(PageDTO.of(teams), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves a paginated list of teams without their players ({@code view=summary}), e.g. for a team picker.
+     * <p>
+     * The default view, {@code view=detail}, returns the teams with their rosters.
+     * </p>
+     *
+     * @param pageable  the pagination and sorting information
+     * @param countMode how the total number of teams is computed
+     * @return a ResponseEntity containing a paginated list of teams, without their players
+     */
+    @GetMapping(params = {"view=summary", "!fields"})
+    ResponseEntity<PageDTO<Map<String, Object>>> getTeamSummaries(
+            @PageableDefault(page = 0, size = 10, sort = "name", direction = Sort.Direction.ASC) Pageable pageable,
+            @RequestParam(name = "count", defaultValue = "EXACT") PageCountMode countMode) {
+        Slice<Map<String, Object>> teams = service.findAll(pageable, countMode, FieldSelection.all(TeamService.FIELDS));
+        return new ResponseEntity<>(PageDTO.of(teams), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves a page of teams sorted by name using keyset pagination.
+     *
+     * @param cursor the cursor returned with the previous page, absent for the first page
+     * @param size   the maximum number of teams to return
+     * @return a ResponseEntity containing a cursor page of TeamDTOs
+     */
+    @GetMapping("/scroll")
+    ResponseEntity<CursorPageDTO<TeamDTO>> scrollTeams(
+            @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "10") int size) {
+        CursorPageDTO<TeamDTO> teamDTOs = service.scroll(cursor, size);
         return new ResponseEntity<>(teamDTOs, HttpStatus.OK);
     }
 
+    /**
+     * Retrieves the statistics of the roster of every team: number of players, matches played,
+     * players per position and budget per player. Served from memory, not aggregated per request.
+     *
+     * @return a ResponseEntity containing the statistics of the teams, sorted by team ID
+     */
+    @GetMapping("/stats")
+    ResponseEntity<List<TeamStatsDTO>> getTeamsStats() {
+        return new ResponseEntity<>(service.findAllStats(), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves the statistics of the roster of a team.
+     *
+     * @param id the ID of the team
+     * @return a ResponseEntity containing the statistics of the team
+     */
+    @GetMapping("/{id}/stats")
+    ResponseEntity<TeamStatsDTO> getTeamStatsById(@PathVariable Long id) {
+        return new ResponseEntity<>(service.findStats(id), HttpStatus.OK);
+    }
+
+    /**
+     * Exports every team as NDJSON (one TeamDTO per line), streamed while the rows are read.
+     *
+     * @param fetchSize the number of rows read per database round trip, absent for the default
+     * @return a ResponseEntity whose body writes the teams
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> exportTeams(@RequestParam(required = false) Integer fetchSize) {
+        StreamingResponseBody body = exportService.exportTeams(fetchSize);
+        // produces ne suffit pas : le Content-Type d'un StreamingResponseBody doit être posé explicitement
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Imports teams from an NDJSON or CSV body, read and committed chunk by chunk.
+     * <p>
+     * NDJSON lines are full TeamDTOs, with their players; CSV files only carry the team fields.
+     * </p>
+     *
+     * @param contentType the format of the body, {@code application/x-ndjson} or {@code text/csv}
+     * @param chunkSize   the number of records per transaction, absent for the default
+     * @param body        the body of the request
+     * @return a ResponseEntity containing the import report, with the rejected lines
+     * @throws IOException if the body cannot be read
+     */
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, ImportFormat.TEXT_CSV_VALUE})
+    ResponseEntity<ImportReportDTO> importTeams(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            @RequestParam(required = false) Integer chunkSize,
+            InputStream body) throws IOException {
+        ImportReportDTO report = importService.importTeams(body, ImportFormat.of(contentType), chunkSize);
+        return new ResponseEntity<>(report, HttpStatus.OK);
+    }
+
     /**
      * Creates a new team.
      *
@@ -48,37 +190,119 @@ public class TeamController {
 
     /**
      * Retrieves a team by its ID.
+     * <p>
+     * The response carries an {@code ETag} and a {@code Last-Modified} header built from the version
+     * of the team and its roster. A conditional request matching this version gets a 304 response,
+     * and the team is not loaded.
+     * </p>
      *
-     * @param id the ID of the team to retrieve
-     * @return a ResponseEntity containing the TeamDTO with the specified ID
+     * @param id      the ID of the team to retrieve
+     * @param request the request, to check its conditional headers
+     * @return a ResponseEntity containing the TeamDTO with the specified ID, or null if not modified
      */
     @GetMapping("/{id}")
-    ResponseEntity<TeamDTO> getTeamById(@PathVariable Long id) {
-        TeamDTO teamDTO = service.findById(id);
+    ResponseEntity<TeamDTO> getTeamById(@PathVariable Long id, WebRequest request) {
+        ResourceVersion version = service.findVersion(id);
+        if (request.checkNotModified(version.eTag(request), version.lastModifiedMillis())) {
+            return null;
+        }
+        TeamDTO teamDTO = service.findById(id, version);
         return new ResponseEntity<>(teamDTO, HttpStatus.OK);
     }
 
+    /**
+     * Retrieves the requested fields of a team, e.g. {@code fields=name,budget}; its roster is not read.
+     * <p>
+     * Conditional requests work as for the full team.
+     * </p>
+     *
+     * @param id      the ID of the team to retrieve
+     * @param fields  the comma separated fields to return
+     * @param request the request, to check its conditional headers
+     * @return a ResponseEntity containing the requested fields of the team, or null if not modified
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    ResponseEntity<Map<String, Object>> getTeamFieldsById(
+            @PathVariable Long id, @RequestParam String fields, WebRequest request) {
+        return teamFields(id, FieldSelection.of(fields, TeamService.FIELDS), request);
+    }
+
+    /**
+     * Retrieves a team without its players ({@code view=summary}).
+     *
+     * @param id      the ID of the team to retrieve
+     * @param request the request, to check its conditional headers
+     * @return a ResponseEntity containing the team without its players, or null if not modified
+     */
+    @GetMapping(value = "/{id}", params = {"view=summary", "!fields"})
+    ResponseEntity<Map<String, Object>> getTeamSummaryById(@PathVariable Long id, WebRequest request) {
+        return teamFields(id, FieldSelection.all(TeamService.FIELDS), request);
+    }
+
+    private ResponseEntity<Map<String, Object>> teamFields(Long id, FieldSelection fields, WebRequest request) {
+        ResourceVersion version = service.findVersion(id);
+        if (request.checkNotModified(version.eTag(request), version.lastModifiedMillis())) {
+            return null;
+        }
+        return new ResponseEntity<>(service.findById(id, fields), HttpStatus.OK);
+    }
+
     /**
      * Updates an existing team.
+     * <p>
+     * With an {@code If-Match} header holding the ETag of the team, the update only applies if neither
+     * the team nor its roster has been modified since; otherwise the response is 412 Precondition Failed.
+     * </p>
      *
      * @param newTeamDTO the updated team details
      * @param id         the ID of the team to update
+     * @param ifMatch    the ETag of the team the client read, if the update must not overwrite a newer version
      * @return a ResponseEntity containing the updated TeamDTO
      */
     @PutMapping("/{id}")
-    ResponseEntity<?> getTeamById(@Valid @RequestBody TeamDTO newTeamDTO, @PathVariable Long id) {
-        TeamDTO teamDTO = service.update(newTeamDTO, id);
+    ResponseEntity<?> getTeamById(
+            @Valid @RequestBody TeamDTO newTeamDTO, @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TeamDTO teamDTO = service.update(newTeamDTO, id, ifMatch);
+        return new ResponseEntity<>(teamDTO, HttpStatus.OK);
+    }
+
+    /**
+     * Partially updates a team with a JSON Merge Patch, for instance {@code {"budget":2500}}.
+     * <p>
+     * Only the members present in the patch are changed, and only the changed columns are written. The roster is left untouched unless the patch
+     * holds a {@code players} array.
+     * The {@code If-Match} header works as for a full update.
+     * </p>
+     *
+     * @param patch   the merge patch, a JSON object
+     * @param id      the ID of the team to patch
+     * @param ifMatch the ETag of the team the client read, if the patch must not apply to a newer version
+     * @return a ResponseEntity containing the patched TeamDTO
+     */
+    @PatchMapping(value = "/{id}", consumes = {MergePatch.MEDIA_TYPE_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    ResponseEntity<TeamDTO> patchTeam(
+            @RequestBody JsonNode patch, @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TeamDTO teamDTO = service.patch(id, patch, ifMatch);
         return new ResponseEntity<>(teamDTO, HttpStatus.OK);
     }
 
     /**
      * Deletes a team by its ID.
+     * <p>
+     * With an {@code If-Match} header holding the ETag of the team, the team is only deleted if neither
+     * the team nor its roster has been modified since; otherwise the response is 412 Precondition Failed.
+     * </p>
      *
-     * @param id the ID of the team to delete
+     * @param id      the ID of the team to delete
+     * @param ifMatch the ETag of the team the client read, if a newer version must not be deleted
      * @return a ResponseEntity with no content status
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteTeam(@PathVariable Long id) {
-        return service.delete(id);
+    public ResponseEntity<?> deleteTeam(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return service.delete(id, ifMatch);
     }
 }
@@ -0,0 +1,21 @@
+package com.foot.team_service.dto;
+
+import java.util.List;
+
+/**
+ * A page of a keyset (cursor based) pagination.
+ * <p>
+ * {@code nextCursor} is an opaque token to send back as the {@code cursor} parameter
+ * to get the next page; it is null on the last page.
+ * </p>
+ */
+public record CursorPageDTO<T>(
+        List<T> content,
+
+        int size,
+
+        boolean hasNext,
+
+        String nextCursor
+) {
+}
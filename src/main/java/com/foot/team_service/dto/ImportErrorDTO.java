@@ -0,0 +1,11 @@
+package com.foot.team_service.dto;
+
+/**
+ * A record rejected by a bulk import.
+ */
+public record ImportErrorDTO(
+        long line, // numéro de ligne dans le fichier importé (en-tête CSV compris)
+
+        String message
+) {
+}
@@ -0,0 +1,21 @@
+package com.foot.team_service.dto;
+
+import java.util.List;
+
+/**
+ * Result of a bulk import.
+ * <p>
+ * {@code errors} lists the rejected records with their line number; only the first ones
+ * are listed, {@code rejected} gives their total number.
+ * </p>
+ */
+public record ImportReportDTO(
+        long records,
+
+        long imported,
+
+        long rejected,
+
+        List<ImportErrorDTO> errors
+) {
+}
@@ -0,0 +1,46 @@
+package com.foot.team_service.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * A page of an offset pagination, as returned by the list endpoints.
+ * <p>
+ * {@code page} is the index of the page, starting at 0. {@code totalElements} and {@code totalPages}
+ * are only present when the total was computed (count mode {@code EXACT} or {@code CACHED});
+ * {@code hasNext} is always present.
+ * </p>
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PageDTO<T>(
+        List<T> content,
+
+        int page,
+
+        int size,
+
+        boolean hasNext,
+
+        Long totalElements,
+
+        Integer totalPages
+) {
+
+    /**
+     * Builds the envelope of a page or of a slice.
+     *
+     * @param slice the page, or a slice when the total is unknown
+     * @param <T>   the type of the elements
+     * @return the envelope, holding the same content
+     */
+    public static <T> PageDTO<T> of(Slice<T> slice) {
+        if (slice instanceof Page<T> page) {
+            return new PageDTO<>(page.getContent(), page.getNumber(), page.getSize(), page.hasNext(),
+                    page.getTotalElements(), page.getTotalPages());
+        }
+        return new PageDTO<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext(), null, null);
+    }
+}
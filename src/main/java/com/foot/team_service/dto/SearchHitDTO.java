@@ -0,0 +1,34 @@
+package com.foot.team_service.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * A player or a team matching a search, as returned by the autocomplete endpoint.
+ * <p>
+ * {@code acronym} is only present for a team, {@code teamId} only for a player of a team.
+ * </p>
+ *
+ * @param type    whether the hit is a player or a team
+ * @param id      the ID of the player or of the team
+ * @param name    the name of the player or of the team
+ * @param acronym the acronym of the team
+ * @param teamId  the ID of the team of the player
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record SearchHitDTO(
+        Type type,
+
+        Long id,
+
+        String name,
+
+        String acronym,
+
+        Long teamId
+) {
+
+    public enum Type {
+        PLAYER,
+        TEAM
+    }
+}
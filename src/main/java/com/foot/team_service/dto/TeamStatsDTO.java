@@ -0,0 +1,37 @@
+package com.foot.team_service.dto;
+
+import java.util.Map;
+
+/**
+ * Statistics of the roster of a team, as returned by the stats endpoints.
+ * <p>
+ * {@code averageMatchPlayed} and {@code budgetPerPlayer} are null when the team has no player.
+ * </p>
+ *
+ * @param teamId             the ID of the team
+ * @param name               the name of the team
+ * @param budget             the budget of the team, in cents
+ * @param playerCount        the number of players of the team
+ * @param totalMatchPlayed   the sum of the matches played by the players
+ * @param averageMatchPlayed the average number of matches played by a player
+ * @param positions          the number of players per position, sorted by position
+ * @param budgetPerPlayer    the budget divided by the number of players, in cents
+ */
+public record TeamStatsDTO(
+        Long teamId,
+
+        String name,
+
+        Integer budget,
+
+        int playerCount,
+
+        long totalMatchPlayed,
+
+        Double averageMatchPlayed,
+
+        Map<String, Integer> positions,
+
+        Long budgetPerPlayer
+) {
+}
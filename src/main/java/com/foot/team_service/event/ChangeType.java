@@ -0,0 +1,10 @@
+package com.foot.team_service.event;
+
+/**
+ * Kind of change made to an entity.
+ */
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,24 @@
+package com.foot.team_service.event;
+
+import com.foot.team_service.dto.PlayerDTO;
+
+/**
+ * Event published by the services each time a player is created, updated or deleted.
+ * <p>
+ * Listeners maintaining derived state (counters, caches...) should use
+ * {@code @TransactionalEventListener} so that they only see committed changes.
+ * </p>
+ *
+ * @param type           the kind of change
+ * @param playerId       the ID of the player
+ * @param previousTeamId the ID of the team of the player before the change, null when it had none
+ *                       or has just been created
+ * @param player         the state of the player after the change, null when it has been deleted
+ */
+public record PlayerChangedEvent(
+        ChangeType type,
+        Long playerId,
+        Long previousTeamId,
+        PlayerDTO player
+) {
+}
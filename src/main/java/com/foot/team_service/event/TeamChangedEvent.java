@@ -0,0 +1,20 @@
+package com.foot.team_service.event;
+
+import com.foot.team_service.dto.TeamDTO;
+
+/**
+ * Event published by the services each time a team is created, updated or deleted.
+ * <p>
+ * Changes made to the roster of the team are published separately as {@link PlayerChangedEvent}s.
+ * </p>
+ *
+ * @param type   the kind of change
+ * @param teamId the ID of the team
+ * @param team   the state of the team after the change, null when it has been deleted
+ */
+public record TeamChangedEvent(
+        ChangeType type,
+        Long teamId,
+        TeamDTO team
+) {
+}
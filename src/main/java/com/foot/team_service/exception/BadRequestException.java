@@ -0,0 +1,9 @@
+package com.foot.team_service.exception;
+
+public class BadRequestException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
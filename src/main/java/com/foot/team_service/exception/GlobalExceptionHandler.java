@@ -1,5 +1,6 @@
 package com.foot.team_service.exception;
 
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -7,7 +8,10 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -21,6 +25,29 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorDetails, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<?> badRequestException(BadRequestException ex, WebRequest request) {
+        ErrorDetails errorDetails = new ErrorDetails(new Date(), ex.getMessage(), request.getDescription(false));
+        return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<?> preconditionFailedException(PreconditionFailedException ex, WebRequest request) {
+        ErrorDetails errorDetails = new ErrorDetails(new Date(), ex.getMessage(), request.getDescription(false));
+        return new ResponseEntity<>(errorDetails, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    /**
+     * A write lost a race with another one (a player of a roster changed meanwhile, a lock timeout...)
+     * and, with the optional retries, still failed: the client can read the resource again and retry.
+     */
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<?> concurrencyFailureException(ConcurrencyFailureException ex, WebRequest request) {
+        ErrorDetails errorDetails = new ErrorDetails(new Date(),
+                "Concurrent modification, please retry", request.getDescription(false));
+        return new ResponseEntity<>(errorDetails, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<?> handleValidationException(MethodArgumentNotValidException ex, WebRequest request) {
         Map<String, String> errors = new HashMap<>();
@@ -34,6 +61,36 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<?> handleMethodValidationException(HandlerMethodValidationException ex, WebRequest request) {
+        Map<String, String> errors = new HashMap<>();
+        ex.getAllValidationResults().forEach((result) -> result.getResolvableErrors().forEach((error) -> {
+            String prefix = result.getContainerIndex() == null ? "" : "[" + result.getContainerIndex() + "].";
+            String fieldName = error instanceof FieldError fieldError
+                    ? prefix + fieldError.getField()
+                    : result.getMethodParameter().getParameterName();
+            errors.put(fieldName, error.getDefaultMessage());
+        }));
+
+        ErrorDetails errorDetails = new ErrorDetails(new Date(), "Validation Failed", errors.toString());
+        return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * A request parameter or path variable that cannot be converted to its type, e.g. {@code ?count=foo}:
+     * the message names the parameter, and the accepted values for an enum.
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<?> handleTypeMismatchException(MethodArgumentTypeMismatchException ex, WebRequest request) {
+        String message = "Invalid value for " + ex.getName() + " :: " + ex.getValue();
+        Class<?> type = ex.getRequiredType();
+        if (type != null && type.isEnum()) {
+            message += ", expected one of " + Arrays.toString(type.getEnumConstants());
+        }
+        ErrorDetails errorDetails = new ErrorDetails(new Date(), message, request.getDescription(false));
+        return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> globalExceptionHandler(Exception ex, WebRequest request) {
         ErrorDetails errorDetails = new ErrorDetails(new Date(), ex.getMessage(), request.getDescription(false));
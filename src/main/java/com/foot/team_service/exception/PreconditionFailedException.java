@@ -0,0 +1,9 @@
+package com.foot.team_service.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
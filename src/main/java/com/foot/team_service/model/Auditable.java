@@ -2,6 +2,7 @@ package com.foot.team_service.model;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -45,4 +46,16 @@ public abstract class Auditable {
      */
     @UpdateTimestamp
     private LocalDateTime updatedAt;
+
+    /**
+     * Version of the row, incremented by every update.
+     * <p>
+     * This field is annotated with {@code @Version}: Hibernate checks it when it writes a managed entity,
+     * and the conditional updates and deletes of the repositories compare it with the version
+     * sent in the {@code If-Match} header. It is a primitive so that Spring Data still tells new
+     * entities apart by their ID.
+     * </p>
+     */
+    @Version
+    private long version;
 }
\ No newline at end of file
@@ -6,6 +6,9 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * Entity class representing a Player.
@@ -16,17 +19,30 @@ import lombok.*;
  * <p>
  * It includes validation annotations to ensure the integrity of the data.
  * </p>
+ * <p>
+ * With {@code @DynamicUpdate}, Hibernate writes only the modified columns (and the audit columns):
+ * a change of {@code matchPlayed} only sets {@code match_played}.
+ * </p>
+ * <p>
+ * The table and its indexes are created by the Flyway migrations ({@code db/migration}): each sortable
+ * property leads an index ending with {@code id} (the tie-breaker of the sorts), and the {@code position}
+ * and {@code team} filters lead an index followed by {@code name}, the default sort.
+ * </p>
  *
  * @author Kevin
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "player")
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Player extends Auditable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "player_seq")
+    @SequenceGenerator(name = "player_seq", sequenceName = "player_seq", allocationSize = 50) // ids réservés par blocs de 50 : permet le batch JDBC des INSERT
     private Long id;
 
     @Size(max = 25, message = "25 characters maximum for name")
@@ -43,23 +59,9 @@ public class Player extends Auditable {
     @NotNull(message = "position is required")
     @NotEmpty(message = "position can not be empty")
     private String position; // dans la vraie vie on pourrait mettre une enum, mais ici ca passe
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY) // seul team.id est lu pour les DTO : évite un SELECT team par joueur
     @JoinColumn(name = "team_id")
+    @ToString.Exclude // les écritures n'attachent qu'une référence (proxy) : les logs ne doivent pas la charger
     private Team team;
 
-    /**
-     * Gets the team associated with the player.
-     * <p>
-     * If the team is not null, it sets the players of the team to null to avoid circular references.
-     * </p>
-     *
-     * @return the team associated with the player
-     */
-    public Team getTeam() {
-        if (team != null) {
-            team.setPlayers(null);
-        }
-        return team;
-    }
-
 }
@@ -6,7 +6,12 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -21,16 +26,24 @@ import java.util.List;
  * <p>
  * It includes validation annotations to ensure the integrity of the data.
  * </p>
+ * <p>
+ * With {@code @DynamicUpdate}, Hibernate writes only the modified columns (and the audit columns):
+ * a change of {@code budget} only sets {@code budget}.
+ * </p>
  *
  * @author Kevin
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "team")
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Team extends Auditable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "team_seq")
+    @SequenceGenerator(name = "team_seq", sequenceName = "team_seq", allocationSize = 50)
     private Long id;
 
     @Size(max = 25, message = "25 characters maximum for name")
@@ -43,6 +56,9 @@ public class Team extends Auditable {
     @NotEmpty(message = "acronym can not be empty")
     private String acronym;
     @OneToMany(mappedBy = "team", fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "team-players") // ids des joueurs, invalidé via auto_evict_collection_cache
+    @ToString.Exclude // Player.team pointe vers l'équipe : évite la récursion infinie (et le chargement du roster)
+    @EqualsAndHashCode.Exclude
     private List<Player> players;
 
     @NotNull(message = "budget is required")
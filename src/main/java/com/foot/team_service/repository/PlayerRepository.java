@@ -1,28 +1,107 @@
 package com.foot.team_service.repository;
 
 import com.foot.team_service.model.Player;
+import com.foot.team_service.utils.http.ResourceVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for managing {@link Player} entities.
  * <p>
  * This interface extends {@link JpaRepository} and {@link PagingAndSortingRepository}
- * to provide CRUD operations and pagination/sorting capabilities.
+ * to provide CRUD operations and pagination/sorting capabilities, and {@link JpaSpecificationExecutor}
+ * to list the players matching the filters of a {@code PlayerFilter}.
  * </p>
  * <p>
- * It also declares a custom method to find players by their team ID.
+ * It also declares a custom method to find players by their team ID,
+ * and keyset (seek) pagination methods.
  * </p>
  * @autor Kevin
  */
-public interface PlayerRepository extends JpaRepository<Player, Long>, PagingAndSortingRepository<Player, Long> {
+public interface PlayerRepository extends JpaRepository<Player, Long>, PagingAndSortingRepository<Player, Long>,
+        JpaSpecificationExecutor<Player> {
     /**
      * Finds a list of players by the team ID.
      *
      * @param teamId the ID of the team
      * @return a list of players associated with the given team ID
      */
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "player-by-team")
+    })
     List<Player> findByTeamId(Long teamId);
+
+    /**
+     * Reads a window of players sorted by name, then by ID, starting after the given keyset position.
+     *
+     * @param position the keyset position of the last player of the previous window
+     * @param limit    the maximum number of players to read
+     * @return the window of players
+     */
+    Window<Player> findAllByOrderByNameAscIdAsc(ScrollPosition position, Limit limit);
+
+    /**
+     * Reads a slice of players without counting them.
+     *
+     * @param pageable the pagination and sorting information
+     * @return the slice of players
+     */
+    Slice<Player> findAllBy(Pageable pageable);
+
+    /**
+     * Reads a window of the players of a team sorted by ID, starting after the given keyset position.
+     *
+     * @param teamId   the ID of the team
+     * @param position the keyset position of the last player of the previous window
+     * @param limit    the maximum number of players to read
+     * @return the window of players
+     */
+    Window<Player> findByTeamIdOrderByIdAsc(Long teamId, ScrollPosition position, Limit limit);
+
+    /**
+     * Reads the version of a player, without loading it.
+     *
+     * @param id the ID of the player
+     * @return the version of the player, or empty if the player does not exist
+     */
+    @Query("select new com.foot.team_service.utils.http.ResourceVersion(p.version, p.updatedAt, 1L) from Player p where p.id = :id")
+    Optional<ResourceVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * Reads the version of the roster of a team, without loading the players.
+     *
+     * @param teamId the ID of the team
+     * @return the version of the roster
+     */
+    @Query("select new com.foot.team_service.utils.http.ResourceVersion(max(p.updatedAt), count(p))"
+            + " from Player p where p.team.id = :teamId")
+    ResourceVersion findVersionByTeamId(@Param("teamId") Long teamId);
+
+    /**
+     * Reads a player from the database, bypassing the second-level cache.
+     * <p>
+     * Used to check what was actually written, whatever the cache holds.
+     * </p>
+     *
+     * @param id the ID of the player
+     * @return the player, or empty if the player does not exist
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"))
+    @Query("select p from Player p where p.id = :id")
+    Optional<Player> findCurrentById(@Param("id") Long id);
 }
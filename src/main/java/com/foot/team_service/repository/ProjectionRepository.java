@@ -0,0 +1,149 @@
+package com.foot.team_service.repository;
+
+import com.foot.team_service.utils.projection.FieldSelection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Repository reading only some columns of an entity, for the sparse fieldsets ({@code fields=id,name}).
+ * <p>
+ * The requested attributes are selected with a tuple criteria query: the other columns are not read,
+ * no entity is instantiated (nor put in the persistence context or the second level cache), and no
+ * association is initialized. Each row is returned as a map of the requested fields, in request order.
+ * </p>
+ */
+@Repository
+public class ProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Reads the selected fields of all the entities matching a specification.
+     *
+     * @param type          the entity class
+     * @param fields        the fields to read
+     * @param specification the filter, null for all the entities
+     * @param sort          the order of the rows
+     * @param <T>           the type of the entity
+     * @return the rows, one map of field values per entity
+     */
+    public <T> List<Map<String, Object>> findAll(Class<T> type, FieldSelection fields, Specification<T> specification,
+                                                 Sort sort) {
+        return find(type, fields, specification, sort, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Reads a page of the selected fields of the entities matching a specification, with the total
+     * number of entities. The count query is skipped when the page tells it (last page, for instance).
+     *
+     * @param type          the entity class
+     * @param fields        the fields to read
+     * @param specification the filter, null for all the entities
+     * @param pageable      the page to read and its order
+     * @param <T>           the type of the entity
+     * @return the page of rows
+     */
+    public <T> Page<Map<String, Object>> findPage(Class<T> type, FieldSelection fields, Specification<T> specification,
+                                                  Pageable pageable) {
+        List<Map<String, Object>> rows = find(type, fields, specification, pageable.getSort(),
+                pageable.getOffset(), pageable.getPageSize());
+        return PageableExecutionUtils.getPage(rows, pageable, () -> count(type, specification));
+    }
+
+    /**
+     * Reads a slice of the selected fields of the entities matching a specification: one more row than
+     * the size of the page is read to know whether there is a next page, and nothing is counted.
+     *
+     * @param type          the entity class
+     * @param fields        the fields to read
+     * @param specification the filter, null for all the entities
+     * @param pageable      the page to read and its order
+     * @param <T>           the type of the entity
+     * @return the slice of rows
+     */
+    public <T> Slice<Map<String, Object>> findSlice(Class<T> type, FieldSelection fields, Specification<T> specification,
+                                                    Pageable pageable) {
+        List<Map<String, Object>> rows = find(type, fields, specification, pageable.getSort(),
+                pageable.getOffset(), pageable.getPageSize() + 1);
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    /**
+     * Counts the entities matching a specification.
+     *
+     * @param type          the entity class
+     * @param specification the filter, null for all the entities
+     * @param <T>           the type of the entity
+     * @return the number of entities
+     */
+    public <T> long count(Class<T> type, Specification<T> specification) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<T> root = query.from(type);
+        query.select(builder.count(root));
+        if (specification != null) {
+            query.where(specification.toPredicate(root, query, builder));
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private <T> List<Map<String, Object>> find(Class<T> type, FieldSelection fields, Specification<T> specification,
+                                               Sort sort, long offset, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<T> root = query.from(type);
+        List<Selection<?>> selections = new ArrayList<>(fields.paths().size());
+        fields.paths().values().forEach(path -> selections.add(path(root, path)));
+        query.multiselect(selections);
+        if (specification != null) {
+            query.where(specification.toPredicate(root, query, builder));
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, builder));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit);
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : typedQuery.getResultList()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            int i = 0;
+            for (String name : fields.paths().keySet()) {
+                row.put(name, tuple.get(i++));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    // "team.id" : l'id d'une association est lu dans la clé étrangère, sans jointure
+    private static Path<?> path(Root<?> root, String attributePath) {
+        Path<?> path = root;
+        for (String attribute : attributePath.split("\\.")) {
+            path = path.get(attribute);
+        }
+        return path;
+    }
+}
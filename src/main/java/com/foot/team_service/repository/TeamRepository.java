@@ -1,8 +1,22 @@
 package com.foot.team_service.repository;
 
 import com.foot.team_service.model.Team;
+import com.foot.team_service.utils.http.ResourceVersion;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository interface for managing {@link Team} entities.
@@ -10,8 +24,60 @@ import org.springframework.data.repository.PagingAndSortingRepository;
  * This interface extends {@link JpaRepository} and {@link PagingAndSortingRepository}
  * to provide CRUD operations and pagination/sorting capabilities.
  * </p>
+ * <p>
+ * It also declares a method to load the rosters of several teams in a single query,
+ * and a keyset (seek) pagination method.
+ * </p>
  *
  * @author Kevin
  */
 public interface TeamRepository extends JpaRepository<Team, Long>, PagingAndSortingRepository<Team, Long> {
-}
\ No newline at end of file
+    /**
+     * Finds teams by their IDs, fetching their players in the same query.
+     * <p>
+     * Used after a paginated query: the teams of the page are already in the persistence context,
+     * so this only initializes their {@code players} collections, with one query for the whole page.
+     * </p>
+     *
+     * @param ids the IDs of the teams
+     * @return the teams with their players
+     */
+    @EntityGraph(attributePaths = "players")
+    List<Team> findWithPlayersByIdIn(Collection<Long> ids);
+
+    /**
+     * Reads a window of teams sorted by name, then by ID, starting after the given keyset position.
+     *
+     * @param position the keyset position of the last team of the previous window
+     * @param limit    the maximum number of teams to read
+     * @return the window of teams
+     */
+    Window<Team> findAllByOrderByNameAscIdAsc(ScrollPosition position, Limit limit);
+
+    /**
+     * Reads a slice of teams without counting them.
+     *
+     * @param pageable the pagination and sorting information
+     * @return the slice of teams
+     */
+    Slice<Team> findAllBy(Pageable pageable);
+
+    /**
+     * Reads the version of a team and its roster, without loading them.
+     *
+     * @param id the ID of the team
+     * @return the version of the team, or empty if the team does not exist
+     */
+    @Query("select new com.foot.team_service.utils.http.ResourceVersion(t.version, t.updatedAt, max(p.updatedAt), count(p))"
+            + " from Team t left join t.players p where t.id = :id group by t.id, t.version, t.updatedAt")
+    Optional<ResourceVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * Reads which of the given IDs belong to an existing team, without loading the teams.
+     *
+     * @param ids the IDs to check
+     * @return the IDs of the existing teams
+     */
+    @Query("select t.id from Team t where t.id in :ids")
+    Set<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,52 @@
+package com.foot.team_service.service;
+
+import com.foot.team_service.config.CacheConfig;
+import com.foot.team_service.event.PlayerChangedEvent;
+import com.foot.team_service.event.TeamChangedEvent;
+import com.foot.team_service.utils.cache.VersionedValue;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Evicts the cached team and player DTOs when the underlying entities change.
+ * <p>
+ * Entries are evicted once the change is committed. A read that started before the commit can still
+ * put the old state back afterwards: such an entry has an older version, and is never served (see
+ * {@link VersionedValue}). A team entry embeds the roster of the team: it is evicted whenever
+ * one of its players is created, updated or deleted, as well as the former team of a player
+ * who changes team, whose ID is carried by the event.
+ * </p>
+ * <p>
+ * Deleting a team publishes an update of each of its players, which evicts them.
+ * </p>
+ */
+@Component
+public class EntityCacheInvalidator {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        cache(CacheConfig.TEAMS).evict(event.teamId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        cache(CacheConfig.PLAYERS).evict(event.playerId());
+        Cache teams = cache(CacheConfig.TEAMS);
+        if (event.previousTeamId() != null) {
+            teams.evict(event.previousTeamId());
+        }
+        if (event.player() != null && event.player().teamId() != null) {
+            teams.evict(event.player().teamId());
+        }
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+}
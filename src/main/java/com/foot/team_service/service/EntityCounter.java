@@ -0,0 +1,127 @@
+package com.foot.team_service.service;
+
+import com.foot.team_service.event.ChangeType;
+import com.foot.team_service.event.PlayerChangedEvent;
+import com.foot.team_service.event.TeamChangedEvent;
+import com.foot.team_service.repository.PlayerRepository;
+import com.foot.team_service.repository.TeamRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps the number of teams and players in memory, to serve the {@code totalElements}
+ * of paginated lists without running a {@code SELECT COUNT(*)} on every page.
+ * <p>
+ * Each counter is initialized with a count query on first use, then incremented and decremented
+ * from the committed create and delete events. It is recounted once its time to live has expired,
+ * which bounds the drift caused by writes the application does not see (another instance, a script...).
+ * </p>
+ * <p>
+ * A recount does not block the readers, which get the last value meanwhile. The events received
+ * during a recount wait for it, then apply to the recounted value.
+ * </p>
+ */
+@Component
+public class EntityCounter {
+
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Value("${foot.pagination.cached-count-ttl:5m}")
+    private Duration timeToLive = Duration.ofMinutes(5);
+
+    private final Counter teams = new Counter();
+    private final Counter players = new Counter();
+
+    /**
+     * Returns the number of teams.
+     *
+     * @return the number of teams
+     */
+    public long countTeams() {
+        return teams.get(teamRepository::count);
+    }
+
+    /**
+     * Returns the number of players.
+     *
+     * @return the number of players
+     */
+    public long countPlayers() {
+        return players.get(playerRepository::count);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        teams.apply(event.type());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        players.apply(event.type());
+    }
+
+    /**
+     * A count, only written under the lock so that an event is neither overwritten by a recount in progress
+     * nor lost.
+     */
+    private final class Counter {
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile long value;
+        private volatile boolean counted;
+        private volatile long countedAt;
+
+        long get(LongSupplier count) {
+            boolean wasCounted = counted;
+            if (wasCounted && !isStale()) {
+                return value;
+            }
+            // un recomptage en cours ne bloque pas les lecteurs : ils gardent la dernière valeur
+            if (wasCounted) {
+                if (!lock.tryLock()) {
+                    return value;
+                }
+            } else {
+                lock.lock();
+            }
+            try {
+                if (!counted || isStale()) {
+                    value = count.getAsLong();
+                    countedAt = System.nanoTime();
+                    counted = true;
+                }
+                return value;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void apply(ChangeType type) {
+            long delta = type == ChangeType.CREATED ? 1 : type == ChangeType.DELETED ? -1 : 0;
+            if (delta == 0) {
+                return;
+            }
+            lock.lock();
+            try {
+                // avant le premier comptage, la requête COUNT verra la ligne
+                if (counted) {
+                    value += delta;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean isStale() {
+            return !counted || System.nanoTime() - countedAt > timeToLive.toNanos();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.foot.team_service.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foot.team_service.exception.BadRequestException;
+import com.foot.team_service.model.Player;
+import com.foot.team_service.model.Team;
+import com.foot.team_service.repository.TeamRepository;
+import com.foot.team_service.utils.mapper.PlayerMapper;
+import com.foot.team_service.utils.mapper.TeamMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Export service implementation.
+ * <p>
+ * Rows are read with a forward-only Hibernate scroll in a read-only transaction, written to the
+ * response as soon as they are mapped, and detached from the session after each fetch,
+ * so that neither the persistence context nor the response buffer grows with the dataset.
+ * </p>
+ */
+@Service
+public class ExportService implements IExportService {
+    private static final Logger LOGGER
+            = LoggerFactory.getLogger(ExportService.class);
+
+    /**
+     * Maximum number of rows read per database round trip.
+     */
+    public static final int MAX_FETCH_SIZE = 10_000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${foot.export.fetch-size:500}")
+    private int defaultFetchSize = 500;
+
+    /**
+     * Exports every player, sorted by ID.
+     *
+     * @param fetchSize the number of rows read per database round trip, null for the default
+     * @return the body writing one PlayerDTO per line
+     * @throws BadRequestException if the fetch size is not between 1 and {@value #MAX_FETCH_SIZE}
+     */
+    public StreamingResponseBody exportPlayers(Integer fetchSize) {
+        int size = fetchSize(fetchSize);
+        return output -> inReadOnlyTransaction(() -> writePlayers(output, size));
+    }
+
+    /**
+     * Exports every team with its players, sorted by ID.
+     * <p>
+     * The team IDs are scrolled, and the teams are loaded with their rosters by chunks of
+     * {@code fetchSize} teams, with one query per chunk.
+     * </p>
+     *
+     * @param fetchSize the number of rows read per database round trip, null for the default
+     * @return the body writing one TeamDTO per line
+     * @throws BadRequestException if the fetch size is not between 1 and {@value #MAX_FETCH_SIZE}
+     */
+    public StreamingResponseBody exportTeams(Integer fetchSize) {
+        int size = fetchSize(fetchSize);
+        return output -> inReadOnlyTransaction(() -> writeTeams(output, size));
+    }
+
+    private void writePlayers(OutputStream output, int fetchSize) throws IOException {
+        Session session = session();
+        long count = 0;
+        try (JsonGenerator generator = generator(output);
+             ScrollableResults<Player> players = session
+                     .createSelectionQuery("from Player p order by p.id", Player.class)
+                     .setFetchSize(fetchSize)
+                     .setReadOnly(true)
+                     .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (players.next()) {
+                writeLine(generator, PlayerMapper.INSTANCE.playerToPlayerDTO(players.get()));
+                if (++count % fetchSize == 0) {
+                    generator.flush();
+                    session.clear();
+                }
+            }
+        }
+        LOGGER.info("{} players exported", count);
+    }
+
+    private void writeTeams(OutputStream output, int fetchSize) throws IOException {
+        Session session = session();
+        long count = 0;
+        List<Long> teamIds = new ArrayList<>(fetchSize);
+        try (JsonGenerator generator = generator(output);
+             ScrollableResults<Long> ids = session
+                     .createSelectionQuery("select t.id from Team t order by t.id", Long.class)
+                     .setFetchSize(fetchSize)
+                     .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (ids.next()) {
+                teamIds.add(ids.get());
+                if (teamIds.size() == fetchSize) {
+                    count += writeTeams(generator, session, teamIds);
+                }
+            }
+            count += writeTeams(generator, session, teamIds);
+        }
+        LOGGER.info("{} teams exported", count);
+    }
+
+    /**
+     * Loads a chunk of teams with their players, writes them and empties the chunk.
+     *
+     * @return the number of teams written
+     */
+    private int writeTeams(JsonGenerator generator, Session session, List<Long> teamIds) throws IOException {
+        if (teamIds.isEmpty()) {
+            return 0;
+        }
+        List<Team> teams = new ArrayList<>(teamRepository.findWithPlayersByIdIn(teamIds));
+        teams.sort(Comparator.comparing(Team::getId));
+        for (Team team : teams) {
+            writeLine(generator, TeamMapper.INSTANCE.teamToTeamDTO(team));
+        }
+        generator.flush();
+        session.clear();
+        teamIds.clear();
+        return teams.size();
+    }
+
+    private void writeLine(JsonGenerator generator, Object value) throws IOException {
+        generator.writeObject(value);
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * Creates a JSON generator that does not close the response stream when it is closed,
+     * and writes nothing between two root values.
+     */
+    private JsonGenerator generator(OutputStream output) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(new BufferedOutputStream(output))
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null); // les lignes sont séparées par writeLine
+        return generator;
+    }
+
+    private Session session() {
+        Session session = entityManager.unwrap(Session.class);
+        // une lecture complète ne doit pas remplir (ni vider) le cache de second niveau
+        session.setCacheMode(CacheMode.IGNORE);
+        return session;
+    }
+
+    /**
+     * Runs the export in a read-only transaction: the body is written after the controller
+     * has returned, on another thread, so it cannot rely on the transaction of the request.
+     */
+    private void inReadOnlyTransaction(Export export) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.executeWithoutResult(status -> {
+            try {
+                export.write();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private int fetchSize(Integer fetchSize) {
+        if (fetchSize == null) {
+            return defaultFetchSize;
+        }
+        if (fetchSize < 1 || fetchSize > MAX_FETCH_SIZE) {
+            throw new BadRequestException("fetchSize must be between 1 and " + MAX_FETCH_SIZE);
+        }
+        return fetchSize;
+    }
+
+    @FunctionalInterface
+    private interface Export {
+        void write() throws IOException;
+    }
+}
@@ -0,0 +1,30 @@
+package com.foot.team_service.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Interface for the export of the whole dataset.
+ * <p>
+ * The exports are written as NDJSON (one JSON document per line) directly into the response,
+ * while the rows are read from the database, so that the memory used does not depend on the
+ * number of rows.
+ * </p>
+ */
+public interface IExportService {
+
+    /**
+     * Exports every player, sorted by ID.
+     *
+     * @param fetchSize the number of rows read per database round trip, null for the default
+     * @return the body writing one PlayerDTO per line
+     */
+    StreamingResponseBody exportPlayers(Integer fetchSize);
+
+    /**
+     * Exports every team with its players, sorted by ID.
+     *
+     * @param fetchSize the number of rows read per database round trip, null for the default
+     * @return the body writing one TeamDTO per line
+     */
+    StreamingResponseBody exportTeams(Integer fetchSize);
+}
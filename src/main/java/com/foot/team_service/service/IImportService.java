@@ -0,0 +1,39 @@
+package com.foot.team_service.service;
+
+import com.foot.team_service.dto.ImportReportDTO;
+import com.foot.team_service.utils.importing.ImportFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Interface for the bulk import of teams and players.
+ * <p>
+ * Imports read their input one record at a time, validate each record, and commit the valid
+ * ones in chunks: an invalid record is reported and skipped, it does not reject the whole file.
+ * </p>
+ */
+public interface IImportService {
+
+    /**
+     * Imports players.
+     *
+     * @param input     the file to import
+     * @param format    the format of the file
+     * @param chunkSize the number of records per transaction, null for the default
+     * @return the import report
+     * @throws IOException if the file cannot be read
+     */
+    ImportReportDTO importPlayers(InputStream input, ImportFormat format, Integer chunkSize) throws IOException;
+
+    /**
+     * Imports teams, with their players for NDJSON files.
+     *
+     * @param input     the file to import
+     * @param format    the format of the file
+     * @param chunkSize the number of records per transaction, null for the default
+     * @return the import report
+     * @throws IOException if the file cannot be read
+     */
+    ImportReportDTO importTeams(InputStream input, ImportFormat format, Integer chunkSize) throws IOException;
+}
@@ -1,11 +1,20 @@
 package com.foot.team_service.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.foot.team_service.dto.CursorPageDTO;
 import com.foot.team_service.dto.PlayerDTO;
+import com.foot.team_service.dto.SearchHitDTO;
+import com.foot.team_service.utils.http.ResourceVersion;
+import com.foot.team_service.utils.filter.PlayerFilter;
+import com.foot.team_service.utils.pagination.PageCountMode;
+import com.foot.team_service.utils.projection.FieldSelection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Interface for Player service operations.
@@ -24,6 +33,46 @@ public interface IPlayerService {
      */
     Page<PlayerDTO> findAll(Pageable pageable);
 
+    /**
+     * Retrieves a paginated list of players, computing the total according to the given mode.
+     *
+     * @param pageable  the pagination and sorting information
+     * @param countMode how the total number of players is computed
+     * @return a page of players, or a slice when no count is requested
+     */
+    Slice<PlayerDTO> findAll(Pageable pageable, PageCountMode countMode);
+
+    /**
+     * Retrieves a paginated list of the players matching a filter, computing the total according to the given mode.
+     *
+     * @param pageable  the pagination and sorting information, sorted on an indexed property
+     * @param countMode how the total number of players is computed
+     * @param filter    the filters
+     * @return a page of players, or a slice when no count is requested
+     */
+    Slice<PlayerDTO> findAll(Pageable pageable, PageCountMode countMode, PlayerFilter filter);
+
+    /**
+     * Retrieves a paginated list of the players matching a filter, reading only the requested fields.
+     *
+     * @param pageable  the pagination and sorting information, sorted on an indexed property
+     * @param countMode how the total number of players is computed
+     * @param filter    the filters
+     * @param fields    the fields to read
+     * @return a page of players as maps of their requested fields, or a slice when no count is requested
+     */
+    Slice<Map<String, Object>> findAll(Pageable pageable, PageCountMode countMode, PlayerFilter filter,
+                                       FieldSelection fields);
+
+    /**
+     * Retrieves a page of players sorted by name using keyset pagination.
+     *
+     * @param cursor the cursor returned with the previous page, null for the first page
+     * @param size   the maximum number of players to return
+     * @return a cursor page of players
+     */
+    CursorPageDTO<PlayerDTO> scroll(String cursor, int size);
+
     /**
      * Creates a new player.
      *
@@ -32,30 +81,68 @@ public interface IPlayerService {
      */
     PlayerDTO create(PlayerDTO playerDTO);
 
+    /**
+     * Creates several players at once.
+     *
+     * @param playerDTOs the player data transfer objects to create
+     * @return the created player DTOs, in the same order
+     */
+    List<PlayerDTO> createAll(List<PlayerDTO> playerDTOs);
+
     /**
      * Finds a player by its ID.
      *
-     * @param id the ID of the player
+     * @param id      the ID of the player
+     * @param version the current version of the player
      * @return the player with the specified ID
      */
-    PlayerDTO findById(Long id);
+    PlayerDTO findById(Long id, ResourceVersion version);
+
+    /**
+     * Finds a player by its ID, reading only the requested fields.
+     *
+     * @param id     the ID of the player
+     * @param fields the fields to read
+     * @return the requested fields of the player
+     */
+    Map<String, Object> findById(Long id, FieldSelection fields);
+
+    /**
+     * Reads the version of a player, to answer conditional requests.
+     *
+     * @param id the ID of the player
+     * @return the version of the player
+     */
+    ResourceVersion findVersion(Long id);
 
     /**
      * Updates an existing player.
      *
      * @param playerDTO the player DTO containing the updated details
      * @param id        the ID of the player to update
+     * @param version   the version the client read, null to update whatever the version
      * @return the updated player DTO
      */
-    PlayerDTO update(PlayerDTO playerDTO, Long id);
+    PlayerDTO update(PlayerDTO playerDTO, Long id, Long version);
+
+    /**
+     * Applies a JSON Merge Patch to a player, writing only the columns that change.
+     *
+     * @param id the ID of the player to patch
+     * @param patch the merge patch, a JSON object
+     * @param version the version the client read, null to patch whatever the version
+     * @return the patched player DTO
+     */
+    PlayerDTO patch(Long id, JsonNode patch, Long version);
 
     /**
      * Deletes a player by its ID.
      *
      * @param id the ID of the player to delete
+     * @param version the version the client read, null to delete whatever the version
      * @return a response entity with no content status
      */
-    ResponseEntity<?> delete(Long id);
+    ResponseEntity<?> delete(Long id, Long version);
 
     /**
      * Finds players belonging to a specific team.
@@ -65,4 +152,40 @@ public interface IPlayerService {
      */
     List<PlayerDTO> findByTeam(Long teamId);
 
+    /**
+     * Finds the players of a team, reading only the requested fields.
+     *
+     * @param teamId the ID of the team
+     * @param fields the fields to read
+     * @return the requested fields of each player of the team
+     */
+    List<Map<String, Object>> findByTeam(Long teamId, FieldSelection fields);
+
+    /**
+     * Reads the version of the players of a team, to answer conditional requests.
+     *
+     * @param teamId the ID of the team
+     * @return the version of the players of the team
+     */
+    ResourceVersion findVersionByTeam(Long teamId);
+
+    /**
+     * Retrieves a page of the players of a team using keyset pagination.
+     *
+     * @param teamId the ID of the team to find players for
+     * @param cursor the cursor returned with the previous page, null for the first page
+     * @param size   the maximum number of players to return
+     * @return a cursor page of players belonging to the team
+     */
+    CursorPageDTO<PlayerDTO> scrollByTeam(Long teamId, String cursor, int size);
+
+    /**
+     * Searches the players and the teams by name, for autocompletion.
+     *
+     * @param query the text typed by the user
+     * @param limit the maximum number of hits to return
+     * @return the hits, best first
+     */
+    List<SearchHitDTO> search(String query, int limit);
+
 }
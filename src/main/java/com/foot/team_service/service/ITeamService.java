@@ -1,10 +1,20 @@
 package com.foot.team_service.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.foot.team_service.dto.CursorPageDTO;
 import com.foot.team_service.dto.TeamDTO;
+import com.foot.team_service.dto.TeamStatsDTO;
+import com.foot.team_service.utils.http.ResourceVersion;
+import com.foot.team_service.utils.pagination.PageCountMode;
+import com.foot.team_service.utils.projection.FieldSelection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * Interface for Team service operations.
  * <p>
@@ -22,6 +32,34 @@ public interface ITeamService {
      */
     Page<TeamDTO> findAll(Pageable pageable);
 
+    /**
+     * Retrieves a paginated list of teams, computing the total according to the given mode.
+     *
+     * @param pageable  the pagination and sorting information
+     * @param countMode how the total number of teams is computed
+     * @return a page of teams, or a slice when no count is requested
+     */
+    Slice<TeamDTO> findAll(Pageable pageable, PageCountMode countMode);
+
+    /**
+     * Retrieves a paginated list of teams, reading only the requested fields.
+     *
+     * @param pageable  the pagination and sorting information
+     * @param countMode how the total number of teams is computed
+     * @param fields    the fields to read
+     * @return a page of teams as maps of their requested fields, or a slice when no count is requested
+     */
+    Slice<Map<String, Object>> findAll(Pageable pageable, PageCountMode countMode, FieldSelection fields);
+
+    /**
+     * Retrieves a page of teams sorted by name using keyset pagination.
+     *
+     * @param cursor the cursor returned with the previous page, null for the first page
+     * @param size   the maximum number of teams to return
+     * @return a cursor page of teams
+     */
+    CursorPageDTO<TeamDTO> scroll(String cursor, int size);
+
     /**
      * Creates a new team.
      *
@@ -33,26 +71,71 @@ public interface ITeamService {
     /**
      * Finds a team by its ID.
      *
-     * @param id the ID of the team
+     * @param id      the ID of the team
+     * @param version the current version of the team
      * @return the team with the specified ID
      */
-    TeamDTO findById(Long id);
+    TeamDTO findById(Long id, ResourceVersion version);
+
+    /**
+     * Finds a team by its ID, reading only the requested fields.
+     *
+     * @param id     the ID of the team
+     * @param fields the fields to read
+     * @return the requested fields of the team
+     */
+    Map<String, Object> findById(Long id, FieldSelection fields);
+
+    /**
+     * Reads the version of a team and its roster, to answer conditional requests.
+     *
+     * @param id the ID of the team
+     * @return the version of the team
+     */
+    ResourceVersion findVersion(Long id);
+
+    /**
+     * Returns the statistics of the roster of a team.
+     *
+     * @param id the ID of the team
+     * @return the statistics of the team
+     */
+    TeamStatsDTO findStats(Long id);
+
+    /**
+     * Returns the statistics of the roster of every team.
+     *
+     * @return the statistics of the teams, sorted by team ID
+     */
+    List<TeamStatsDTO> findAllStats();
 
     /**
      * Updates an existing team.
      *
      * @param newTeamDTO the team DTO containing the updated details
      * @param id the ID of the team to update
+     * @param ifMatch the ETag the client read, null to update whatever the version
      * @return the updated team DTO
      */
-    TeamDTO update(TeamDTO newTeamDTO, Long id);
+    TeamDTO update(TeamDTO newTeamDTO, Long id, String ifMatch);
+
+    /**
+     * Applies a JSON Merge Patch to a team, writing only the columns that change.
+     *
+     * @param id the ID of the team to patch
+     * @param patch the merge patch, a JSON object
+     * @param ifMatch the ETag the client read, null to patch whatever the version
+     * @return the patched team DTO
+     */
+    TeamDTO patch(Long id, JsonNode patch, String ifMatch);
 
     /**
      * Deletes a team by its ID.
      *
      * @param id the ID of the team to delete
+     * @param ifMatch the ETag the client read, null to delete whatever the version
      * @return a response entity with no content status
      */
-    ResponseEntity<?> delete(Long id);
+    ResponseEntity<?> delete(Long id, String ifMatch);
 
 }
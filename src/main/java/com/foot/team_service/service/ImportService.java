@@ -0,0 +1,282 @@
+package com.foot.team_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foot.team_service.dto.ImportErrorDTO;
+import com.foot.team_service.dto.ImportReportDTO;
+import com.foot.team_service.dto.PlayerDTO;
+import com.foot.team_service.dto.TeamDTO;
+import com.foot.team_service.event.ChangeType;
+import com.foot.team_service.event.PlayerChangedEvent;
+import com.foot.team_service.event.TeamChangedEvent;
+import com.foot.team_service.exception.BadRequestException;
+import com.foot.team_service.model.Player;
+import com.foot.team_service.model.Team;
+import com.foot.team_service.repository.PlayerRepository;
+import com.foot.team_service.repository.TeamRepository;
+import com.foot.team_service.utils.importing.ImportFormat;
+import com.foot.team_service.utils.importing.RecordReader;
+import com.foot.team_service.utils.importing.RecordReader.Record;
+import com.foot.team_service.utils.mapper.PlayerMapper;
+import com.foot.team_service.utils.mapper.TeamMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Import service implementation.
+ * <p>
+ * Records are read one at a time and validated as they come. Valid records are buffered until
+ * a chunk is full, then saved in one transaction (with JDBC batching) before the next line is
+ * read: the request body is consumed at the pace of the database, and only one chunk is held
+ * in memory at a time.
+ * </p>
+ * <p>
+ * When a chunk fails to commit, all its records are reported as rejected, and the import goes on
+ * with the next chunk; the chunks already committed are kept.
+ * </p>
+ */
+@Service
+public class ImportService implements IImportService {
+    private static final Logger LOGGER
+            = LoggerFactory.getLogger(ImportService.class);
+
+    /**
+     * Maximum number of records per transaction.
+     */
+    public static final int MAX_CHUNK_SIZE = 10_000;
+
+    /**
+     * Maximum number of errors listed in a report.
+     */
+    public static final int MAX_REPORTED_ERRORS = 1_000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private Validator validator;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${foot.import.chunk-size:500}")
+    private int defaultChunkSize = 500;
+
+    /**
+     * Imports players.
+     * <p>
+     * A player referencing a team that does not exist is rejected.
+     * </p>
+     *
+     * @param input     the file to import
+     * @param format    the format of the file
+     * @param chunkSize the number of records per transaction, null for the default
+     * @return the import report
+     * @throws IOException         if the file cannot be read
+     * @throws BadRequestException if the chunk size is not between 1 and {@value #MAX_CHUNK_SIZE}
+     */
+    public ImportReportDTO importPlayers(InputStream input, ImportFormat format, Integer chunkSize) throws IOException {
+        return importRecords(input, format, PlayerDTO.class, chunkSize, this::savePlayers);
+    }
+
+    /**
+     * Imports teams, with their players for NDJSON files.
+     *
+     * @param input     the file to import
+     * @param format    the format of the file
+     * @param chunkSize the number of records per transaction, null for the default
+     * @return the import report
+     * @throws IOException         if the file cannot be read
+     * @throws BadRequestException if the chunk size is not between 1 and {@value #MAX_CHUNK_SIZE}
+     */
+    public ImportReportDTO importTeams(InputStream input, ImportFormat format, Integer chunkSize) throws IOException {
+        return importRecords(input, format, TeamDTO.class, chunkSize, this::saveTeams);
+    }
+
+    private <T> ImportReportDTO importRecords(InputStream input, ImportFormat format, Class<T> type,
+                                              Integer chunkSize, ChunkWriter<T> writer) throws IOException {
+        int size = chunkSize(chunkSize);
+        Report report = new Report();
+        List<Record<T>> chunk = new ArrayList<>(size);
+        try (RecordReader<T> reader = new RecordReader<>(input, format, type, objectMapper)) {
+            Record<T> record;
+            while ((record = reader.next()) != null) {
+                report.records++;
+                String error = record.error() != null ? record.error() : violations(record.value());
+                if (error != null) {
+                    report.reject(new ImportErrorDTO(record.line(), error));
+                } else if (chunk.add(record) && chunk.size() == size) {
+                    commit(chunk, writer, report);
+                }
+            }
+            commit(chunk, writer, report);
+        }
+        LOGGER.info("Import of {} done: {} records, {} imported, {} rejected",
+                type.getSimpleName(), report.records, report.imported, report.rejected);
+        return report.toDTO();
+    }
+
+    /**
+     * Saves a chunk in its own transaction, adds the outcome to the report and empties the chunk.
+     */
+    private <T> void commit(List<Record<T>> chunk, ChunkWriter<T> writer, Report report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            List<ImportErrorDTO> rejected = new TransactionTemplate(transactionManager).execute(status -> {
+                List<ImportErrorDTO> errors = writer.write(chunk);
+                // le contexte de persistance est celui de la requête (open-in-view) : on le vide à chaque chunk
+                entityManager.clear();
+                return errors;
+            });
+            report.imported += chunk.size() - rejected.size();
+            rejected.forEach(report::reject);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Import chunk rolled back", e);
+            for (Record<T> record : chunk) {
+                report.reject(new ImportErrorDTO(record.line(), "Chunk rolled back :: " + e.getMessage()));
+            }
+        }
+        chunk.clear();
+    }
+
+    private List<ImportErrorDTO> savePlayers(List<Record<PlayerDTO>> chunk) {
+        Set<Long> teamIds = chunk.stream()
+                .map(record -> record.value().teamId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        // les équipes ne sont pas chargées : leur existence est vérifiée sur les seuls identifiants,
+        // et les joueurs ne reçoivent qu'une référence pour la clé étrangère
+        Set<Long> existingTeamIds = teamIds.isEmpty() ? Set.of() : teamRepository.findIdsByIdIn(teamIds);
+        List<ImportErrorDTO> rejected = new ArrayList<>();
+        List<Player> players = new ArrayList<>(chunk.size());
+        for (Record<PlayerDTO> record : chunk) {
+            Long teamId = record.value().teamId();
+            if (teamId != null && !existingTeamIds.contains(teamId)) {
+                rejected.add(new ImportErrorDTO(record.line(), "Team not found for this id :: " + teamId));
+                continue;
+            }
+            Player player = PlayerMapper.INSTANCE.playerDTOToPlayer(record.value());
+            player.setId(null);
+            player.setTeam(teamId == null ? null : teamRepository.getReferenceById(teamId));
+            players.add(player);
+        }
+        for (Player player : playerRepository.saveAllAndFlush(players)) {
+            publish(player);
+        }
+        return rejected;
+    }
+
+    private List<ImportErrorDTO> saveTeams(List<Record<TeamDTO>> chunk) {
+        List<Team> teams = new ArrayList<>(chunk.size());
+        List<Player> players = new ArrayList<>();
+        for (Record<TeamDTO> record : chunk) {
+            Team team = TeamMapper.INSTANCE.teamDTOToTeam(record.value());
+            team.setId(null);
+            for (Player player : team.getPlayers()) {
+                player.setId(null);
+                player.setTeam(team);
+                players.add(player);
+            }
+            teams.add(team);
+        }
+        teamRepository.saveAll(teams);
+        playerRepository.saveAll(players);
+        teamRepository.flush();
+        for (Team team : teams) {
+            eventPublisher.publishEvent(new TeamChangedEvent(
+                    ChangeType.CREATED, team.getId(), TeamMapper.INSTANCE.teamToTeamDTO(team)));
+        }
+        players.forEach(this::publish);
+        return List.of();
+    }
+
+    private void publish(Player player) {
+        eventPublisher.publishEvent(new PlayerChangedEvent(
+                ChangeType.CREATED, player.getId(), null, PlayerMapper.INSTANCE.playerToPlayerDTO(player)));
+    }
+
+    /**
+     * Validates a record with the constraints of its DTO.
+     *
+     * @return the violations, or null if the record is valid
+     */
+    private String violations(Object value) {
+        Set<ConstraintViolation<Object>> violations = validator.validate(value);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private int chunkSize(Integer chunkSize) {
+        if (chunkSize == null) {
+            return defaultChunkSize;
+        }
+        if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new BadRequestException("chunkSize must be between 1 and " + MAX_CHUNK_SIZE);
+        }
+        return chunkSize;
+    }
+
+    /**
+     * Saves the records of a chunk, within the transaction of the chunk.
+     */
+    @FunctionalInterface
+    private interface ChunkWriter<T> {
+        /**
+         * @return the records rejected while saving
+         */
+        List<ImportErrorDTO> write(List<Record<T>> chunk);
+    }
+
+    /**
+     * Outcome of an import, built as the records are read.
+     */
+    private static final class Report {
+        private long records;
+        private long imported;
+        private long rejected;
+        private final List<ImportErrorDTO> errors = new ArrayList<>();
+
+        void reject(ImportErrorDTO error) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(error);
+            }
+        }
+
+        ImportReportDTO toDTO() {
+            errors.sort(Comparator.comparingLong(ImportErrorDTO::line));
+            return new ImportReportDTO(records, imported, rejected, errors);
+        }
+    }
+}
@@ -1,22 +1,55 @@
 package com.foot.team_service.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foot.team_service.config.CacheConfig;
+import com.foot.team_service.dto.CursorPageDTO;
 import com.foot.team_service.dto.PlayerDTO;
+import com.foot.team_service.dto.SearchHitDTO;
+import com.foot.team_service.event.ChangeType;
+import com.foot.team_service.event.PlayerChangedEvent;
+import com.foot.team_service.exception.BadRequestException;
+import com.foot.team_service.exception.PreconditionFailedException;
 import com.foot.team_service.exception.ResourceNotFoundException;
 import com.foot.team_service.utils.mapper.PlayerMapper;
 import com.foot.team_service.model.Player;
+import com.foot.team_service.model.Team;
 import com.foot.team_service.repository.PlayerRepository;
+import com.foot.team_service.repository.ProjectionRepository;
 import com.foot.team_service.repository.TeamRepository;
-import com.foot.team_service.utils.mapper.TeamMapper;
+import com.foot.team_service.utils.filter.PlayerFilter;
+import com.foot.team_service.utils.pagination.CursorPagination;
+import com.foot.team_service.utils.pagination.IndexedSort;
+import com.foot.team_service.utils.http.MergePatch;
+import com.foot.team_service.utils.cache.VersionedValue;
+import com.foot.team_service.utils.http.ResourceVersion;
+import com.foot.team_service.utils.pagination.PageCountMode;
+import com.foot.team_service.utils.projection.FieldSelection;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.data.domain.*;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -24,11 +57,24 @@ import java.util.stream.Collectors;
  * Provides methods to manage player entities, including CRUD operations and team associations.
  * Utilizes PlayerRepository for database operations and PlayerMapper for entity-DTO transformations.
  * Handles resource not found exceptions and logs significant events.
+ * Each public method is timed in the {@code foot.service} metric, tagged with its class and method.
  *
  * @auther Kevin
  */
 @Service
+@Timed(value = "foot.service", description = "Time spent in the service methods, database included")
 public class PlayerService implements IPlayerService {
+    /**
+     * Fields of a player that can be requested with {@code fields}, with the attribute each one is read from.
+     */
+    public static final Map<String, String> FIELDS = FieldSelection.fields(
+            "id", "id", "name", "name", "no", "no", "matchPlayed", "matchPlayed", "position", "position",
+            "teamId", "team.id", "createdAt", "createdAt", "updatedAt", "updatedAt");
+    /**
+     * Properties the lists of players can be sorted on: each one leads an index of {@link Player}.
+     */
+    public static final List<String> SORTABLE = List.of("id", "name", "no", "matchPlayed", "position");
+
     private static final Logger LOGGER
             = LoggerFactory.getLogger(TeamService.class);
     @Autowired
@@ -36,7 +82,19 @@ public class PlayerService implements IPlayerService {
     @Autowired
     private TeamRepository teamRepository;
     @Autowired
-    private TeamService teamService;
+    private ProjectionRepository projectionRepository;
+    @Autowired
+    private EntityCounter entityCounter;
+    @Autowired
+    private SearchIndex searchIndex;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private Validator validator;
 
     /**
      * Retrieves a paginated list of players sorted by the specified criteria.
@@ -54,6 +112,126 @@ public class PlayerService implements IPlayerService {
         return new PageImpl<>(playerDTOs, pageable, pageablePlayers.getTotalElements());
     }
 
+    /**
+     * Retrieves a paginated list of players, computing the total number of players
+     * according to the given count mode.
+     *
+     * @param pageable  the pagination and sorting information
+     * @param countMode how the total number of players is computed
+     * @return a page of players, or a slice when {@code countMode} is {@link PageCountMode#NONE}
+     */
+    public Slice<PlayerDTO> findAll(Pageable pageable, PageCountMode countMode) {
+        return findAll(pageable, countMode, PlayerFilter.NONE);
+    }
+
+    /**
+     * Retrieves a paginated list of the players matching a filter, computing the total number of
+     * matching players according to the given count mode.
+     * <p>
+     * The sort must be on one of the {@link #SORTABLE} properties; it is completed with {@code id}.
+     * With a filter, {@link PageCountMode#CACHED} counts like {@link PageCountMode#EXACT}: the counter
+     * only holds the number of all the players.
+     * </p>
+     *
+     * @param pageable  the pagination and sorting information
+     * @param countMode how the total number of players is computed
+     * @param filter    the filters, {@link PlayerFilter#NONE} for all the players
+     * @return a page of players, or a slice when {@code countMode} is {@link PageCountMode#NONE}
+     * @throws BadRequestException if the sort is not supported, or a range of the filter is empty
+     */
+    public Slice<PlayerDTO> findAll(Pageable pageable, PageCountMode countMode, PlayerFilter filter) {
+        Pageable indexedPageable = IndexedSort.restrict(pageable, SORTABLE);
+        Specification<Player> specification = filter.toSpecification();
+        if (specification != null) {
+            if (countMode == PageCountMode.NONE) {
+                return findSlice(specification, indexedPageable).map(PlayerMapper.INSTANCE::playerToPlayerDTO);
+            }
+            return repository.findAll(specification, indexedPageable).map(PlayerMapper.INSTANCE::playerToPlayerDTO);
+        }
+        if (countMode == PageCountMode.EXACT) {
+            return findAll(indexedPageable);
+        }
+        Slice<PlayerDTO> playerDTOs = repository.findAllBy(indexedPageable).map(PlayerMapper.INSTANCE::playerToPlayerDTO);
+        if (countMode == PageCountMode.NONE) {
+            return playerDTOs;
+        }
+        return new PageImpl<>(playerDTOs.getContent(), indexedPageable, entityCounter.countPlayers());
+    }
+
+    /**
+     * Reads a slice of the players matching a specification, without counting them: the window
+     * of a scroll tells whether there is a next page.
+     *
+     * @param specification the filter
+     * @param pageable      the page to read and its order
+     * @return the slice of players
+     */
+    private Slice<Player> findSlice(Specification<Player> specification, Pageable pageable) {
+        ScrollPosition position = pageable.getOffset() == 0
+                ? ScrollPosition.offset()
+                : ScrollPosition.offset(pageable.getOffset() - 1);
+        Window<Player> players = repository.findBy(specification, query -> query
+                .sortBy(pageable.getSort())
+                .limit(pageable.getPageSize())
+                .scroll(position));
+        return new SliceImpl<>(players.getContent(), pageable, players.hasNext());
+    }
+
+    /**
+     * Retrieves a paginated list of the players matching a filter, reading only the requested fields.
+     * The sort and the count mode are handled as by {@link #findAll(Pageable, PageCountMode, PlayerFilter)}.
+     *
+     * @param pageable  the pagination and sorting information
+     * @param countMode how the total number of players is computed
+     * @param filter    the filters, {@link PlayerFilter#NONE} for all the players
+     * @param fields    the fields to read, among {@link #FIELDS}
+     * @return a page of players, each one as a map of its requested fields, or a slice when
+     * {@code countMode} is {@link PageCountMode#NONE}
+     * @throws BadRequestException if the sort is not supported, or a range of the filter is empty
+     */
+    public Slice<Map<String, Object>> findAll(Pageable pageable, PageCountMode countMode, PlayerFilter filter,
+                                              FieldSelection fields) {
+        Pageable indexedPageable = IndexedSort.restrict(pageable, SORTABLE);
+        Specification<Player> specification = filter.toSpecification();
+        if (countMode == PageCountMode.EXACT || (countMode == PageCountMode.CACHED && specification != null)) {
+            return projectionRepository.findPage(Player.class, fields, specification, indexedPageable);
+        }
+        Slice<Map<String, Object>> players = projectionRepository.findSlice(Player.class, fields, specification, indexedPageable);
+        if (countMode == PageCountMode.NONE) {
+            return players;
+        }
+        return new PageImpl<>(players.getContent(), indexedPageable, entityCounter.countPlayers());
+    }
+
+    /**
+     * Retrieves a page of players sorted by name, then by ID, using keyset pagination.
+     * <p>
+     * Unlike {@link #findAll(Pageable)}, reading a page costs the same whatever its depth,
+     * and no count query is run.
+     * </p>
+     *
+     * @param cursor the cursor returned with the previous page, null for the first page
+     * @param size   the maximum number of players to return
+     * @return a cursor page of players
+     */
+    public CursorPageDTO<PlayerDTO> scroll(String cursor, int size) {
+        Window<Player> players = repository.findAllByOrderByNameAscIdAsc(
+                CursorPagination.position(cursor, CursorPagination.NAME_AND_ID_KEYS), CursorPagination.limit(size));
+        return CursorPagination.toPage(players, PlayerMapper.INSTANCE::playerToPlayerDTO);
+    }
+
+    /**
+     * Searches the players whose name starts with the query, and the teams whose name or acronym does,
+     * tolerating typos. The hits are read from the in-memory {@link SearchIndex}, not from the database.
+     *
+     * @param query the text typed by the user
+     * @param limit the maximum number of hits to return
+     * @return the hits, best first
+     */
+    public List<SearchHitDTO> search(String query, int limit) {
+        return searchIndex.search(query, limit);
+    }
+
     /**
      * Creates a new player and associates it with a team if provided.
      *
@@ -63,69 +241,303 @@ public class PlayerService implements IPlayerService {
     @Transactional
     public PlayerDTO create(PlayerDTO playerDTO) {
         Player player = PlayerMapper.INSTANCE.playerDTOToPlayer(playerDTO);
-        player.setTeam(
-                playerDTO.teamId() == null ? null :
-                        TeamMapper.INSTANCE.teamDTOToTeam(teamService.findById(playerDTO.teamId()))
-        );
-        Player playerSaved = repository.save(player);
+        player.setTeam(teamReference(playerDTO.teamId()));
+        Player playerSaved = repository.saveAndFlush(player);
         LOGGER.info("Player created: {}", playerSaved);
-        return PlayerMapper.INSTANCE.playerToPlayerDTO(playerSaved);
+        return publish(ChangeType.CREATED, null, PlayerMapper.INSTANCE.playerToPlayerDTO(playerSaved));
+    }
+
+    /**
+     * Creates several players in a single transaction.
+     * <p>
+     * The teams referenced by the players are checked with one query, and the players are saved
+     * together so that Hibernate sends the INSERT statements in JDBC batches.
+     * </p>
+     *
+     * @param playerDTOs the player data transfer objects to create
+     * @return the created player DTOs, in the same order
+     * @throws ResourceNotFoundException if one of the referenced teams is not found
+     */
+    @Transactional
+    public List<PlayerDTO> createAll(List<PlayerDTO> playerDTOs) {
+        Map<Long, Team> teams = findTeams(playerDTOs);
+        List<Player> players = new ArrayList<>(playerDTOs.size());
+        for (PlayerDTO playerDTO : playerDTOs) {
+            Player player = PlayerMapper.INSTANCE.playerDTOToPlayer(playerDTO);
+            player.setId(null);
+            player.setTeam(playerDTO.teamId() == null ? null : teams.get(playerDTO.teamId()));
+            players.add(player);
+        }
+        List<Player> playersSaved = repository.saveAllAndFlush(players);
+        LOGGER.info("{} players created", playersSaved.size());
+        List<PlayerDTO> playerDTOsSaved = PlayerMapper.INSTANCE.playersToPlayerDTOs(playersSaved);
+        playerDTOsSaved.forEach(playerDTOSaved -> publish(ChangeType.CREATED, null, playerDTOSaved));
+        return playerDTOsSaved;
+    }
+
+    /**
+     * Publishes the change made to a player.
+     *
+     * @param type           the kind of change
+     * @param previousTeamId the ID of the team of the player before the change, null if it had none
+     * @param playerDTO      the player after the change
+     * @return the player DTO, for chaining
+     */
+    private PlayerDTO publish(ChangeType type, Long previousTeamId, PlayerDTO playerDTO) {
+        eventPublisher.publishEvent(new PlayerChangedEvent(type, playerDTO.id(), previousTeamId, playerDTO));
+        return playerDTO;
+    }
+
+    /**
+     * Checks, with a single query on their IDs, the teams referenced by the given players, and
+     * returns references to them: the teams themselves are not loaded.
+     *
+     * @param playerDTOs the players referencing the teams
+     * @return the teams indexed by their ID
+     * @throws ResourceNotFoundException if one of the referenced teams is not found
+     */
+    private Map<Long, Team> findTeams(List<PlayerDTO> playerDTOs) {
+        Set<Long> teamIds = playerDTOs.stream()
+                .map(PlayerDTO::teamId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (teamIds.isEmpty()) {
+            return Map.of();
+        }
+        Set<Long> existingTeamIds = teamRepository.findIdsByIdIn(teamIds);
+        for (Long teamId : teamIds) {
+            if (!existingTeamIds.contains(teamId)) {
+                throw new ResourceNotFoundException("Team not found for this id :: " + teamId);
+            }
+        }
+        return teamIds.stream()
+                .collect(Collectors.toMap(Function.identity(), teamRepository::getReferenceById));
+    }
+
+    /**
+     * Returns a reference to a team, to set the foreign key of a player without loading the team.
+     * <p>
+     * The existence of the team is checked with a keyed query that reads no column of the team,
+     * so the cost does not depend on the size of its roster; the returned proxy is never initialized
+     * by the player writes.
+     * </p>
+     *
+     * @param teamId the ID of the team, may be null
+     * @return a reference to the team, or null if {@code teamId} is null
+     * @throws ResourceNotFoundException if the team is not found
+     */
+    private Team teamReference(Long teamId) {
+        if (teamId == null) {
+            return null;
+        }
+        if (!teamRepository.existsById(teamId)) {
+            throw new ResourceNotFoundException("Team not found for this id :: " + teamId);
+        }
+        return teamRepository.getReferenceById(teamId);
     }
 
     /**
      * Finds a player by its ID.
+     * <p>
+     * The result is cached, and evicted when the player changes (see {@link EntityCacheInvalidator}).
+     * The cached result is only returned for the version it was cached for (see {@link VersionedValue}).
+     * </p>
      *
-     * @param id the ID of the player
+     * @param id      the ID of the player
+     * @param version the current version of the player, see {@link #findVersion(Long)}
      * @return the player DTO with the specified ID
      * @throws ResourceNotFoundException if the player is not found
      */
     @Transactional
-    public PlayerDTO findById(Long id) {
-        Player player = repository.findById(id)
+    public PlayerDTO findById(Long id, ResourceVersion version) {
+        return VersionedValue.get(cacheManager.getCache(CacheConfig.PLAYERS), id, version, () -> {
+            Player player = repository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Player not found for this id :: " + id));
+            return PlayerMapper.INSTANCE.playerToPlayerDTO(player);
+        });
+    }
+
+    /**
+     * Finds a player by its ID, reading only the requested fields.
+     *
+     * @param id     the ID of the player
+     * @param fields the fields to read, among {@link #FIELDS}
+     * @return the requested fields of the player
+     * @throws ResourceNotFoundException if the player is not found
+     */
+    public Map<String, Object> findById(Long id, FieldSelection fields) {
+        Specification<Player> byId = (root, query, builder) -> builder.equal(root.get("id"), id);
+        return projectionRepository.findAll(Player.class, fields, byId, Sort.unsorted()).stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Player not found for this id :: " + id));
+    }
+
+    /**
+     * Reads the version of a player with a single query on its modification date.
+     *
+     * @param id the ID of the player
+     * @return the version of the player
+     * @throws ResourceNotFoundException if the player is not found
+     */
+    public ResourceVersion findVersion(Long id) {
+        return repository.findVersionById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Player not found for this id :: " + id));
-        return PlayerMapper.INSTANCE.playerToPlayerDTO(player);
     }
 
     /**
      * Updates an existing player.
+     * <p>
+     * The player is loaded (from the second-level cache when it is there) and its version compared
+     * with {@code version}; only the changed columns are then written, by a versioned UPDATE that
+     * also fails when the player is modified between the load and the flush.
+     * </p>
      *
      * @param playerDTO the player DTO containing the updated details
      * @param id        the ID of the player to update
+     * @param version   the version the client read (from {@code If-Match}), null to update whatever the version
      * @return the updated player DTO
-     * @throws ResourceNotFoundException if the player is not found
+     * @throws ResourceNotFoundException   if the player or its new team is not found
+     * @throws PreconditionFailedException if the player has another version
      */
     @Transactional
-    public PlayerDTO update(PlayerDTO playerDTO, Long id) {
-        repository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Player not found for this id :: " + id));
-        Player player = PlayerMapper.INSTANCE.playerDTOToPlayer(playerDTO);
-        player.setTeam(
-                playerDTO.teamId() == null ? null :
-                        TeamMapper.INSTANCE.teamDTOToTeam(teamService.findById(playerDTO.teamId()))
-        );
-        player.setId(id);
+    @Retryable(retryFor = ConcurrencyFailureException.class,
+            maxAttemptsExpression = "${foot.concurrency.retry.max-attempts:1}",
+            backoff = @Backoff(delayExpression = "${foot.concurrency.retry.delay:50}", multiplier = 2))
+    public PlayerDTO update(PlayerDTO playerDTO, Long id, Long version) {
+        Player player = findForWrite(id, version);
+        Long previousTeamId = player.getTeam() == null ? null : player.getTeam().getId();
+        player.setName(playerDTO.name());
+        player.setNo(playerDTO.no());
+        player.setMatchPlayed(playerDTO.matchPlayed());
+        player.setPosition(playerDTO.position());
+        if (!Objects.equals(previousTeamId, playerDTO.teamId())) {
+            player.setTeam(teamReference(playerDTO.teamId()));
+        }
+        flush(id, version);
+        LOGGER.info("Player updated: {}", player);
+        return publish(ChangeType.UPDATED, previousTeamId, PlayerMapper.INSTANCE.playerToPlayerDTO(player));
+    }
 
-        Player playerUpdated = repository.save(player);
-        LOGGER.info("Player updated: {}", playerUpdated);
-        return PlayerMapper.INSTANCE.playerToPlayerDTO(playerUpdated);
+    /**
+     * Applies a JSON Merge Patch to a player.
+     * <p>
+     * The player is loaded, patched and validated as a DTO, then only the fields that actually
+     * changed are copied to the entity: {@code Player} being {@code @DynamicUpdate}, the UPDATE
+     * statement only sets these columns (plus {@code updatedAt} and {@code version}), and no
+     * statement is sent if nothing changed. The team is only checked when {@code teamId} changes.
+     * </p>
+     *
+     * @param id      the ID of the player to patch
+     * @param patch   the merge patch, a JSON object
+     * @param version the version the client read (from {@code If-Match}), null to patch whatever the version
+     * @return the patched player DTO
+     * @throws ResourceNotFoundException   if the player or its new team is not found
+     * @throws PreconditionFailedException if the player has another version
+     * @throws BadRequestException         if the patch is invalid, or the patched player is not valid
+     */
+    @Transactional
+    @Retryable(retryFor = ConcurrencyFailureException.class,
+            maxAttemptsExpression = "${foot.concurrency.retry.max-attempts:1}",
+            backoff = @Backoff(delayExpression = "${foot.concurrency.retry.delay:50}", multiplier = 2))
+    public PlayerDTO patch(Long id, JsonNode patch, Long version) {
+        Player player = findForWrite(id, version);
+        PlayerDTO current = PlayerMapper.INSTANCE.playerToPlayerDTO(player);
+        PlayerDTO patched = MergePatch.apply(objectMapper, current, patch, PlayerDTO.class);
+        validate(patched);
+
+        player.setName(patched.name());
+        player.setNo(patched.no());
+        player.setMatchPlayed(patched.matchPlayed());
+        player.setPosition(patched.position());
+        if (!Objects.equals(current.teamId(), patched.teamId())) {
+            player.setTeam(teamReference(patched.teamId()));
+        }
+        flush(id, version);
+        LOGGER.info("Player patched: {}", player);
+        return publish(ChangeType.UPDATED, current.teamId(), PlayerMapper.INSTANCE.playerToPlayerDTO(player));
+    }
+
+    /**
+     * Checks the constraints of a patched player.
+     *
+     * @param playerDTO the patched player
+     * @throws BadRequestException if a constraint is violated
+     */
+    private void validate(PlayerDTO playerDTO) {
+        Set<ConstraintViolation<PlayerDTO>> violations = validator.validate(playerDTO);
+        if (!violations.isEmpty()) {
+            throw new BadRequestException("Validation Failed :: " + violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
     }
 
     /**
      * Deletes a player by its ID.
+     * <p>
+     * The player is loaded and its version compared with {@code version}, then deleted by a
+     * versioned DELETE.
+     * </p>
      *
-     * @param id the ID of the player to delete
+     * @param id      the ID of the player to delete
+     * @param version the version the client read (from {@code If-Match}), null to delete whatever the version
      * @return a response entity with no content status
-     * @throws ResourceNotFoundException if the player is not found
+     * @throws ResourceNotFoundException   if the player is not found
+     * @throws PreconditionFailedException if the player has another version
      */
     @Transactional
-    public ResponseEntity<?> delete(Long id) {
-        repository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Player not found for this id :: " + id));
-        repository.deleteById(id);
+    @Retryable(retryFor = ConcurrencyFailureException.class,
+            maxAttemptsExpression = "${foot.concurrency.retry.max-attempts:1}",
+            backoff = @Backoff(delayExpression = "${foot.concurrency.retry.delay:50}", multiplier = 2))
+    public ResponseEntity<?> delete(Long id, Long version) {
+        Player player = findForWrite(id, version);
+        Long previousTeamId = player.getTeam() == null ? null : player.getTeam().getId();
+        repository.delete(player);
+        flush(id, version);
         LOGGER.info("Player {} deleted", id);
+        eventPublisher.publishEvent(new PlayerChangedEvent(ChangeType.DELETED, id, previousTeamId, null));
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
 
+    /**
+     * Loads a player to write it, and checks the version the client read.
+     *
+     * @param id      the ID of the player
+     * @param version the version the client read, null to write whatever the version
+     * @return the player
+     * @throws ResourceNotFoundException   if the player is not found
+     * @throws PreconditionFailedException if the player has another version
+     */
+    private Player findForWrite(Long id, Long version) {
+        Player player = repository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Player not found for this id :: " + id));
+        if (version != null && version != player.getVersion()) {
+            throw new PreconditionFailedException("Player has been modified, version does not match for this id :: " + id);
+        }
+        return player;
+    }
+
+    /**
+     * Flushes a write. When the versioned statement matches no row, the player was modified after it
+     * was loaded: the client that sent a version gets a precondition failure, the others a
+     * concurrency failure, which is retried.
+     *
+     * @param id      the ID of the written player
+     * @param version the version the client read, null if the write was unconditional
+     * @throws PreconditionFailedException if the player was modified after a conditional write loaded it
+     */
+    private void flush(Long id, Long version) {
+        try {
+            repository.flush();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            if (version == null) {
+                throw e;
+            }
+            throw new PreconditionFailedException("Player has been modified, version does not match for this id :: " + id);
+        }
+    }
+
     /**
      * Finds players belonging to a team.
      *
@@ -137,4 +549,40 @@ public class PlayerService implements IPlayerService {
         List<Player> players = repository.findByTeamId(teamId);
         return PlayerMapper.INSTANCE.playersToPlayerDTOs(players);
     }
+
+    /**
+     * Finds the players of a team, sorted by ID, reading only the requested fields.
+     *
+     * @param teamId the ID of the team
+     * @param fields the fields to read, among {@link #FIELDS}
+     * @return the requested fields of each player of the team
+     */
+    public List<Map<String, Object>> findByTeam(Long teamId, FieldSelection fields) {
+        Specification<Player> byTeam = (root, query, builder) -> builder.equal(root.get("team").get("id"), teamId);
+        return projectionRepository.findAll(Player.class, fields, byTeam, Sort.by("id"));
+    }
+
+    /**
+     * Reads the version of the players of a team with a single aggregate query.
+     *
+     * @param teamId the ID of the team
+     * @return the version of the players of the team
+     */
+    public ResourceVersion findVersionByTeam(Long teamId) {
+        return repository.findVersionByTeamId(teamId);
+    }
+
+    /**
+     * Retrieves a page of the players of a team sorted by ID, using keyset pagination.
+     *
+     * @param teamId the ID of the team
+     * @param cursor the cursor returned with the previous page, null for the first page
+     * @param size   the maximum number of players to return
+     * @return a cursor page of players belonging to the team
+     */
+    public CursorPageDTO<PlayerDTO> scrollByTeam(Long teamId, String cursor, int size) {
+        Window<Player> players = repository.findByTeamIdOrderByIdAsc(
+                teamId, CursorPagination.position(cursor, CursorPagination.ID_KEYS), CursorPagination.limit(size));
+        return CursorPagination.toPage(players, PlayerMapper.INSTANCE::playerToPlayerDTO);
+    }
 }
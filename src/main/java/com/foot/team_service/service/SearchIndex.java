@@ -0,0 +1,342 @@
+package com.foot.team_service.service;
+
+import com.foot.team_service.dto.SearchHitDTO;
+import com.foot.team_service.event.ChangeType;
+import com.foot.team_service.event.PlayerChangedEvent;
+import com.foot.team_service.event.TeamChangedEvent;
+import com.foot.team_service.exception.BadRequestException;
+import com.foot.team_service.model.Player;
+import com.foot.team_service.model.Team;
+import com.foot.team_service.repository.ProjectionRepository;
+import com.foot.team_service.utils.projection.FieldSelection;
+import com.foot.team_service.utils.search.SearchText;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory index of the names of the players and of the names and acronyms of the teams, serving
+ * the autocomplete search without querying the database.
+ * <p>
+ * Each name is indexed under its normalized words and its full name (see {@link SearchText}) in a sorted
+ * map, so that the terms starting with a query are read from a range of the map, and each word under its
+ * trigrams, which gives the candidates of the typo-tolerant matching of a one-word query. Hits are ranked
+ * exact term first, then term starting with the query, then by edit distance, then shortest name. The
+ * names of a term are kept in that last order, so that the reading of a term stops at its first name that
+ * is not among the best hits, however common the term is; at most {@value #MAX_TERMS} terms are read per search.
+ * </p>
+ * <p>
+ * The index is loaded with a projection query on first use, then kept up to date from the committed
+ * change events. Writes are serialized, searches never wait for them.
+ * </p>
+ */
+@Component
+public class SearchIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SearchIndex.class);
+
+    public static final int MAX_LIMIT = 50;
+    public static final int MAX_QUERY_LENGTH = 50;
+    // borne le travail d'une requête très courte ("a") qui est le début d'une grande partie des termes
+    private static final int MAX_TERMS = 1000;
+
+    private static final Map<String, String> PLAYER_FIELDS = FieldSelection.fields(
+            "id", "id", "name", "name", "teamId", "team.id");
+    private static final Map<String, String> TEAM_FIELDS = FieldSelection.fields(
+            "id", "id", "name", "name", "acronym", "acronym");
+
+    private static final Comparator<SearchHitDTO> NAME_ORDER = Comparator
+            .comparingInt((SearchHitDTO hit) -> hit.name().length())
+            .thenComparing(SearchHitDTO::name, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(SearchHitDTO::type)
+            .thenComparing(SearchHitDTO::id);
+    private static final Comparator<Entry> ENTRY_ORDER = Comparator.comparing(Entry::hit, NAME_ORDER);
+    private static final Comparator<Candidate> RANKING = Comparator.comparingInt(Candidate::rank)
+            .thenComparing(Candidate::hit, NAME_ORDER);
+
+    @Autowired
+    private ProjectionRepository projectionRepository;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final NavigableMap<String, NavigableSet<Entry>> terms = new ConcurrentSkipListMap<>();
+    private final Map<String, Set<String>> trigrams = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile boolean loaded;
+
+    /**
+     * Searches the players and the teams whose name (or acronym) starts with the query, or nearly.
+     *
+     * @param query the text typed by the user
+     * @param limit the maximum number of hits to return
+     * @return the hits, best first
+     * @throws BadRequestException if the query holds no letter nor digit or is too long, or the limit is out of range
+     */
+    public List<SearchHitDTO> search(String query, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (query != null && query.length() > MAX_QUERY_LENGTH) {
+            throw new BadRequestException("q must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+        String normalized = SearchText.normalize(query);
+        if (normalized.isEmpty()) {
+            throw new BadRequestException("q must contain at least one letter or digit");
+        }
+        load();
+
+        TopHits hits = new TopHits(limit);
+        int visited = 0;
+        for (Map.Entry<String, NavigableSet<Entry>> term
+                : terms.subMap(normalized, true, normalized + Character.MAX_VALUE, false).entrySet()) {
+            hits.offer(term.getValue(), term.getKey().equals(normalized) ? 0 : 1);
+            if (++visited >= MAX_TERMS) {
+                break;
+            }
+        }
+        int maximum = SearchText.maximumDistance(normalized);
+        // tolérance aux fautes pour une requête d'un seul mot, sur chacun des mots des noms
+        if (maximum > 0 && !hits.isFull() && normalized.indexOf(' ') < 0) {
+            for (String term : similarTerms(normalized, maximum)) {
+                int distance = SearchText.prefixDistance(normalized, term, maximum);
+                if (distance <= maximum) {
+                    hits.offer(terms.get(term), 1 + distance);
+                }
+            }
+        }
+        return hits.toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        write(() -> {
+            if (event.type() == ChangeType.DELETED) {
+                remove(teamKey(event.teamId()));
+            } else {
+                put(teamKey(event.teamId()), team(event.teamId(), event.team().name(), event.team().acronym()));
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        write(() -> {
+            if (event.type() == ChangeType.DELETED) {
+                remove(playerKey(event.playerId()));
+            } else {
+                put(playerKey(event.playerId()), player(event.playerId(), event.player().name(), event.player().teamId()));
+            }
+        });
+    }
+
+    /**
+     * Loads the index on first use. The change events received before are ignored: the committed
+     * state they describe is read by the load, which runs after them.
+     */
+    private void load() {
+        if (loaded) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (!loaded) {
+                long start = System.nanoTime();
+                for (Map<String, Object> row : projectionRepository.findAll(
+                        Team.class, FieldSelection.all(TEAM_FIELDS), null, Sort.unsorted())) {
+                    Long id = (Long) row.get("id");
+                    put(teamKey(id), team(id, (String) row.get("name"), (String) row.get("acronym")));
+                }
+                for (Map<String, Object> row : projectionRepository.findAll(
+                        Player.class, FieldSelection.all(PLAYER_FIELDS), null, Sort.unsorted())) {
+                    Long id = (Long) row.get("id");
+                    put(playerKey(id), player(id, (String) row.get("name"), (Long) row.get("teamId")));
+                }
+                loaded = true;
+                LOGGER.info("Search index loaded with {} names and {} terms in {} ms",
+                        entries.size(), terms.size(), (System.nanoTime() - start) / 1_000_000);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void write(Runnable change) {
+        lock.lock();
+        try {
+            if (loaded) {
+                change.run();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(String key, SearchHitDTO hit) {
+        remove(key);
+        Set<String> entryTerms = SearchText.terms(SearchText.normalize(hit.name()));
+        if (hit.acronym() != null) {
+            entryTerms.addAll(SearchText.terms(SearchText.normalize(hit.acronym())));
+        }
+        Entry entry = new Entry(key, hit, entryTerms);
+        entries.put(key, entry);
+        for (String term : entryTerms) {
+            NavigableSet<Entry> termEntries = terms.get(term);
+            if (termEntries == null) {
+                termEntries = new ConcurrentSkipListSet<>(ENTRY_ORDER);
+                terms.put(term, termEntries);
+                if (term.indexOf(' ') < 0) {
+                    for (String trigram : SearchText.trigrams(term)) {
+                        trigrams.computeIfAbsent(trigram, t -> ConcurrentHashMap.newKeySet()).add(term);
+                    }
+                }
+            }
+            termEntries.add(entry);
+        }
+    }
+
+    private void remove(String key) {
+        Entry entry = entries.remove(key);
+        if (entry == null) {
+            return;
+        }
+        for (String term : entry.terms()) {
+            NavigableSet<Entry> termEntries = terms.get(term);
+            if (termEntries == null) {
+                continue;
+            }
+            termEntries.remove(entry);
+            if (termEntries.isEmpty()) {
+                terms.remove(term);
+                for (String trigram : SearchText.trigrams(term)) {
+                    Set<String> trigramTerms = trigrams.get(trigram);
+                    if (trigramTerms != null) {
+                        trigramTerms.remove(term);
+                        if (trigramTerms.isEmpty()) {
+                            trigrams.remove(trigram);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the terms sharing enough trigrams with the query to be within the given edit distance:
+     * each edit changes at most three trigrams.
+     *
+     * @param normalized the normalized query
+     * @param maximum    the largest edit distance
+     * @return the candidate terms
+     */
+    private List<String> similarTerms(String normalized, int maximum) {
+        Set<String> queryTrigrams = SearchText.trigrams(normalized);
+        int threshold = Math.max(1, queryTrigrams.size() - 3 * maximum);
+        Map<String, Integer> shared = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            trigrams.getOrDefault(trigram, Set.of()).forEach(term -> shared.merge(term, 1, Integer::sum));
+        }
+        return shared.entrySet().stream()
+                .filter(term -> term.getValue() >= threshold)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private static SearchHitDTO player(Long id, String name, Long teamId) {
+        return new SearchHitDTO(SearchHitDTO.Type.PLAYER, id, name, null, teamId);
+    }
+
+    private static SearchHitDTO team(Long id, String name, String acronym) {
+        return new SearchHitDTO(SearchHitDTO.Type.TEAM, id, name, acronym, null);
+    }
+
+    private static String playerKey(Long id) {
+        return "player:" + id;
+    }
+
+    private static String teamKey(Long id) {
+        return "team:" + id;
+    }
+
+    private record Entry(String key, SearchHitDTO hit, Set<String> terms) {
+    }
+
+    private record Candidate(Entry entry, int rank) {
+
+        SearchHitDTO hit() {
+            return entry.hit();
+        }
+    }
+
+    /**
+     * The best hits found so far, at most {@code limit} of them, each name once with its best rank.
+     */
+    private static final class TopHits {
+
+        private final int limit;
+        private final PriorityQueue<Candidate> worstFirst = new PriorityQueue<>(RANKING.reversed());
+        private final Map<String, Candidate> byKey = new HashMap<>();
+
+        TopHits(int limit) {
+            this.limit = limit;
+        }
+
+        /**
+         * Offers the names of a term, in their order. The reading of the term stops at the first name
+         * that is not among the best hits: the names after it, ranked the same, come after it.
+         *
+         * @param entries the names of the term, may be null if the term has just been removed
+         * @param rank    the rank of the term
+         */
+        void offer(NavigableSet<Entry> entries, int rank) {
+            if (entries == null) {
+                return;
+            }
+            for (Entry entry : entries) {
+                if (!offer(new Candidate(entry, rank))) {
+                    return;
+                }
+            }
+        }
+
+        private boolean offer(Candidate candidate) {
+            Candidate current = byKey.get(candidate.entry().key());
+            if (current != null) {
+                if (current.rank() <= candidate.rank()) {
+                    return true;
+                }
+                worstFirst.remove(current);
+            } else if (isFull()) {
+                if (RANKING.compare(candidate, worstFirst.peek()) >= 0) {
+                    return false;
+                }
+                byKey.remove(worstFirst.poll().entry().key());
+            }
+            worstFirst.add(candidate);
+            byKey.put(candidate.entry().key(), candidate);
+            return true;
+        }
+
+        boolean isFull() {
+            return worstFirst.size() >= limit;
+        }
+
+        List<SearchHitDTO> toList() {
+            return worstFirst.stream().sorted(RANKING).map(Candidate::hit).toList();
+        }
+    }
+}
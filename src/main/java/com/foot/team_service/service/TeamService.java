@@ -1,22 +1,55 @@
 package com.foot.team_service.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foot.team_service.config.CacheConfig;
+import com.foot.team_service.dto.CursorPageDTO;
 import com.foot.team_service.dto.TeamDTO;
+import com.foot.team_service.dto.TeamStatsDTO;
+import com.foot.team_service.event.ChangeType;
+import com.foot.team_service.event.PlayerChangedEvent;
+import com.foot.team_service.event.TeamChangedEvent;
+import com.foot.team_service.exception.BadRequestException;
+import com.foot.team_service.exception.PreconditionFailedException;
 import com.foot.team_service.exception.ResourceNotFoundException;
 import com.foot.team_service.model.Player;
 import com.foot.team_service.model.Team;
 import com.foot.team_service.repository.PlayerRepository;
+import com.foot.team_service.repository.ProjectionRepository;
 import com.foot.team_service.repository.TeamRepository;
+import com.foot.team_service.utils.mapper.PlayerMapper;
 import com.foot.team_service.utils.mapper.TeamMapper;
+import com.foot.team_service.utils.pagination.CursorPagination;
+import com.foot.team_service.utils.http.MergePatch;
+import com.foot.team_service.utils.cache.VersionedValue;
+import com.foot.team_service.utils.http.ResourceVersion;
+import com.foot.team_service.utils.pagination.PageCountMode;
+import com.foot.team_service.utils.projection.FieldSelection;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.data.domain.*;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -24,26 +57,56 @@ import java.util.stream.Collectors;
  *
  * This service provides methods for managing teams and their players, including
  * creating, updating, deleting, and retrieving teams.
+ * Each public method is timed in the {@code foot.service} metric, tagged with its class and method.
  *
  * @autor Kevin
  */
 @Service
+@Timed(value = "foot.service", description = "Time spent in the service methods, database included")
 public class TeamService implements ITeamService {
+    /**
+     * Fields of a team that can be requested with {@code fields}, with the attribute each one is read from.
+     * They are also the fields of the summary view; the roster is only part of the detail view.
+     */
+    public static final Map<String, String> FIELDS = FieldSelection.fields(
+            "id", "id", "name", "name", "acronym", "acronym", "budget", "budget",
+            "createdAt", "createdAt", "updatedAt", "updatedAt");
+
     private static final Logger LOGGER
             = LoggerFactory.getLogger(TeamService.class);
     @Autowired
     private TeamRepository repository;
     @Autowired
     private PlayerRepository playerRepository;
+    @Autowired
+    private ProjectionRepository projectionRepository;
+    @Autowired
+    private EntityCounter entityCounter;
+    @Autowired
+    private TeamStatistics teamStatistics;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private Validator validator;
 
     /**
      * Retrieves a paginated list of teams sorted by the specified criteria.
+     * <p>
+     * The rosters of the teams of the page are fetched with a single query, so the number
+     * of queries does not depend on the page size.
+     * </p>
      *
      * @param pageable the pagination and sorting information
      * @return a paginated list of team DTOs
      */
+    @Transactional
     public Page<TeamDTO> findAll(Pageable pageable) {
         Page<Team> teamsPageable = repository.findAll(pageable);
+        fetchRosters(teamsPageable.getContent());
         List<TeamDTO> teamDTOs = teamsPageable.getContent().stream()
                 .map(TeamMapper.INSTANCE::teamToTeamDTO)
                 .collect(Collectors.toList());
@@ -51,6 +114,79 @@ public class TeamService implements ITeamService {
 
     }
 
+    /**
+     * Retrieves a paginated list of teams, computing the total number of teams
+     * according to the given count mode.
+     *
+     * @param pageable  the pagination and sorting information
+     * @param countMode how the total number of teams is computed
+     * @return a page of team DTOs, or a slice when {@code countMode} is {@link PageCountMode#NONE}
+     */
+    @Transactional
+    public Slice<TeamDTO> findAll(Pageable pageable, PageCountMode countMode) {
+        if (countMode == PageCountMode.EXACT) {
+            return findAll(pageable);
+        }
+        Slice<Team> teams = repository.findAllBy(pageable);
+        fetchRosters(teams.getContent());
+        Slice<TeamDTO> teamDTOs = teams.map(TeamMapper.INSTANCE::teamToTeamDTO);
+        if (countMode == PageCountMode.NONE) {
+            return teamDTOs;
+        }
+        return new PageImpl<>(teamDTOs.getContent(), pageable, entityCounter.countTeams());
+    }
+
+    /**
+     * Retrieves a paginated list of teams, reading only the requested fields: the rosters are not read.
+     *
+     * @param pageable  the pagination and sorting information
+     * @param countMode how the total number of teams is computed
+     * @param fields    the fields to read, among {@link #FIELDS}
+     * @return a page of teams, each one as a map of its requested fields, or a slice when
+     * {@code countMode} is {@link PageCountMode#NONE}
+     */
+    public Slice<Map<String, Object>> findAll(Pageable pageable, PageCountMode countMode, FieldSelection fields) {
+        if (countMode == PageCountMode.EXACT) {
+            return projectionRepository.findPage(Team.class, fields, null, pageable);
+        }
+        Slice<Map<String, Object>> teams = projectionRepository.findSlice(Team.class, fields, null, pageable);
+        if (countMode == PageCountMode.NONE) {
+            return teams;
+        }
+        return new PageImpl<>(teams.getContent(), pageable, entityCounter.countTeams());
+    }
+
+    /**
+     * Retrieves a page of teams sorted by name, then by ID, using keyset pagination.
+     * <p>
+     * Unlike {@link #findAll(Pageable)}, reading a page costs the same whatever its depth,
+     * and no count query is run.
+     * </p>
+     *
+     * @param cursor the cursor returned with the previous page, null for the first page
+     * @param size   the maximum number of teams to return
+     * @return a cursor page of team DTOs
+     */
+    @Transactional
+    public CursorPageDTO<TeamDTO> scroll(String cursor, int size) {
+        Window<Team> teams = repository.findAllByOrderByNameAscIdAsc(
+                CursorPagination.position(cursor, CursorPagination.NAME_AND_ID_KEYS), CursorPagination.limit(size));
+        fetchRosters(teams.getContent());
+        return CursorPagination.toPage(teams, TeamMapper.INSTANCE::teamToTeamDTO);
+    }
+
+    /**
+     * Initializes the players of the given managed teams with one query.
+     *
+     * @param teams the teams whose rosters are about to be read
+     */
+    private void fetchRosters(List<Team> teams) {
+        if (teams.isEmpty()) {
+            return;
+        }
+        repository.findWithPlayersByIdIn(teams.stream().map(Team::getId).toList());
+    }
+
     /**
      * Creates a new team and associates its players if provided.
      *
@@ -61,64 +197,325 @@ public class TeamService implements ITeamService {
     public TeamDTO create(TeamDTO teamDTO) {
         Team team = TeamMapper.INSTANCE.teamDTOToTeam(teamDTO);
         Team teamSaved = repository.save(team);
-        for (Player player : team.getPlayers()) {
-            player.setTeam(teamSaved);
-            playerRepository.save(player);
-        }
+        saveRoster(teamSaved, team.getPlayers());
+        repository.flush();
         LOGGER.info("Team created: {}", team);
-        return TeamMapper.INSTANCE.teamToTeamDTO(teamSaved);
+        return publish(ChangeType.CREATED, TeamMapper.INSTANCE.teamToTeamDTO(teamSaved));
     }
 
     /**
      * Finds a team by its ID.
+     * <p>
+     * The result is cached, and evicted when the team changes (see {@link EntityCacheInvalidator}).
+     * The cached result is only returned for the version it was cached for (see {@link VersionedValue}).
+     * </p>
      *
-     * @param id the ID of the team to find
+     * @param id      the ID of the team to find
+     * @param version the current version of the team, see {@link #findVersion(Long)}
      * @return the team DTO with the specified ID
      * @throws ResourceNotFoundException if the team is not found
      */
     @Transactional
-    public TeamDTO findById(Long id) {
-        Team team = repository.findById(id)
+    public TeamDTO findById(Long id, ResourceVersion version) {
+        return VersionedValue.get(cacheManager.getCache(CacheConfig.TEAMS), id, version, () -> {
+            Team team = repository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Team not found for this id :: " + id));
+            return TeamMapper.INSTANCE.teamToTeamDTO(team);
+        });
+    }
+
+    /**
+     * Finds a team by its ID, reading only the requested fields: the roster is not read.
+     *
+     * @param id     the ID of the team
+     * @param fields the fields to read, among {@link #FIELDS}
+     * @return the requested fields of the team
+     * @throws ResourceNotFoundException if the team is not found
+     */
+    public Map<String, Object> findById(Long id, FieldSelection fields) {
+        Specification<Team> byId = (root, query, builder) -> builder.equal(root.get("id"), id);
+        return projectionRepository.findAll(Team.class, fields, byId, Sort.unsorted()).stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Team not found for this id :: " + id));
+    }
+
+    /**
+     * Reads the version of a team and its roster with a single aggregate query.
+     *
+     * @param id the ID of the team
+     * @return the version of the team
+     * @throws ResourceNotFoundException if the team is not found
+     */
+    public ResourceVersion findVersion(Long id) {
+        return repository.findVersionById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Team not found for this id :: " + id));
-        return TeamMapper.INSTANCE.teamToTeamDTO(team);
+    }
+
+    /**
+     * Returns the statistics of the roster of a team, read from the in-memory {@link TeamStatistics}
+     * kept up to date by the writes, not aggregated from the database.
+     *
+     * @param id the ID of the team
+     * @return the statistics of the team
+     * @throws ResourceNotFoundException if the team is not found
+     */
+    public TeamStatsDTO findStats(Long id) {
+        return teamStatistics.findByTeamId(id);
+    }
+
+    /**
+     * Returns the statistics of the roster of every team, read from the in-memory {@link TeamStatistics}.
+     *
+     * @return the statistics of the teams, sorted by team ID
+     */
+    public List<TeamStatsDTO> findAllStats() {
+        return teamStatistics.findAll();
     }
 
     /**
      * Updates an existing team.
+     * <p>
+     * The ETag in {@code ifMatch} is compared with the current one, then the team is loaded without
+     * its roster (from the second-level cache when it is there); only the changed columns are written,
+     * by a versioned UPDATE that also fails when the team is modified between the load and the flush.
+     * The players sent with the team are saved with it.
+     * </p>
      *
      * @param teamDTO the team DTO with updated details
      * @param id      the ID of the team to update
+     * @param ifMatch the ETag the client read (the {@code If-Match} header), null to update whatever the version
      * @return the updated team DTO
-     * @throws ResourceNotFoundException if the team is not found
+     * @throws ResourceNotFoundException   if the team is not found
+     * @throws PreconditionFailedException if the team has another version
      */
     @Transactional
-    public TeamDTO update(TeamDTO teamDTO, Long id) {
-        repository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Team not found for this id :: " + id));
-        Team team = TeamMapper.INSTANCE.teamDTOToTeam(teamDTO);
-        team.setId(id);
-        Team teamUpdate = repository.save(team);
-        for (Player player : team.getPlayers()) {
-            player.setTeam(teamUpdate);
-            playerRepository.save(player);
-        }
+    @Retryable(retryFor = ConcurrencyFailureException.class,
+            maxAttemptsExpression = "${foot.concurrency.retry.max-attempts:1}",
+            backoff = @Backoff(delayExpression = "${foot.concurrency.retry.delay:50}", multiplier = 2))
+    public TeamDTO update(TeamDTO teamDTO, Long id, String ifMatch) {
+        Long version = checkIfMatch(id, ifMatch);
+        Team team = findForWrite(id, version);
+        team.setName(teamDTO.name());
+        team.setAcronym(teamDTO.acronym());
+        team.setBudget(teamDTO.budget());
+        saveRoster(team, TeamMapper.INSTANCE.teamDTOToTeam(teamDTO).getPlayers());
+        flush(id, version);
         LOGGER.info("Team updated: {}", team);
-        return TeamMapper.INSTANCE.teamToTeamDTO(teamUpdate);
+        return publish(ChangeType.UPDATED, TeamMapper.INSTANCE.teamToTeamDTO(team));
+    }
+
+    /**
+     * Applies a JSON Merge Patch to a team.
+     * <p>
+     * The team is loaded without its roster, patched and validated as a DTO, then only the fields
+     * that actually changed are copied to the entity: {@code Team} being {@code @DynamicUpdate}, the
+     * UPDATE statement only sets these columns (plus {@code updatedAt} and {@code version}).
+     * The roster is only written when the patch has a {@code players} array, whose players are then
+     * saved like with {@link #update(TeamDTO, Long, String)}.
+     * </p>
+     *
+     * @param id      the ID of the team to patch
+     * @param patch   the merge patch, a JSON object
+     * @param ifMatch the ETag the client read (the {@code If-Match} header), null to patch whatever the version
+     * @return the patched team DTO
+     * @throws ResourceNotFoundException   if the team is not found
+     * @throws PreconditionFailedException if the team has another version
+     * @throws BadRequestException         if the patch is invalid, or the patched team is not valid
+     */
+    @Transactional
+    @Retryable(retryFor = ConcurrencyFailureException.class,
+            maxAttemptsExpression = "${foot.concurrency.retry.max-attempts:1}",
+            backoff = @Backoff(delayExpression = "${foot.concurrency.retry.delay:50}", multiplier = 2))
+    public TeamDTO patch(Long id, JsonNode patch, String ifMatch) {
+        Long version = checkIfMatch(id, ifMatch);
+        Team team = findForWrite(id, version);
+        TeamDTO current = new TeamDTO(team.getId(), team.getName(), team.getAcronym(), team.getBudget(),
+                null, team.getCreatedAt(), team.getUpdatedAt());
+        TeamDTO patched = MergePatch.apply(objectMapper, current, patch, TeamDTO.class);
+        validate(patched);
+
+        team.setName(patched.name());
+        team.setAcronym(patched.acronym());
+        team.setBudget(patched.budget());
+        if (patched.players() != null) {
+            saveRoster(team, TeamMapper.INSTANCE.teamDTOToTeam(patched).getPlayers());
+        }
+        flush(id, version);
+        LOGGER.info("Team patched: {}", team);
+        return publish(ChangeType.UPDATED, TeamMapper.INSTANCE.teamToTeamDTO(team));
+    }
+
+    /**
+     * Checks the constraints of a patched team, and of the players it holds.
+     *
+     * @param teamDTO the patched team
+     * @throws BadRequestException if a constraint is violated
+     */
+    private void validate(TeamDTO teamDTO) {
+        Set<ConstraintViolation<TeamDTO>> violations = validator.validate(teamDTO);
+        if (!violations.isEmpty()) {
+            throw new BadRequestException("Validation Failed :: " + violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+    }
+
+    /**
+     * Attaches the given players to the team and saves them together, so that Hibernate
+     * sends the statements in JDBC batches (on the next flush) instead of one round trip per player.
+     * <p>
+     * The players that already exist are read with one query and modified in place: merging
+     * the detached players built from the DTOs would fail on their {@code @Version}.
+     * A player whose ID is unknown is created.
+     * </p>
+     *
+     * @param team    the team the players belong to
+     * @param players the players of the team
+     */
+    private void saveRoster(Team team, List<Player> players) {
+        if (players.isEmpty()) {
+            return;
+        }
+        Map<Long, Player> existingPlayers = playerRepository.findAllById(players.stream()
+                        .map(Player::getId)
+                        .filter(Objects::nonNull)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Player::getId, Function.identity()));
+        List<Player> playersToSave = new ArrayList<>(players.size());
+        List<ChangeType> changes = new ArrayList<>(players.size());
+        List<Long> previousTeamIds = new ArrayList<>(players.size());
+        for (Player player : players) {
+            Player existingPlayer = player.getId() == null ? null : existingPlayers.get(player.getId());
+            if (existingPlayer == null) {
+                player.setId(null);
+                player.setTeam(team);
+                playersToSave.add(player);
+                changes.add(ChangeType.CREATED);
+                previousTeamIds.add(null);
+            } else {
+                previousTeamIds.add(existingPlayer.getTeam() == null ? null : existingPlayer.getTeam().getId());
+                existingPlayer.setName(player.getName());
+                existingPlayer.setNo(player.getNo());
+                existingPlayer.setMatchPlayed(player.getMatchPlayed());
+                existingPlayer.setPosition(player.getPosition());
+                existingPlayer.setTeam(team);
+                playersToSave.add(existingPlayer);
+                changes.add(ChangeType.UPDATED);
+            }
+        }
+        List<Player> playersSaved = playerRepository.saveAll(playersToSave);
+        for (int i = 0; i < playersSaved.size(); i++) {
+            Player playerSaved = playersSaved.get(i);
+            eventPublisher.publishEvent(new PlayerChangedEvent(
+                    changes.get(i), playerSaved.getId(), previousTeamIds.get(i),
+                    PlayerMapper.INSTANCE.playerToPlayerDTO(playerSaved)));
+        }
+    }
+
+    /**
+     * Publishes the change made to a team.
+     *
+     * @param type    the kind of change
+     * @param teamDTO the team after the change
+     * @return the team DTO, for chaining
+     */
+    private TeamDTO publish(ChangeType type, TeamDTO teamDTO) {
+        eventPublisher.publishEvent(new TeamChangedEvent(type, teamDTO.id(), teamDTO));
+        return teamDTO;
     }
 
     /**
      * Deletes a team by its ID.
+     * <p>
+     * The ETag in {@code ifMatch} is compared with the current one, then the team is loaded. Its players are detached
+     * (see {@link Team}), then the team is deleted by a versioned DELETE; if the team cannot be
+     * deleted, the transaction is rolled back and the players stay in the team. Each detached player
+     * is published as an update of the player, leaving the deleted team.
+     * </p>
      *
-     * @param id the ID of the team to delete
+     * @param id      the ID of the team to delete
+     * @param ifMatch the ETag the client read (the {@code If-Match} header), null to delete whatever the version
      * @return a response entity with no content status
-     * @throws ResourceNotFoundException if the team is not found
+     * @throws ResourceNotFoundException   if the team is not found
+     * @throws PreconditionFailedException if the team has another version
      */
     @Transactional
-    public ResponseEntity<?> delete(Long id) {
-        repository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Team not found for this id :: " + id));
-        repository.deleteById(id);
+    @Retryable(retryFor = ConcurrencyFailureException.class,
+            maxAttemptsExpression = "${foot.concurrency.retry.max-attempts:1}",
+            backoff = @Backoff(delayExpression = "${foot.concurrency.retry.delay:50}", multiplier = 2))
+    public ResponseEntity<?> delete(Long id, String ifMatch) {
+        Long version = checkIfMatch(id, ifMatch);
+        Team team = findForWrite(id, version);
+        repository.delete(team);
+        flush(id, version);
         LOGGER.info("Team {} deleted", id);
+        for (Player player : team.getPlayers()) {
+            eventPublisher.publishEvent(new PlayerChangedEvent(
+                    ChangeType.UPDATED, player.getId(), id, PlayerMapper.INSTANCE.playerToPlayerDTO(player)));
+        }
+        eventPublisher.publishEvent(new TeamChangedEvent(ChangeType.DELETED, id, null));
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Checks the ETag of a conditional write against the current version of the team and its roster.
+     * <p>
+     * Moving a player into or out of the team, or modifying one of its players, changes the ETag of the
+     * team but not the {@code @Version} of its row: comparing the row version alone would let a write
+     * based on an outdated roster through.
+     * </p>
+     *
+     * @param id      the ID of the team
+     * @param ifMatch the ETag the client read, null for an unconditional write
+     * @return the row version held by the ETag, null for an unconditional write
+     * @throws ResourceNotFoundException   if the team is not found
+     * @throws PreconditionFailedException if the team or its roster has been modified
+     */
+    private Long checkIfMatch(Long id, String ifMatch) {
+        Long version = ResourceVersion.versionOf(ifMatch);
+        if (version != null && !findVersion(id).matches(ifMatch)) {
+            throw new PreconditionFailedException("Team has been modified, version does not match for this id :: " + id);
+        }
+        return version;
+    }
+
+    /**
+     * Loads a team to write it, and checks the version the client read.
+     *
+     * @param id      the ID of the team
+     * @param version the version the client read, null to write whatever the version
+     * @return the team
+     * @throws ResourceNotFoundException   if the team is not found
+     * @throws PreconditionFailedException if the team has another version
+     */
+    private Team findForWrite(Long id, Long version) {
+        Team team = repository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Team not found for this id :: " + id));
+        if (version != null && version != team.getVersion()) {
+            throw new PreconditionFailedException("Team has been modified, version does not match for this id :: " + id);
+        }
+        return team;
+    }
+
+    /**
+     * Flushes a write. A versioned statement that matches no row means the team or one of its
+     * players was modified after being loaded: a precondition failure for a conditional write,
+     * otherwise a concurrency failure, which is retried.
+     *
+     * @param id      the ID of the written team
+     * @param version the version the client read, null if the write was unconditional
+     * @throws PreconditionFailedException if a conditional write lost against another one
+     */
+    private void flush(Long id, Long version) {
+        try {
+            repository.flush();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            if (version == null) {
+                throw e;
+            }
+            throw new PreconditionFailedException("Team has been modified, version does not match for this id :: " + id);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.foot.team_service.service;
+
+import com.foot.team_service.dto.PlayerDTO;
+import com.foot.team_service.dto.TeamStatsDTO;
+import com.foot.team_service.event.ChangeType;
+import com.foot.team_service.event.PlayerChangedEvent;
+import com.foot.team_service.event.TeamChangedEvent;
+import com.foot.team_service.exception.ResourceNotFoundException;
+import com.foot.team_service.model.Player;
+import com.foot.team_service.model.Team;
+import com.foot.team_service.repository.ProjectionRepository;
+import com.foot.team_service.utils.projection.FieldSelection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the statistics of the roster of each team in memory (number of players, matches played,
+ * players per position, budget per player), to serve the stats endpoints without aggregating
+ * the players on every request.
+ * <p>
+ * The statistics are loaded with two projection queries on first use, then updated from the committed
+ * change events: the team, matches played and position of each player of a team are kept, so that a
+ * change of a player removes its previous contribution before adding the new one, and applying the same
+ * event twice changes nothing. They are reloaded once their time to live has expired, which bounds the
+ * drift caused by writes the application does not see (another instance, a script...).
+ * </p>
+ * <p>
+ * Each team has an immutable summary, replaced on change: readers never wait for writers and never see
+ * a half-applied change.
+ * </p>
+ */
+@Component
+public class TeamStatistics {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TeamStatistics.class);
+
+    private static final Map<String, String> TEAM_FIELDS = FieldSelection.fields(
+            "id", "id", "name", "name", "budget", "budget");
+    private static final Map<String, String> PLAYER_FIELDS = FieldSelection.fields(
+            "id", "id", "teamId", "team.id", "matchPlayed", "matchPlayed", "position", "position");
+
+    @Autowired
+    private ProjectionRepository projectionRepository;
+
+    @Value("${foot.stats.ttl:5m}")
+    private Duration timeToLive = Duration.ofMinutes(5);
+
+    // pas de synchronized : le chargement fait des requêtes JDBC, qui bloqueraient le thread porteur d'un thread virtuel
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile State state;
+    private volatile long loadedAt;
+
+    /**
+     * Returns the statistics of a team.
+     *
+     * @param teamId the ID of the team
+     * @return the statistics of the team
+     * @throws ResourceNotFoundException if the team is not found
+     */
+    public TeamStatsDTO findByTeamId(Long teamId) {
+        Summary summary = current().teams().get(teamId);
+        if (summary == null || summary.name() == null) {
+            throw new ResourceNotFoundException("Team not found for this id :: " + teamId);
+        }
+        return summary.toDTO(teamId);
+    }
+
+    /**
+     * Returns the statistics of every team.
+     *
+     * @return the statistics of the teams, sorted by team ID
+     */
+    public List<TeamStatsDTO> findAll() {
+        return current().teams().entrySet().stream()
+                .filter(team -> team.getValue().name() != null)
+                .map(team -> team.getValue().toDTO(team.getKey()))
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        write(current -> {
+            if (event.type() == ChangeType.DELETED) {
+                current.teams().remove(event.teamId());
+            } else {
+                current.teams().merge(event.teamId(), Summary.EMPTY.withTeam(event.team().name(), event.team().budget()),
+                        (summary, team) -> summary.withTeam(team.name(), team.budget()));
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        write(current -> {
+            Line previous = current.players().remove(event.playerId());
+            if (previous != null) {
+                current.teams().computeIfPresent(previous.teamId(), (teamId, summary) -> summary.minus(previous));
+            }
+            PlayerDTO player = event.player();
+            if (event.type() != ChangeType.DELETED && player.teamId() != null) {
+                Line line = new Line(player.teamId(), player.matchPlayed(), player.position());
+                current.players().put(event.playerId(), line);
+                // l'événement de l'équipe peut arriver après ceux de son effectif (création, import) :
+                // le résumé est créé sans nom, et n'est exposé qu'une fois l'équipe connue
+                current.teams().merge(line.teamId(), Summary.EMPTY.plus(line), (summary, empty) -> summary.plus(line));
+            }
+        });
+    }
+
+    /**
+     * Returns the statistics, loading them on first use and reloading them once their time to live
+     * has expired. A reload in progress does not block the readers: they get the previous statistics.
+     */
+    private State current() {
+        State current = state;
+        if (current != null && !isStale()) {
+            return current;
+        }
+        if (current != null && !lock.tryLock()) {
+            return current;
+        }
+        if (current == null) {
+            lock.lock();
+        }
+        try {
+            if (state == null || isStale()) {
+                state = load();
+                loadedAt = System.nanoTime();
+            }
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Aggregates the players of each team. The change events received during the load wait for it,
+     * then apply to the new statistics: applying a change already read by the load changes nothing.
+     */
+    private State load() {
+        long start = System.nanoTime();
+        State loaded = new State(new ConcurrentSkipListMap<>(), new HashMap<>());
+        for (Map<String, Object> row : projectionRepository.findAll(
+                Team.class, FieldSelection.all(TEAM_FIELDS), null, Sort.unsorted())) {
+            loaded.teams().put((Long) row.get("id"), Summary.EMPTY.withTeam((String) row.get("name"), (Integer) row.get("budget")));
+        }
+        Specification<Player> inTeam = (root, query, builder) -> builder.isNotNull(root.get("team"));
+        for (Map<String, Object> row : projectionRepository.findAll(
+                Player.class, FieldSelection.all(PLAYER_FIELDS), inTeam, Sort.unsorted())) {
+            Line line = new Line((Long) row.get("teamId"), (Integer) row.get("matchPlayed"), (String) row.get("position"));
+            loaded.players().put((Long) row.get("id"), line);
+            loaded.teams().computeIfPresent(line.teamId(), (teamId, summary) -> summary.plus(line));
+        }
+        LOGGER.info("Team statistics loaded for {} teams and {} players in {} ms",
+                loaded.teams().size(), loaded.players().size(), (System.nanoTime() - start) / 1_000_000);
+        return loaded;
+    }
+
+    private void write(Consumer<State> change) {
+        lock.lock();
+        try {
+            if (state != null) {
+                change.accept(state);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isStale() {
+        return System.nanoTime() - loadedAt > timeToLive.toNanos();
+    }
+
+    /**
+     * The summaries of the teams, read without lock, and the contribution of each player of a team,
+     * only read and written under the lock.
+     */
+    private record State(NavigableMap<Long, Summary> teams, Map<Long, Line> players) {
+    }
+
+    /**
+     * What a player adds to the summary of its team.
+     */
+    private record Line(Long teamId, int matchPlayed, String position) {
+    }
+
+    private record Summary(String name, Integer budget, int playerCount, long totalMatchPlayed,
+                           Map<String, Integer> positions) {
+
+        static final Summary EMPTY = new Summary(null, null, 0, 0, Map.of());
+
+        Summary withTeam(String name, Integer budget) {
+            return new Summary(name, budget, playerCount, totalMatchPlayed, positions);
+        }
+
+        Summary plus(Line line) {
+            return new Summary(name, budget, playerCount + 1, totalMatchPlayed + line.matchPlayed(),
+                    count(line.position(), 1));
+        }
+
+        Summary minus(Line line) {
+            return new Summary(name, budget, playerCount - 1, totalMatchPlayed - line.matchPlayed(),
+                    count(line.position(), -1));
+        }
+
+        private Map<String, Integer> count(String position, int delta) {
+            TreeMap<String, Integer> counted = new TreeMap<>(positions);
+            counted.merge(position, delta, (count, change) -> count + change == 0 ? null : count + change);
+            return Collections.unmodifiableMap(counted);
+        }
+
+        TeamStatsDTO toDTO(Long teamId) {
+            if (playerCount == 0) {
+                return new TeamStatsDTO(teamId, name, budget, 0, 0, null, positions, null);
+            }
+            return new TeamStatsDTO(teamId, name, budget, playerCount, totalMatchPlayed,
+                    (double) totalMatchPlayed / playerCount, positions,
+                    budget == null ? null : Math.round((double) budget / playerCount));
+        }
+    }
+}
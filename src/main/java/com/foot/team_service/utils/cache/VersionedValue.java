@@ -0,0 +1,43 @@
+package com.foot.team_service.utils.cache;
+
+import com.foot.team_service.utils.http.ResourceVersion;
+import org.springframework.cache.Cache;
+
+import java.util.function.Supplier;
+
+/**
+ * Value of the team and player caches: a DTO and the version of the resource it was cached for.
+ * <p>
+ * Evicting an entry when a write commits does not stop a read that started before the commit from
+ * putting the old state back afterwards. A cached value is therefore only served for the version it
+ * was cached for, which the controllers read from the database to build the ETag: a value put back
+ * by such a read has an older version, and is read again and replaced.
+ * </p>
+ *
+ * @param version the version of the resource when the value was cached
+ * @param value   the cached value
+ * @param <T>     the type of the cached value
+ */
+public record VersionedValue<T>(ResourceVersion version, T value) {
+
+    /**
+     * Returns the value cached under the given key for the given version, or loads and caches it.
+     *
+     * @param cache   the cache
+     * @param key     the key of the value
+     * @param version the current version of the resource
+     * @param loader  reads the value from the database
+     * @param <T>     the type of the value
+     * @return the value
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T get(Cache cache, Object key, ResourceVersion version, Supplier<T> loader) {
+        VersionedValue<?> cached = cache.get(key, VersionedValue.class);
+        if (cached != null && cached.version().equals(version)) {
+            return (T) cached.value();
+        }
+        T value = loader.get();
+        cache.put(key, new VersionedValue<>(version, value));
+        return value;
+    }
+}
@@ -0,0 +1,88 @@
+package com.foot.team_service.utils.filter;
+
+import com.foot.team_service.exception.BadRequestException;
+import com.foot.team_service.model.Player;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The filters of the list of players, bound from the query parameters, e.g.
+ * {@code ?position=Milieu&teamId=3&minMatchPlayed=10}. Absent parameters do not filter.
+ * <p>
+ * Each filter is served by an index of {@code Player}: {@code position} and {@code teamId} lead an
+ * index followed by {@code name}, so a filtered list sorted by name reads the index in order;
+ * {@code no} and {@code matchPlayed} each lead their own index, which serves their ranges.
+ * </p>
+ *
+ * @param position       the exact position of the players
+ * @param teamId         the ID of the team of the players
+ * @param minNo          the smallest number, inclusive
+ * @param maxNo          the largest number, inclusive
+ * @param minMatchPlayed the smallest number of matches played, inclusive
+ * @param maxMatchPlayed the largest number of matches played, inclusive
+ */
+public record PlayerFilter(
+        String position,
+
+        Long teamId,
+
+        Integer minNo,
+
+        Integer maxNo,
+
+        Integer minMatchPlayed,
+
+        Integer maxMatchPlayed
+) {
+
+    public static final PlayerFilter NONE = new PlayerFilter(null, null, null, null, null, null);
+
+    /**
+     * Tells whether no filter is set.
+     *
+     * @return true if every player matches
+     */
+    public boolean isEmpty() {
+        return NONE.equals(this);
+    }
+
+    /**
+     * Builds the specification matching the players that pass every filter.
+     *
+     * @return the specification, null when no filter is set
+     * @throws BadRequestException if a range is empty (its minimum is greater than its maximum)
+     */
+    public Specification<Player> toSpecification() {
+        checkRange("minNo", minNo, "maxNo", maxNo);
+        checkRange("minMatchPlayed", minMatchPlayed, "maxMatchPlayed", maxMatchPlayed);
+        List<Specification<Player>> specifications = new ArrayList<>();
+        if (position != null) {
+            specifications.add((root, query, builder) -> builder.equal(root.get("position"), position));
+        }
+        if (teamId != null) {
+            // team.id est lu dans la clé étrangère, sans jointure
+            specifications.add((root, query, builder) -> builder.equal(root.get("team").get("id"), teamId));
+        }
+        if (minNo != null) {
+            specifications.add((root, query, builder) -> builder.greaterThanOrEqualTo(root.get("no"), minNo));
+        }
+        if (maxNo != null) {
+            specifications.add((root, query, builder) -> builder.lessThanOrEqualTo(root.get("no"), maxNo));
+        }
+        if (minMatchPlayed != null) {
+            specifications.add((root, query, builder) -> builder.greaterThanOrEqualTo(root.get("matchPlayed"), minMatchPlayed));
+        }
+        if (maxMatchPlayed != null) {
+            specifications.add((root, query, builder) -> builder.lessThanOrEqualTo(root.get("matchPlayed"), maxMatchPlayed));
+        }
+        return specifications.isEmpty() ? null : Specification.allOf(specifications);
+    }
+
+    private static void checkRange(String minName, Integer min, String maxName, Integer max) {
+        if (min != null && max != null && min > max) {
+            throw new BadRequestException(minName + " must not be greater than " + maxName);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.foot.team_service.utils.http;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.foot.team_service.exception.BadRequestException;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Helpers for JSON Merge Patch (RFC 7386) requests.
+ * <p>
+ * A merge patch is a JSON object holding only the members to change: a member set to
+ * {@code null} is removed, an object is merged recursively, and any other value (arrays
+ * included) replaces the current one. For instance {@code {"budget":2500}} only changes the
+ * budget of a team, and leaves its roster alone.
+ * </p>
+ */
+public final class MergePatch {
+
+    public static final String MEDIA_TYPE_VALUE = "application/merge-patch+json";
+
+    private MergePatch() {
+    }
+
+    /**
+     * Applies a merge patch to a DTO.
+     *
+     * @param objectMapper the mapper used to convert the DTO to JSON and back
+     * @param target       the current state of the resource
+     * @param patch        the merge patch, must be a JSON object
+     * @param type         the type of the DTO
+     * @param <T>          the type of the DTO
+     * @return a new DTO, with the patch applied (not validated)
+     * @throws BadRequestException if the patch is not a JSON object or does not fit the DTO
+     */
+    public static <T> T apply(ObjectMapper objectMapper, T target, JsonNode patch, Class<T> type) {
+        if (patch == null || !patch.isObject()) {
+            throw new BadRequestException("A merge patch must be a JSON object");
+        }
+        try {
+            return objectMapper.treeToValue(apply(objectMapper.valueToTree(target), patch), type);
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("Invalid merge patch :: " + e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * Applies a merge patch to a JSON document, as described in RFC 7386. Neither argument is modified.
+     *
+     * @param target the JSON document, may be null
+     * @param patch  the merge patch
+     * @return the patched document
+     */
+    public static JsonNode apply(JsonNode target, JsonNode patch) {
+        if (!patch.isObject()) {
+            return patch;
+        }
+        ObjectNode result = target != null && target.isObject()
+                ? ((ObjectNode) target).deepCopy()
+                : ((ObjectNode) patch).objectNode();
+        Iterator<Map.Entry<String, JsonNode>> members = patch.fields();
+        while (members.hasNext()) {
+            Map.Entry<String, JsonNode> member = members.next();
+            if (member.getValue().isNull()) {
+                result.remove(member.getKey());
+            } else {
+                result.set(member.getKey(), apply(result.get(member.getKey()), member.getValue()));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,203 @@
+package com.foot.team_service.utils.http;
+
+import com.foot.team_service.exception.PreconditionFailedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Version of a REST resource, used to answer conditional GET requests
+ * ({@code If-None-Match} / {@code If-Modified-Since}) without loading the resource,
+ * and to check the {@code If-Match} header of conditional writes.
+ * <p>
+ * It is read with an aggregate query on the {@code updatedAt} columns: the latest modification
+ * date of the rows the resource is built from, and the number of these rows, so that removing
+ * a player from a roster (which does not touch the remaining rows) also changes the version.
+ * </p>
+ * <p>
+ * For a single team or player, the ETag also starts with the {@code @Version} of its row, compared by
+ * the conditional updates and deletes, see {@link #versionOf(String)}. The ETag of a team also covers
+ * its roster, which does not change the version of the team row: the conditional writes of a team
+ * compare the whole ETag, see {@link #matches(String)}.
+ * </p>
+ * <p>
+ * The same resource can be sent in JSON, CBOR or Smile (see {@code BinaryFormatsConfig}): the ETag of
+ * a binary representation ends with its format, see {@link #eTag(WebRequest)}.
+ * </p>
+ *
+ * @param version      the {@code @Version} of the main row, null for a list of rows
+ * @param lastModified the latest {@code updatedAt} of the rows, null if there is none
+ * @param count        the number of rows
+ */
+public record ResourceVersion(Long version, LocalDateTime lastModified, long count) {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    /**
+     * Builds the version of a list of rows.
+     *
+     * @param lastModified the latest {@code updatedAt} of the rows, null if there is none
+     * @param count        the number of rows
+     */
+    public ResourceVersion(LocalDateTime lastModified, long count) {
+        this(null, lastModified, count);
+    }
+
+    /**
+     * Builds the version of a resource made of a parent row and its children (a team and its players).
+     *
+     * @param version           the {@code @Version} of the parent row
+     * @param updatedAt         the {@code updatedAt} of the parent row
+     * @param childrenUpdatedAt the latest {@code updatedAt} of the children, null if there is none
+     * @param childrenCount     the number of children
+     */
+    public ResourceVersion(Long version, LocalDateTime updatedAt, LocalDateTime childrenUpdatedAt, Long childrenCount) {
+        this(version, latest(updatedAt, childrenUpdatedAt), childrenCount + 1);
+    }
+
+    /**
+     * Builds the version of a resource made of a parent row and its children, without row version.
+     *
+     * @param updatedAt         the {@code updatedAt} of the parent row
+     * @param childrenUpdatedAt the latest {@code updatedAt} of the children, null if there is none
+     * @param childrenCount     the number of children
+     */
+    public ResourceVersion(LocalDateTime updatedAt, LocalDateTime childrenUpdatedAt, Long childrenCount) {
+        this(null, updatedAt, childrenUpdatedAt, childrenCount);
+    }
+
+    /**
+     * Returns the strong entity tag of the resource.
+     *
+     * @return the ETag value, without the quotes
+     */
+    public String eTag() {
+        long micros = lastModified == null ? 0
+                : lastModified.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + lastModified.getNano() / 1_000;
+        String tag = Long.toHexString(micros) + "-" + Long.toHexString(count);
+        return version == null ? tag : version + "." + tag;
+    }
+
+    /**
+     * Returns the strong entity tag of the representation of the resource asked for by the request.
+     * <p>
+     * The representation is chosen from the {@code Accept} header as the message converters do:
+     * the ETag of the JSON representation is {@link #eTag()}, the one of CBOR or Smile ends with
+     * {@code +cbor} or {@code +smile}, so that an ETag never matches another representation.
+     * </p>
+     *
+     * @param request the request
+     * @return the ETag value, without the quotes
+     */
+    public String eTag(WebRequest request) {
+        String format = binaryFormat(request.getHeader(HttpHeaders.ACCEPT));
+        return format == null ? eTag() : eTag() + "+" + format;
+    }
+
+    /**
+     * Returns the {@code Last-Modified} date of the resource.
+     *
+     * @return the date in milliseconds since the epoch, -1 if unknown
+     */
+    public long lastModifiedMillis() {
+        return lastModified == null ? -1 : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Reads the row version expected by an {@code If-Match} header.
+     * <p>
+     * The header must hold one of the strong ETags returned for a single team or player.
+     * Any other value (weak or unknown tag, list of tags) cannot match the current version.
+     * </p>
+     *
+     * @param ifMatch the value of the {@code If-Match} header, may be null
+     * @return the expected version, or null if the header is absent or {@code *} (unconditional write)
+     * @throws PreconditionFailedException if the header does not hold a version
+     */
+    public static Long versionOf(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String eTag = ifMatch.trim();
+        int dot = eTag.indexOf('.');
+        if (eTag.length() < 2 || eTag.charAt(0) != '"' || eTag.charAt(eTag.length() - 1) != '"' || dot < 0) {
+            throw new PreconditionFailedException("If-Match does not match the current version :: " + ifMatch);
+        }
+        try {
+            return Long.parseLong(eTag.substring(1, dot));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match does not match the current version :: " + ifMatch);
+        }
+    }
+
+    /**
+     * Tells whether an {@code If-Match} header holds the ETag of the resource.
+     * <p>
+     * Any representation of the resource matches: the format that ends the ETag of a binary
+     * representation is not compared.
+     * </p>
+     *
+     * @param ifMatch the value of the {@code If-Match} header, may be null
+     * @return true if the header holds the current ETag, or is absent or {@code *} (unconditional write)
+     */
+    public boolean matches(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return true;
+        }
+        String eTag = ifMatch.trim();
+        if (eTag.length() < 2 || eTag.charAt(0) != '"' || eTag.charAt(eTag.length() - 1) != '"') {
+            return false;
+        }
+        int format = eTag.indexOf('+');
+        return eTag.substring(1, format < 0 ? eTag.length() - 1 : format).equals(eTag());
+    }
+
+    /**
+     * Tells which binary format an {@code Accept} header asks for.
+     *
+     * @param accept the value of the {@code Accept} header, may be null
+     * @return {@code cbor} or {@code smile}, or null for JSON
+     */
+    private static String binaryFormat(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return null;
+        }
+        List<MediaType> acceptableTypes;
+        try {
+            acceptableTypes = MediaType.parseMediaTypes(accept);
+            MimeTypeUtils.sortBySpecificity(acceptableTypes);
+        } catch (IllegalArgumentException e) {
+            // en-tête invalide : les convertisseurs y répondent 406, pas en JSON
+            return null;
+        }
+        for (MediaType acceptableType : acceptableTypes) {
+            if (acceptableType.getQualityValue() == 0) {
+                continue;
+            }
+            // JSON est le premier convertisseur : il l'emporte sur */* et à préférence égale
+            if (acceptableType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return null;
+            }
+            if (acceptableType.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                return "cbor";
+            }
+            if (acceptableType.isCompatibleWith(SMILE)) {
+                return "smile";
+            }
+        }
+        return null;
+    }
+
+    private static LocalDateTime latest(LocalDateTime first, LocalDateTime second) {
+        if (first == null) {
+            return second;
+        }
+        return second == null || first.isAfter(second) ? first : second;
+    }
+}
@@ -0,0 +1,37 @@
+package com.foot.team_service.utils.importing;
+
+import com.foot.team_service.exception.BadRequestException;
+import org.springframework.http.MediaType;
+
+/**
+ * Format of the files accepted by the bulk imports.
+ */
+public enum ImportFormat {
+    /**
+     * One JSON document per line ({@code application/x-ndjson}).
+     */
+    NDJSON,
+    /**
+     * Comma separated values with a header line naming the fields ({@code text/csv}).
+     */
+    CSV;
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    /**
+     * Returns the format matching the content type of a request.
+     *
+     * @param contentType the content type of the request
+     * @return the import format
+     * @throws BadRequestException if the content type is not supported
+     */
+    public static ImportFormat of(MediaType contentType) {
+        if (MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            return NDJSON;
+        }
+        if (MediaType.valueOf(TEXT_CSV_VALUE).isCompatibleWith(contentType)) {
+            return CSV;
+        }
+        throw new BadRequestException("Unsupported import format :: " + contentType);
+    }
+}
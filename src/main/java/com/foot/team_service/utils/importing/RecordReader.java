@@ -0,0 +1,158 @@
+package com.foot.team_service.utils.importing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the records of an NDJSON or CSV stream one line at a time.
+ * <p>
+ * Only the current line is held in memory. A line that cannot be parsed does not stop the
+ * reading: it is returned as a record with an error, so that the import can report it
+ * and go on with the next line. Blank lines are skipped. An NDJSON line must hold a JSON object.
+ * </p>
+ * <p>
+ * CSV records cannot span several lines; fields may be quoted with {@code "} to contain commas,
+ * and an empty field is read as absent.
+ * </p>
+ *
+ * @param <T> the type of the records
+ */
+public class RecordReader<T> implements Closeable {
+
+    /**
+     * A record read from the stream.
+     *
+     * @param line  the line number, starting at 1
+     * @param value the parsed record, null if the line could not be parsed
+     * @param error why the line could not be parsed, null otherwise
+     */
+    public record Record<T>(long line, T value, String error) {
+    }
+
+    private final BufferedReader reader;
+    private final ImportFormat format;
+    private final Class<T> type;
+    private final ObjectMapper objectMapper;
+    private List<String> header;
+    private long lineNumber;
+
+    public RecordReader(InputStream input, ImportFormat format, Class<T> type, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.format = format;
+        this.type = type;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return the next record, or null at the end of the stream
+     * @throws IOException if the stream cannot be read
+     */
+    public Record<T> next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank() || (format == ImportFormat.CSV && readHeader(line)));
+        // null, un nombre ou un tableau ne sont pas des enregistrements (readValue renverrait null pour "null")
+        if (format == ImportFormat.NDJSON && !line.stripLeading().startsWith("{")) {
+            return new Record<>(lineNumber, null, "Invalid record :: expected a JSON object");
+        }
+        try {
+            T value = format == ImportFormat.CSV
+                    ? objectMapper.convertValue(csvRecord(line), type)
+                    : objectMapper.readValue(line, type);
+            return new Record<>(lineNumber, value, null);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return new Record<>(lineNumber, null, "Invalid record :: " + firstLine(e.getMessage()));
+        }
+    }
+
+    /**
+     * Reads the CSV header if it has not been read yet.
+     *
+     * @return true if the line was the header
+     */
+    private boolean readHeader(String line) {
+        if (header != null) {
+            return false;
+        }
+        // un BOM UTF-8 (fichiers exportés depuis Excel) ne doit pas faire partie du premier nom de colonne
+        header = fields(line.replace("\uFEFF", "")).stream().map(String::trim).toList();
+        return true;
+    }
+
+    private Map<String, String> csvRecord(String line) {
+        List<String> fields = fields(line);
+        if (fields.size() != header.size()) {
+            throw new IllegalArgumentException(
+                    "expected " + header.size() + " fields but found " + fields.size());
+        }
+        Map<String, String> record = new LinkedHashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            if (!fields.get(i).isEmpty()) {
+                record.put(header.get(i), fields.get(i));
+            }
+        }
+        return record;
+    }
+
+    /**
+     * Splits a CSV line into fields, handling quoted fields and doubled quotes.
+     */
+    static List<String> fields(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) {
+            return "";
+        }
+        int end = message.indexOf('\n');
+        return end < 0 ? message : message.substring(0, end);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
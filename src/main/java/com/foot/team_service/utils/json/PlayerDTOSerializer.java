@@ -0,0 +1,63 @@
+package com.foot.team_service.utils.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.foot.team_service.dto.PlayerDTO;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Writes a {@link PlayerDTO} field by field. See {@link RecordSerializer}.
+ */
+@JsonComponent
+public class PlayerDTOSerializer extends RecordSerializer<PlayerDTO> implements ContextualSerializer {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString NO = new SerializedString("no");
+    private static final SerializableString MATCH_PLAYED = new SerializedString("matchPlayed");
+    private static final SerializableString POSITION = new SerializedString("position");
+    private static final SerializableString TEAM_ID = new SerializedString("teamId");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+
+    private final JsonSerializer<Object> dateSerializer;
+
+    public PlayerDTOSerializer() {
+        this(null);
+    }
+
+    private PlayerDTOSerializer(JsonSerializer<Object> dateSerializer) {
+        super(PlayerDTO.class);
+        this.dateSerializer = dateSerializer;
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+        return dateSerializer != null ? this : new PlayerDTOSerializer(provider.findValueSerializer(LocalDateTime.class, null));
+    }
+
+    @Override
+    public void serialize(PlayerDTO player, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        JsonSerializer<Object> dates = serializer(dateSerializer, LocalDateTime.class, provider);
+        generator.writeStartObject(player, 8);
+        writeNumber(generator, ID, player.id());
+        writeString(generator, NAME, player.name());
+        writeNumber(generator, NO, player.no());
+        generator.writeFieldName(MATCH_PLAYED);
+        generator.writeNumber(player.matchPlayed());
+        writeString(generator, POSITION, player.position());
+        writeNumber(generator, TEAM_ID, player.teamId());
+        writeDate(generator, CREATED_AT, player.createdAt(), dates, provider);
+        writeDate(generator, UPDATED_AT, player.updatedAt(), dates, provider);
+        generator.writeEndObject();
+    }
+}
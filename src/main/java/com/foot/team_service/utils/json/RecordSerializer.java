@@ -0,0 +1,75 @@
+package com.foot.team_service.utils.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Base class of the hand-written serializers of the DTO records.
+ * <p>
+ * The field names are pre-encoded {@link SerializableString}s, and the values are written with the
+ * typed methods of the generator, instead of going through the accessors and the per-property
+ * serializers of Jackson's bean serializer. Dates are still written by the {@link LocalDateTime}
+ * serializer of the mapper, so that its configuration (ISO strings or timestamps) applies.
+ * The output is the one of the default serializer: same fields, same order, nulls included.
+ * </p>
+ *
+ * @param <T> the type of the record
+ */
+abstract class RecordSerializer<T> extends StdSerializer<T> {
+
+    protected RecordSerializer(Class<T> type) {
+        super(type);
+    }
+
+    protected static void writeNumber(JsonGenerator generator, SerializableString name, Long value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    protected static void writeNumber(JsonGenerator generator, SerializableString name, Integer value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    protected static void writeString(JsonGenerator generator, SerializableString name, String value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value);
+        }
+    }
+
+    protected static void writeDate(JsonGenerator generator, SerializableString name, LocalDateTime value,
+                                    JsonSerializer<Object> dateSerializer, SerializerProvider provider) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            dateSerializer.serialize(value, generator, provider);
+        }
+    }
+
+    /**
+     * Returns the serializer of {@code type}, from the given one when the serializer has been contextualized,
+     * otherwise from the provider (which caches it).
+     */
+    protected static JsonSerializer<Object> serializer(JsonSerializer<Object> serializer, Class<?> type,
+                                                       SerializerProvider provider) throws IOException {
+        return serializer != null ? serializer : provider.findValueSerializer(type, null);
+    }
+}
@@ -0,0 +1,87 @@
+package com.foot.team_service.utils.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.foot.team_service.dto.PlayerDTO;
+import com.foot.team_service.dto.TeamDTO;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Writes a {@link TeamDTO} field by field, its players with the {@link PlayerDTO} serializer of the mapper.
+ * See {@link RecordSerializer}.
+ */
+@JsonComponent
+public class TeamDTOSerializer extends RecordSerializer<TeamDTO> implements ContextualSerializer {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString ACRONYM = new SerializedString("acronym");
+    private static final SerializableString BUDGET = new SerializedString("budget");
+    private static final SerializableString PLAYERS = new SerializedString("players");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+
+    private final JsonSerializer<Object> dateSerializer;
+    private final JsonSerializer<Object> playerSerializer;
+
+    public TeamDTOSerializer() {
+        this(null, null);
+    }
+
+    private TeamDTOSerializer(JsonSerializer<Object> dateSerializer, JsonSerializer<Object> playerSerializer) {
+        super(TeamDTO.class);
+        this.dateSerializer = dateSerializer;
+        this.playerSerializer = playerSerializer;
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+        if (dateSerializer != null) {
+            return this;
+        }
+        return new TeamDTOSerializer(provider.findValueSerializer(LocalDateTime.class, null),
+                provider.findValueSerializer(PlayerDTO.class, null));
+    }
+
+    @Override
+    public void serialize(TeamDTO team, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(team, 7);
+        writeNumber(generator, ID, team.id());
+        writeString(generator, NAME, team.name());
+        writeString(generator, ACRONYM, team.acronym());
+        writeNumber(generator, BUDGET, team.budget());
+        writePlayers(generator, team.players(), provider);
+        JsonSerializer<Object> dates = serializer(dateSerializer, LocalDateTime.class, provider);
+        writeDate(generator, CREATED_AT, team.createdAt(), dates, provider);
+        writeDate(generator, UPDATED_AT, team.updatedAt(), dates, provider);
+        generator.writeEndObject();
+    }
+
+    private void writePlayers(JsonGenerator generator, List<PlayerDTO> players, SerializerProvider provider) throws IOException {
+        generator.writeFieldName(PLAYERS);
+        if (players == null) {
+            generator.writeNull();
+            return;
+        }
+        JsonSerializer<Object> serializer = serializer(playerSerializer, PlayerDTO.class, provider);
+        generator.writeStartArray(players, players.size());
+        for (PlayerDTO player : players) {
+            if (player == null) {
+                generator.writeNull();
+            } else {
+                serializer.serialize(player, generator, provider);
+            }
+        }
+        generator.writeEndArray();
+    }
+}
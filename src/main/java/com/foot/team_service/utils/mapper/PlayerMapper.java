@@ -17,6 +17,7 @@ public interface PlayerMapper {
     PlayerDTO playerToPlayerDTO(Player player);
 
     @Mapping(source = "teamId", target = "team.id")
+    @Mapping(target = "version", ignore = true) // la version n'est pas exposée dans le DTO (ETag / If-Match)
     Player playerDTOToPlayer(PlayerDTO playerDTO);
 
     List<PlayerDTO> playersToPlayerDTOs(List<Player> players);
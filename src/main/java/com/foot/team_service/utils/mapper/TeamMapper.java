@@ -1,8 +1,11 @@
 package com.foot.team_service.utils.mapper;
 
+import com.foot.team_service.dto.PlayerDTO;
 import com.foot.team_service.dto.TeamDTO;
+import com.foot.team_service.model.Player;
 import com.foot.team_service.model.Team;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 
 
@@ -13,6 +16,14 @@ public interface TeamMapper {
 
     TeamDTO teamToTeamDTO(Team team);
 
+    @Mapping(target = "version", ignore = true) // la version n'est pas exposée dans le DTO (ETag / If-Match)
     Team teamDTOToTeam(TeamDTO teamDTO);
 
+    /**
+     * Maps a player of the roster of a team; the team is attached by the service.
+     */
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "team", ignore = true)
+    Player playerDTOToPlayer(PlayerDTO playerDTO);
+
 }
\ No newline at end of file
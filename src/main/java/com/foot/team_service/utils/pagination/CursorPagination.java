@@ -0,0 +1,131 @@
+package com.foot.team_service.utils.pagination;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foot.team_service.dto.CursorPageDTO;
+import com.foot.team_service.exception.BadRequestException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Helpers for keyset (seek) pagination.
+ * <p>
+ * A cursor is the Base64 (URL safe) encoding of the sort keys of the last element of a page,
+ * for instance {@code {"name":"Alex Brown","id":42}}. The next page is then read with
+ * {@code WHERE (name, id) > (?, ?)}, which an index on the sort keys serves in the same time
+ * whatever the depth of the page, unlike OFFSET.
+ * </p>
+ */
+public final class CursorPagination {
+
+    public static final int MAX_SIZE = 1000;
+
+    /**
+     * The keys of a cursor on a list sorted by name then ID.
+     */
+    public static final Map<String, Class<?>> NAME_AND_ID_KEYS = Map.of("name", String.class, "id", Long.class);
+    /**
+     * The keys of a cursor on a list sorted by ID.
+     */
+    public static final Map<String, Class<?>> ID_KEYS = Map.of("id", Long.class);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<LinkedHashMap<String, Object>> KEYS_TYPE = new TypeReference<>() {
+    };
+
+    private CursorPagination() {
+    }
+
+    /**
+     * Decodes a cursor into the scroll position it designates.
+     * <p>
+     * The cursor must hold exactly the sort keys of the list, with values of the expected types:
+     * a tampered cursor is rejected here rather than failing in the query.
+     * </p>
+     *
+     * @param cursor the cursor sent by the client, null or blank for the first page
+     * @param keys   the sort keys of the list and the type of their values
+     * @return the keyset scroll position
+     * @throws BadRequestException if the cursor is not a valid cursor
+     */
+    public static KeysetScrollPosition position(String cursor, Map<String, Class<?>> keys) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor);
+            Map<String, Object> values = OBJECT_MAPPER.readValue(json, KEYS_TYPE);
+            if (values == null) {
+                throw invalid(cursor);
+            }
+            // Jackson lit les petits entiers en Integer alors que les ids sont des Long
+            values.replaceAll((key, value) -> value instanceof Integer integer ? integer.longValue() : value);
+            if (!values.keySet().equals(keys.keySet())) {
+                throw invalid(cursor);
+            }
+            for (Map.Entry<String, Class<?>> key : keys.entrySet()) {
+                if (!key.getValue().isInstance(values.get(key.getKey()))) {
+                    throw invalid(cursor);
+                }
+            }
+            return ScrollPosition.forward(values);
+        } catch (IllegalArgumentException | IOException e) {
+            throw invalid(cursor);
+        }
+    }
+
+    private static BadRequestException invalid(String cursor) {
+        return new BadRequestException("Invalid cursor :: " + cursor);
+    }
+
+    /**
+     * Checks the requested page size.
+     *
+     * @param size the requested page size
+     * @return the limit to apply to the query
+     * @throws BadRequestException if the size is not between 1 and {@value #MAX_SIZE}
+     */
+    public static Limit limit(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new BadRequestException("size must be between 1 and " + MAX_SIZE);
+        }
+        return Limit.of(size);
+    }
+
+    /**
+     * Maps a window of entities to a cursor page of DTOs.
+     *
+     * @param window the window returned by the repository
+     * @param mapper the entity to DTO mapper
+     * @return the cursor page, with the cursor of the next page if there is one
+     */
+    public static <E, D> CursorPageDTO<D> toPage(Window<E> window, Function<E, D> mapper) {
+        List<D> content = window.getContent().stream().map(mapper).toList();
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? encode(window.positionAt(window.size() - 1))
+                : null;
+        return new CursorPageDTO<>(content, content.size(), nextCursor != null, nextCursor);
+    }
+
+    private static String encode(ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keysetPosition)) {
+            throw new IllegalStateException("Keyset scroll position expected, got " + position);
+        }
+        try {
+            byte[] json = OBJECT_MAPPER.writeValueAsBytes(keysetPosition.getKeys());
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to encode cursor", e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.foot.team_service.utils.pagination;
+
+import com.foot.team_service.exception.BadRequestException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+/**
+ * Restricts the {@code sort} of a paginated list to the properties backed by an index.
+ * <p>
+ * A sort on any other property would make the database read and sort the whole table for each page,
+ * so it is rejected. An accepted sort is completed with {@code id}, in the same direction: the pages
+ * are then stable when several rows share the sort value, and the sort matches an index on
+ * {@code (property, id)}, which can be read forward or backward.
+ * </p>
+ */
+public final class IndexedSort {
+
+    private static final String ID = "id";
+
+    private IndexedSort() {
+    }
+
+    /**
+     * Checks and completes the sort of a page request. An unsorted request is returned as is.
+     *
+     * @param pageable the page request
+     * @param indexed  the properties that can be sorted on, {@code id} included
+     * @return the page request, sorted on the property, then on {@code id}
+     * @throws BadRequestException if the sort is on a property that is not indexed, or on several properties
+     */
+    public static Pageable restrict(Pageable pageable, List<String> indexed) {
+        Sort sort = pageable.getSort();
+        if (sort.isUnsorted()) {
+            return pageable;
+        }
+        List<Sort.Order> orders = sort.stream().filter(order -> !ID.equals(order.getProperty())).toList();
+        for (Sort.Order order : sort) {
+            if (!indexed.contains(order.getProperty())) {
+                throw new BadRequestException("Unsupported sort :: " + order.getProperty() + ", expected one of " + indexed);
+            }
+        }
+        if (orders.size() > 1) {
+            throw new BadRequestException("Only one sort property besides id is supported, got " + sort);
+        }
+        if (orders.isEmpty()) {
+            return pageable;
+        }
+        Sort.Order order = orders.get(0);
+        // ignoreCase et le placement des null sont abandonnés : ils empêcheraient de lire l'index dans l'ordre
+        Sort indexedSort = Sort.by(new Sort.Order(order.getDirection(), order.getProperty()), new Sort.Order(order.getDirection(), ID));
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), indexedSort);
+    }
+}
@@ -0,0 +1,19 @@
+package com.foot.team_service.utils.pagination;
+
+/**
+ * How the total number of elements of a paginated list is computed.
+ */
+public enum PageCountMode {
+    /**
+     * A {@code SELECT COUNT(*)} is run with each page (default).
+     */
+    EXACT,
+    /**
+     * No count at all: a slice is returned, which only tells whether there is a next page.
+     */
+    NONE,
+    /**
+     * The total comes from a counter maintained on create and delete, and recounted periodically.
+     */
+    CACHED
+}
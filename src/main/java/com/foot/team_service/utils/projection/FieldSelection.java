@@ -0,0 +1,71 @@
+package com.foot.team_service.utils.projection;
+
+import com.foot.team_service.exception.BadRequestException;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The fields requested with a {@code fields} parameter (sparse fieldset), e.g. {@code fields=id,name,no}.
+ * <p>
+ * Each field is mapped to the attribute path of the entity it is read from ({@code teamId} is
+ * {@code team.id}), so that the query only selects the matching columns. The fields are kept
+ * in the order of the request, which is the order of the members of the JSON objects.
+ * </p>
+ *
+ * @param paths the attribute path of each requested field, by field name
+ */
+public record FieldSelection(Map<String, String> paths) {
+
+    /**
+     * Parses a {@code fields} parameter.
+     *
+     * @param fields  the comma separated field names
+     * @param allowed the attribute path of each field that can be requested, by field name
+     * @return the selection
+     * @throws BadRequestException if no field or an unknown field is requested
+     */
+    public static FieldSelection of(String fields, Map<String, String> allowed) {
+        Map<String, String> paths = new LinkedHashMap<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            String path = allowed.get(name);
+            if (path == null) {
+                throw new BadRequestException("Unknown field :: " + name + ", expected one of " + allowed.keySet());
+            }
+            paths.put(name, path);
+        }
+        if (paths.isEmpty()) {
+            throw new BadRequestException("fields must name at least one of " + allowed.keySet());
+        }
+        return new FieldSelection(Collections.unmodifiableMap(paths));
+    }
+
+    /**
+     * Selects every allowed field.
+     *
+     * @param allowed the attribute path of each field, by field name
+     * @return the selection
+     */
+    public static FieldSelection all(Map<String, String> allowed) {
+        return new FieldSelection(allowed);
+    }
+
+    /**
+     * Builds an ordered map of field names and attribute paths.
+     *
+     * @param namesAndPaths the name of the first field, its path, the name of the second one...
+     * @return the unmodifiable map, in argument order
+     */
+    public static Map<String, String> fields(String... namesAndPaths) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (int i = 0; i < namesAndPaths.length; i += 2) {
+            fields.put(namesAndPaths[i], namesAndPaths[i + 1]);
+        }
+        return Collections.unmodifiableMap(fields);
+    }
+}
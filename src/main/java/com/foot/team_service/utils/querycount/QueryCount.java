@@ -0,0 +1,38 @@
+package com.foot.team_service.utils.querycount;
+
+import net.ttddyy.dsproxy.QueryCountHolder;
+
+/**
+ * Number of JDBC statements run by the current thread, counted by the proxy wrapped around the
+ * data source (see {@link com.foot.team_service.config.QueryCountConfig}).
+ * <p>
+ * The count is reset at the start of each HTTP request by {@link QueryCountFilter}. Tests can
+ * also use it directly around the code they measure:
+ * </p>
+ * <pre>{@code
+ * QueryCount.reset();
+ * teamService.findById(1L);
+ * assertTrue(QueryCount.get() <= 3);
+ * }</pre>
+ */
+public final class QueryCount {
+
+    private QueryCount() {
+    }
+
+    /**
+     * Resets the count of the current thread.
+     */
+    public static void reset() {
+        QueryCountHolder.clear();
+    }
+
+    /**
+     * Returns the number of statements run by the current thread since the last reset.
+     *
+     * @return the number of statements, whatever their type (SELECT, INSERT, UPDATE, DELETE...)
+     */
+    public static long get() {
+        return QueryCountHolder.getGrandTotal().getTotal();
+    }
+}
@@ -0,0 +1,69 @@
+package com.foot.team_service.utils.querycount;
+
+import com.foot.team_service.config.QueryCountProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the JDBC statements run by each HTTP request, and checks them against the statement
+ * budget of the route.
+ * <p>
+ * A request over budget is logged as a warning: it usually means an N+1 (a lazy collection
+ * loaded once per element) or a read that should not happen, such as loading an entity just
+ * to check that it exists. With {@code foot.query-count.header=true}, the count is also sent
+ * in the {@value #HEADER} response header (see {@link QueryCountHeaderAdvice}).
+ * </p>
+ * <p>
+ * Only the statements run by the request thread are counted: the body of a streamed export,
+ * written by another thread, is not.
+ * </p>
+ */
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Query-Count";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    private final QueryCountProperties properties;
+
+    public QueryCountFilter(QueryCountProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryCount.reset();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (!request.isAsyncStarted()) {
+                checkBudget(request, response, QueryCount.get());
+            }
+        }
+    }
+
+    private void checkBudget(HttpServletRequest request, HttpServletResponse response, long count) {
+        // la réponse n'est pas encore envoyée pour un 204, un 304 ou une erreur sans corps
+        if (properties.header() && !response.isCommitted()) {
+            response.setHeader(HEADER, String.valueOf(count));
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return;
+        }
+        String route = request.getMethod() + " " + pattern;
+        int budget = properties.budgetOf(route);
+        if (count > budget) {
+            LOGGER.warn("SQL statement budget exceeded for {}: {} statements, budget {}", route, count, budget);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.foot.team_service.utils.querycount;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Sends the number of JDBC statements run by the request in the {@value QueryCountFilter#HEADER}
+ * header, just before the body is written: once the body is written, the response is committed
+ * and the headers can no longer change.
+ * <p>
+ * Enabled with {@code foot.query-count.header=true} (profile {@code dev}).
+ * </p>
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "foot.query-count.header", havingValue = "true")
+public class QueryCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        response.getHeaders().set(QueryCountFilter.HEADER, String.valueOf(QueryCount.get()));
+        return body;
+    }
+}
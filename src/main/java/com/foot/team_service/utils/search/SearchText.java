@@ -0,0 +1,139 @@
+package com.foot.team_service.utils.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Text helpers of the name search: normalization, terms, trigrams and edit distance.
+ * <p>
+ * Names and queries are compared once normalized: lower case, without accents, and with any other
+ * character than a letter or a digit turned into a space, so that {@code "Mbappé"} matches {@code "mbappe"}
+ * and {@code "Saint-Étienne"} matches {@code "saint etienne"}.
+ * </p>
+ */
+public final class SearchText {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^a-z0-9]+");
+
+    private SearchText() {
+    }
+
+    /**
+     * Normalizes a name or a query.
+     *
+     * @param text the text, may be null
+     * @return the normalized text, empty if it holds no letter nor digit
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String withoutMarks = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(withoutMarks.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    /**
+     * Returns the terms under which a normalized name is indexed: each of its words, and the whole
+     * name when it has several words, so that a query can also be the beginning of the full name.
+     *
+     * @param normalized the normalized name
+     * @return the distinct terms
+     */
+    public static Set<String> terms(String normalized) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (normalized.isEmpty()) {
+            return terms;
+        }
+        terms.addAll(Arrays.asList(normalized.split(" ")));
+        terms.add(normalized);
+        return terms;
+    }
+
+    /**
+     * Returns the trigrams of a term, the first one anchored at its beginning with {@code $}.
+     * Only the beginning is anchored, since queries are compared with the beginning of the terms.
+     *
+     * @param term the term
+     * @return the distinct trigrams, the padded term itself when it is shorter than three characters
+     */
+    public static Set<String> trigrams(String term) {
+        String padded = "$" + term;
+        Set<String> trigrams = new LinkedHashSet<>();
+        if (padded.length() <= 3) {
+            trigrams.add(padded);
+            return trigrams;
+        }
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Computes the smallest edit distance between a query and any beginning of a term (insertions,
+     * deletions, substitutions and transpositions of adjacent characters each count for one), so that
+     * the query {@code "mbape"} is at distance 1 of {@code "mbappe"}, and {@code "mabp"} too.
+     *
+     * @param query   the normalized query
+     * @param term    the term
+     * @param maximum the largest distance of interest
+     * @return the distance, or {@code maximum + 1} as soon as it is known to exceed {@code maximum}
+     */
+    public static int prefixDistance(String query, String term, int maximum) {
+        int n = query.length();
+        int m = term.length();
+        // lignes : caractères de la requête, colonnes : caractères du terme (distance de Damerau restreinte)
+        int[] previous2 = new int[m + 1];
+        int[] previous = new int[m + 1];
+        int[] current = new int[m + 1];
+        for (int j = 0; j <= m; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= n; i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            for (int j = 1; j <= m; j++) {
+                int cost = query.charAt(i - 1) == term.charAt(j - 1) ? 0 : 1;
+                int distance = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && query.charAt(i - 1) == term.charAt(j - 2)
+                        && query.charAt(i - 2) == term.charAt(j - 1)) {
+                    distance = Math.min(distance, previous2[j - 2] + 1);
+                }
+                current[j] = distance;
+                rowMinimum = Math.min(rowMinimum, distance);
+            }
+            if (rowMinimum > maximum) {
+                return maximum + 1;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        // la requête entière contre chaque début du terme : minimum de la dernière ligne
+        int best = maximum + 1;
+        for (int j = 0; j <= m; j++) {
+            best = Math.min(best, previous[j]);
+        }
+        return best;
+    }
+
+    /**
+     * Returns the largest edit distance tolerated for a query: none under three characters,
+     * one up to five characters, two beyond.
+     *
+     * @param query the normalized query
+     * @return the largest distance
+     */
+    public static int maximumDistance(String query) {
+        if (query.length() < 3) {
+            return 0;
+        }
+        return query.length() <= 5 ? 1 : 2;
+    }
+}
@@ -0,0 +1,30 @@
+-- Schéma initial : celui que générait Hibernate (ddl-auto: update) à partir de Team, Player et Auditable.
+
+-- ids réservés par blocs de 50 (allocationSize des @SequenceGenerator) : permet le batch JDBC des INSERT
+create sequence team_seq start with 1 increment by 50;
+create sequence player_seq start with 1 increment by 50;
+
+create table team (
+    id         bigint      not null,
+    name       varchar(25) not null,
+    acronym    varchar(10) not null,
+    budget     integer     not null,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    version    bigint      not null,
+    primary key (id)
+);
+
+create table player (
+    id           bigint      not null,
+    name         varchar(25) not null,
+    no           integer,
+    match_played integer     not null,
+    position     varchar(50) not null,
+    team_id      bigint,
+    created_at   timestamp(6),
+    updated_at   timestamp(6),
+    version      bigint      not null,
+    primary key (id),
+    constraint fk_player_team foreign key (team_id) references team (id)
+);
@@ -0,0 +1,17 @@
+-- Index des chemins d'accès réels : sans eux, chaque liste triée par nom est un tri de toute la table.
+-- Les index finissent par id, le second critère des tris (pages stables, lecture de l'index dans l'ordre).
+
+-- listes paginées triées par nom (tri par défaut) et pagination par curseur (keyset sur name, id)
+create index idx_team_name_id on team (name, id);
+create index idx_player_name_id on player (name, id);
+
+-- effectif d'une équipe (findByTeamId, détachement avant suppression), et sa version pour les ETag :
+-- max(updated_at) et count(*) par équipe sont lus dans l'index seul (H2 indexe aussi la clé étrangère
+-- de lui-même, ce que ne font pas les autres bases)
+create index idx_player_team_id_updated_at on player (team_id, updated_at);
+
+-- tris et plages acceptés par GET /api/v1/players (cf. PlayerService.SORTABLE et PlayerFilter)
+create index idx_player_no_id on player (no, id);
+create index idx_player_match_played_id on player (match_played, id);
+create index idx_player_position_name_id on player (position, name, id);
+create index idx_player_team_name_id on player (team_id, name, id);
@@ -0,0 +1,3 @@
+-- tri des listes de joueurs par poste (sort=position, complété en position, id par IndexedSort) : l'index
+-- (position, name, id) de V2 ne sert que le filtre par poste trié par nom, ce tri-là triait toute la table
+create index idx_player_position_id on player (position, id);
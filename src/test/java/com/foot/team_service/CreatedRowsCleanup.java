@@ -0,0 +1,54 @@
+package com.foot.team_service;
+
+import com.foot.team_service.service.PlayerService;
+import com.foot.team_service.service.TeamService;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+import java.util.List;
+
+/**
+ * Deletes the teams and players created by a test once it has run, so that the tests sharing the
+ * application context (see {@link IntegrationTest}) find the database as it was loaded.
+ * <p>
+ * The rows created by the test are the ones whose ID is above the highest ID before the test (the IDs
+ * come from sequences). They are deleted through the services, whose events keep the caches, the
+ * statistics and the search index in step with the database. Changes to the loaded rows are kept.
+ * </p>
+ */
+public class CreatedRowsCleanup extends AbstractTestExecutionListener {
+
+    private static final String LAST_TEAM_ID = CreatedRowsCleanup.class.getName() + ".lastTeamId";
+    private static final String LAST_PLAYER_ID = CreatedRowsCleanup.class.getName() + ".lastPlayerId";
+
+    @Override
+    public void beforeTestMethod(TestContext testContext) {
+        JdbcTemplate jdbcTemplate = testContext.getApplicationContext().getBean(JdbcTemplate.class);
+        testContext.setAttribute(LAST_TEAM_ID, lastId(jdbcTemplate, "team"));
+        testContext.setAttribute(LAST_PLAYER_ID, lastId(jdbcTemplate, "player"));
+    }
+
+    @Override
+    public void afterTestMethod(TestContext testContext) {
+        ApplicationContext applicationContext = testContext.getApplicationContext();
+        JdbcTemplate jdbcTemplate = applicationContext.getBean(JdbcTemplate.class);
+        PlayerService playerService = applicationContext.getBean(PlayerService.class);
+        TeamService teamService = applicationContext.getBean(TeamService.class);
+        for (Long id : createdIds(jdbcTemplate, "player", (Long) testContext.getAttribute(LAST_PLAYER_ID))) {
+            playerService.delete(id, null);
+        }
+        for (Long id : createdIds(jdbcTemplate, "team", (Long) testContext.getAttribute(LAST_TEAM_ID))) {
+            teamService.delete(id, null);
+        }
+    }
+
+    private static Long lastId(JdbcTemplate jdbcTemplate, String table) {
+        return jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+    }
+
+    private static List<Long> createdIds(JdbcTemplate jdbcTemplate, String table, Long lastId) {
+        return jdbcTemplate.queryForList("select id from " + table + " where id > ? order by id", Long.class, lastId);
+    }
+}
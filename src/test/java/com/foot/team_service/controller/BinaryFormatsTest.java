@@ -0,0 +1,124 @@
+package com.foot.team_service.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.foot.team_service.IntegrationTest;
+import com.foot.team_service.dto.PlayerDTO;
+import com.foot.team_service.dto.TeamDTO;
+import com.foot.team_service.model.Player;
+import com.foot.team_service.repository.PlayerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks the CBOR and Smile encodings of the payloads, chosen with {@code Accept} and {@code Content-Type}.
+ */
+@IntegrationTest
+class BinaryFormatsTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final ObjectMapper cborMapper = CBORMapper.builder().findAndAddModules().build();
+    private final ObjectMapper smileMapper = SmileMapper.builder().findAndAddModules().build();
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Test
+    void testGetTeamInCbor() throws Exception {
+        Long teamId = teamId();
+        TeamDTO json = objectMapper.readValue(mockMvc.perform(get("/api/v1/teams/{id}", teamId))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsByteArray(), TeamDTO.class);
+
+        byte[] cbor = mockMvc.perform(get("/api/v1/teams/{id}", teamId).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(json, cborMapper.readValue(cbor, TeamDTO.class));
+        assertFalse(json.players().isEmpty());
+    }
+
+    @Test
+    void testETagDependsOnRepresentation() throws Exception {
+        Long teamId = teamId();
+        String jsonETag = mockMvc.perform(get("/api/v1/teams/{id}", teamId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String cborETag = mockMvc.perform(get("/api/v1/teams/{id}", teamId).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertNotEquals(jsonETag, cborETag);
+        // l'ETag du JSON ne valide pas le CBOR, celui du CBOR si
+        mockMvc.perform(get("/api/v1/teams/{id}", teamId).accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, jsonETag))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+        mockMvc.perform(get("/api/v1/teams/{id}", teamId).accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, cborETag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)));
+    }
+
+    @Test
+    void testCreatePlayerInSmile() throws Exception {
+        PlayerDTO player = new PlayerDTO(null, "Smile Player", 9, 4, "Attaquant", teamId(), null, null);
+
+        byte[] smile = mockMvc.perform(post("/api/v1/players")
+                        .contentType(SMILE)
+                        .accept(SMILE)
+                        .content(smileMapper.writeValueAsBytes(player)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        PlayerDTO created = smileMapper.readValue(smile, PlayerDTO.class);
+        assertEquals("Smile Player", created.name());
+        assertEquals(player.teamId(), created.teamId());
+        // lecture en base : le cache de second niveau (JCache) est partagé par les contextes de test de la JVM
+        assertEquals("Smile Player", playerRepository.findCurrentById(created.id()).orElseThrow().getName());
+    }
+
+    @Test
+    void testValidationErrorInCbor() throws Exception {
+        PlayerDTO player = new PlayerDTO(null, "", 9, 4, "Attaquant", null, null, null);
+
+        mockMvc.perform(post("/api/v1/players")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(player)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+    }
+
+    private Long teamId() {
+        return playerRepository.findAll().stream()
+                .map(Player::getTeam)
+                .filter(team -> team != null)
+                .findFirst()
+                .orElseThrow()
+                .getId();
+    }
+}
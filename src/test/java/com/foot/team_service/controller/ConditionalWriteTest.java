@@ -0,0 +1,141 @@
+package com.foot.team_service.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foot.team_service.IntegrationTest;
+import com.foot.team_service.repository.PlayerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks the conditional updates and deletes against the database: two clients writing with
+ * the same ETag, only the first one wins. Each test writes to a team it creates, which is deleted
+ * after it.
+ */
+@IntegrationTest
+class ConditionalWriteTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testConcurrentUpdatesOfPlayer() throws Exception {
+        Long playerId = createTeam().get("players").get(0).get("id").asLong();
+        String eTag = eTagOf("/api/v1/players/" + playerId);
+
+        mockMvc.perform(put("/api/v1/players/{id}", playerId).header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"First Writer\",\"no\":10,\"matchPlayed\":1,\"position\":\"Milieu\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("First Writer"));
+
+        mockMvc.perform(put("/api/v1/players/{id}", playerId).header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Second Writer\",\"no\":10,\"matchPlayed\":1,\"position\":\"Milieu\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        assertEquals("First Writer", playerRepository.findById(playerId).orElseThrow().getName());
+    }
+
+    @Test
+    void testDeleteTeamWithStaleETag() throws Exception {
+        JsonNode team = createTeam();
+        Long teamId = team.get("id").asLong();
+        Long playerId = team.get("players").get(0).get("id").asLong();
+        String eTag = eTagOf("/api/v1/teams/" + teamId);
+
+        mockMvc.perform(put("/api/v1/teams/{id}", teamId).header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Renamed FC\",\"acronym\":\"RFC\",\"budget\":10}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/api/v1/teams/{id}", teamId).header(HttpHeaders.IF_MATCH, eTag))
+                .andExpect(status().isPreconditionFailed());
+        // la suppression refusée ne doit pas avoir détaché les joueurs
+        assertEquals(teamId, playerRepository.findById(playerId).orElseThrow().getTeam().getId());
+
+        mockMvc.perform(delete("/api/v1/teams/{id}", teamId).header(HttpHeaders.IF_MATCH, eTagOf("/api/v1/teams/" + teamId)))
+                .andExpect(status().isNoContent());
+        assertNull(playerRepository.findById(playerId).orElseThrow().getTeam());
+    }
+
+    @Test
+    void testPatchTeamAfterRosterChange() throws Exception {
+        Long teamId = createTeam().get("id").asLong();
+        Long newcomerId = createTeam().get("players").get(0).get("id").asLong();
+        String eTag = eTagOf("/api/v1/teams/" + teamId);
+
+        // l'arrivée d'un joueur change l'ETag de l'équipe, pas la version de sa ligne
+        mockMvc.perform(put("/api/v1/players/{id}", newcomerId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Newcomer\",\"no\":10,\"matchPlayed\":1,\"position\":\"Milieu\",\"teamId\":" + teamId + "}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(patch("/api/v1/teams/{id}", teamId).header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"budget\":2500}"))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(patch("/api/v1/teams/{id}", teamId).header(HttpHeaders.IF_MATCH, eTagOf("/api/v1/teams/" + teamId))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"budget\":2500}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testFormerPlayerOfDeletedTeam() throws Exception {
+        JsonNode team = createTeam();
+        Long teamId = team.get("id").asLong();
+        Long playerId = team.get("players").get(0).get("id").asLong();
+        // met le joueur en cache avant la suppression de son équipe
+        String eTag = eTagOf("/api/v1/players/" + playerId);
+
+        mockMvc.perform(delete("/api/v1/teams/{id}", teamId)).andExpect(status().isNoContent());
+
+        String newETag = mockMvc.perform(get("/api/v1/players/{id}", playerId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.teamId").value(nullValue()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(eTag, newETag);
+        mockMvc.perform(get("/api/v1/players/{id}", playerId).param("fields", "id,teamId"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.teamId").value(nullValue()))
+                .andExpect(header().string(HttpHeaders.ETAG, newETag));
+    }
+
+    private JsonNode createTeam() throws Exception {
+        return objectMapper.readTree(mockMvc.perform(post("/api/v1/teams")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Conditional FC\",\"acronym\":\"CFC\",\"budget\":1000,\"players\":["
+                                + "{\"name\":\"Gardien Un\",\"no\":1,\"matchPlayed\":4,\"position\":\"Gardien\"},"
+                                + "{\"name\":\"Milieu Un\",\"no\":8,\"matchPlayed\":2,\"position\":\"Milieu\"}]}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    private String eTagOf(String path) throws Exception {
+        return mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
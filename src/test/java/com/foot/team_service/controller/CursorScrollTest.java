@@ -0,0 +1,77 @@
+package com.foot.team_service.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foot.team_service.IntegrationTest;
+import com.foot.team_service.repository.TeamRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks the keyset pagination against the database: the cursors returned by each list lead
+ * through all its elements, and a tampered cursor is rejected with a 400.
+ */
+@IntegrationTest
+class CursorScrollTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Test
+    void testScrollThroughEveryList() throws Exception {
+        Long teamId = teamRepository.findAll().get(0).getId();
+
+        assertEquals(teamRepository.count(), scrollAll("/api/v1/teams/scroll"));
+        assertTrue(scrollAll("/api/v1/players/scroll") > 7);
+        assertTrue(scrollAll("/api/v1/players/teams/" + teamId + "/scroll") >= 11);
+    }
+
+    @Test
+    void testTamperedCursor() throws Exception {
+        for (String json : new String[]{"{\"foo\":1}", "{\"name\":{\"a\":1},\"id\":\"x\"}"}) {
+            String cursor = Base64.getUrlEncoder().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+            mockMvc.perform(get("/api/v1/players/scroll").param("cursor", cursor))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Invalid cursor :: " + cursor));
+        }
+    }
+
+    /**
+     * Reads a list page by page, following the cursors.
+     *
+     * @return the number of distinct elements read
+     */
+    private int scrollAll(String path) throws Exception {
+        Set<Long> ids = new HashSet<>();
+        String cursor = null;
+        int read = 0;
+        do {
+            JsonNode page = objectMapper.readTree(mockMvc.perform(cursor == null
+                            ? get(path).param("size", "4")
+                            : get(path).param("size", "4").param("cursor", cursor))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            page.get("content").forEach(element -> ids.add(element.get("id").asLong()));
+            read += page.get("content").size();
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+        } while (cursor != null);
+        assertEquals(ids.size(), read);
+        return ids.size();
+    }
+}
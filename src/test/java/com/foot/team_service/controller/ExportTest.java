@@ -0,0 +1,83 @@
+package com.foot.team_service.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foot.team_service.IntegrationTest;
+import com.foot.team_service.repository.PlayerRepository;
+import com.foot.team_service.repository.TeamRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks the NDJSON exports on the data loaded at startup, with fetch sizes that do not divide
+ * the number of rows, so that the last partial fetch is exported too.
+ */
+@IntegrationTest
+class ExportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Test
+    void testExportPlayers() throws Exception {
+        List<JsonNode> players = export("/api/v1/players/export?fetchSize=7");
+
+        assertEquals(playerRepository.count(), players.size());
+        for (int i = 1; i < players.size(); i++) {
+            assertTrue(players.get(i - 1).get("id").asLong() < players.get(i).get("id").asLong());
+        }
+    }
+
+    @Test
+    void testExportTeams() throws Exception {
+        List<JsonNode> teams = export("/api/v1/teams/export?fetchSize=3");
+
+        assertEquals(teamRepository.count(), teams.size());
+        int players = 0;
+        for (JsonNode team : teams) {
+            players += team.get("players").size();
+        }
+        assertEquals(playerRepository.count(), players);
+    }
+
+    @Test
+    void testExportWithInvalidFetchSize() throws Exception {
+        mockMvc.perform(get("/api/v1/players/export").param("fetchSize", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private List<JsonNode> export(String url) throws Exception {
+        MvcResult result = mockMvc.perform(get(url))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+}
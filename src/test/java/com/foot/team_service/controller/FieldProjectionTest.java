@@ -0,0 +1,109 @@
+package com.foot.team_service.controller;
+
+import com.foot.team_service.IntegrationTest;
+import com.foot.team_service.model.Player;
+import com.foot.team_service.repository.PlayerRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.foot.team_service.utils.querycount.QueryCountMatchers.queryCount;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks the sparse fieldsets ({@code fields=}) and the summary view of the teams: only the requested
+ * fields are returned, with a single query and without loading any entity or roster.
+ */
+@IntegrationTest
+class FieldProjectionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Player player;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        player = playerRepository.findAll().stream()
+                .filter(p -> p.getTeam() != null)
+                .findFirst()
+                .orElseThrow();
+        statistics.clear();
+    }
+
+    @Test
+    void testTeamSummaries() throws Exception {
+        mockMvc.perform(get("/api/v1/teams").param("view", "summary").param("size", "100").param("count", "NONE"))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(1))
+                .andExpect(jsonPath("$.content[0].name").exists())
+                .andExpect(jsonPath("$.content[0].budget").exists())
+                .andExpect(jsonPath("$.content[0].players").doesNotExist());
+
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionFetchCount());
+    }
+
+    @Test
+    void testTeamFields() throws Exception {
+        Long teamId = player.getTeam().getId();
+
+        mockMvc.perform(get("/api/v1/teams/{id}", teamId).param("fields", "name,budget"))
+                .andExpect(status().isOk())
+                // version (ETag) + colonnes demandées
+                .andExpect(queryCount(2))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$.name").exists())
+                .andExpect(jsonPath("$.budget").exists());
+
+        assertEquals(0, statistics.getCollectionFetchCount());
+    }
+
+    @Test
+    void testPlayerFields() throws Exception {
+        mockMvc.perform(get("/api/v1/players").param("fields", "id,name,teamId").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(5))
+                .andExpect(jsonPath("$.content[0].length()").value(3))
+                .andExpect(jsonPath("$.content[0].position").doesNotExist())
+                .andExpect(jsonPath("$.totalElements").exists());
+
+        mockMvc.perform(get("/api/v1/players/{id}", player.getId()).param("fields", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value(player.getName()));
+
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testPlayerFieldsByTeam() throws Exception {
+        Long teamId = player.getTeam().getId();
+
+        mockMvc.perform(get("/api/v1/players/teams/{teamId}", teamId).param("fields", "teamId,no"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].teamId", everyItem(is(teamId.intValue()))));
+    }
+
+    @Test
+    void testUnknownField() throws Exception {
+        mockMvc.perform(get("/api/v1/players").param("fields", "id,salary"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/teams").param("fields", "players"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,117 @@
+package com.foot.team_service.controller;
+
+import com.foot.team_service.IntegrationTest;
+import com.foot.team_service.model.Team;
+import com.foot.team_service.repository.PlayerRepository;
+import com.foot.team_service.repository.TeamRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks the NDJSON and CSV imports, with chunks smaller than the files and invalid lines.
+ */
+@IntegrationTest
+class ImportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void testImportPlayersFromCsv() throws Exception {
+        long players = playerRepository.count();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        String csv = """
+                name,no,matchPlayed,position,teamId
+                Imported One,1,0,Milieu,1
+                Imported Two,2,0,Gardien,
+                Imported Three,-3,0,Milieu,1
+                Imported Four,4,0,Milieu,999999
+                Imported Five,5,0,Attaquant,2
+                """;
+
+        mockMvc.perform(post("/api/v1/players/import").param("chunkSize", "2")
+                        .contentType("text/csv").content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.records").value(5))
+                .andExpect(jsonPath("$.imported").value(3))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.errors[0].line").value(4))
+                .andExpect(jsonPath("$.errors[0].message").value("no: number must be positive"))
+                .andExpect(jsonPath("$.errors[1].line").value(5))
+                .andExpect(jsonPath("$.errors[1].message").value("Team not found for this id :: 999999"));
+
+        assertEquals(players + 3, playerRepository.count());
+        // les équipes référencées ne sont vérifiées que par leur identifiant, jamais chargées
+        assertEquals(0, statistics.getEntityStatistics(Team.class.getName()).getLoadCount());
+    }
+
+    @Test
+    void testImportTeamsFromNdjson() throws Exception {
+        long teams = teamRepository.count();
+        long players = playerRepository.count();
+        String ndjson = """
+                {"name":"Imported FC","acronym":"IFC","budget":100,"players":[{"name":"P1","no":1,"position":"Gardien"},{"name":"P2","no":2,"position":"Milieu"}]}
+                {"name":"","acronym":"EMPTY","budget":100}
+                not json
+                {"name":"Imported United","acronym":"IUN","budget":200}
+                """;
+
+        mockMvc.perform(post("/api/v1/teams/import")
+                        .contentType(MediaType.APPLICATION_NDJSON).content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.records").value(4))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.errors[0].line").value(2))
+                .andExpect(jsonPath("$.errors[1].line").value(3));
+
+        assertEquals(teams + 2, teamRepository.count());
+        assertEquals(players + 2, playerRepository.count());
+    }
+
+    @Test
+    void testImportPlayersWithNonObjectLines() throws Exception {
+        long players = playerRepository.count();
+        String ndjson = """
+                null
+                42
+                ["P1"]
+                {"name":"Imported Player","no":5,"position":"Milieu"}
+                """;
+
+        mockMvc.perform(post("/api/v1/players/import")
+                        .contentType(MediaType.APPLICATION_NDJSON).content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.records").value(4))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(1))
+                .andExpect(jsonPath("$.errors[0].message").value("Invalid record :: expected a JSON object"))
+                .andExpect(jsonPath("$.errors[1].line").value(2))
+                .andExpect(jsonPath("$.errors[2].line").value(3));
+
+        assertEquals(players + 1, playerRepository.count());
+    }
+
+    @Test
+    void testImportWithInvalidChunkSize() throws Exception {
+        mockMvc.perform(post("/api/v1/teams/import").param("chunkSize", "0")
+                        .contentType(MediaType.APPLICATION_NDJSON).content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,40 @@
+package com.foot.team_service.controller;
+
+import com.foot.team_service.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that the routes, the services, the repositories, Hibernate and the connection pool
+ * are measured and scrapeable in the Prometheus format.
+ */
+@IntegrationTest
+class MetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testPrometheusEndpoint() throws Exception {
+        mockMvc.perform(get("/api/v1/teams/1")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(allOf(
+                        containsString("status=\"200\",uri=\"/api/v1/teams/{id}\",le=\"+Inf\""),
+                        containsString("class=\"com.foot.team_service.service.TeamService\",exception=\"none\",method=\"findById\",le="),
+                        containsString("method=\"findById\",repository=\"TeamRepository\",state=\"SUCCESS\",le="),
+                        containsString("hibernate_statements_total{"),
+                        containsString("hibernate_entities_loads_total{"),
+                        containsString("hibernate_collections_fetches_total{"),
+                        containsString("hikaricp_connections_pending{"),
+                        containsString("hikaricp_connections_acquire_seconds_count{"))));
+    }
+}
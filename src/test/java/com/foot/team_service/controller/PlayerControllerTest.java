@@ -1,7 +1,19 @@
 package com.foot.team_service.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foot.team_service.dto.CursorPageDTO;
+import com.foot.team_service.dto.ImportReportDTO;
+import com.foot.team_service.dto.PageDTO;
 import com.foot.team_service.dto.PlayerDTO;
+import com.foot.team_service.dto.SearchHitDTO;
+import com.foot.team_service.service.ExportService;
+import com.foot.team_service.service.ImportService;
 import com.foot.team_service.service.PlayerService;
+import com.foot.team_service.utils.filter.PlayerFilter;
+import com.foot.team_service.utils.http.ResourceVersion;
+import com.foot.team_service.utils.importing.ImportFormat;
+import com.foot.team_service.utils.pagination.PageCountMode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -10,13 +22,25 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.*;
 
 class PlayerControllerTest {
@@ -24,6 +48,12 @@ class PlayerControllerTest {
     @Mock
     private PlayerService playerService;
 
+    @Mock
+    private ExportService exportService;
+
+    @Mock
+    private ImportService importService;
+
     @InjectMocks
     private PlayerController playerController;
 
@@ -38,14 +68,56 @@ class PlayerControllerTest {
         Pageable pageable = mock(Pageable.class);
         Page<PlayerDTO> page = new PageImpl<>(Collections.emptyList());
 
-        when(playerService.findAll(pageable)).thenReturn(page);
+        when(playerService.findAll(pageable, PageCountMode.EXACT, PlayerFilter.NONE)).thenReturn(page);
+
+        ResponseEntity<PageDTO<PlayerDTO>> response = playerController.getPlayers(pageable, PageCountMode.EXACT, PlayerFilter.NONE);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(new PageDTO<>(Collections.emptyList(), 0, 0, false, 0L, 1), response.getBody());
+
+        verify(playerService, times(1)).findAll(pageable, PageCountMode.EXACT, PlayerFilter.NONE);
+    }
+
+    @Test
+    void testGetPlayersWithoutCount() {
+        Pageable pageable = mock(Pageable.class);
+        Slice<PlayerDTO> slice = new SliceImpl<>(Collections.emptyList());
+
+        when(playerService.findAll(pageable, PageCountMode.NONE, PlayerFilter.NONE)).thenReturn(slice);
+
+        ResponseEntity<PageDTO<PlayerDTO>> response = playerController.getPlayers(pageable, PageCountMode.NONE, PlayerFilter.NONE);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(new PageDTO<>(Collections.emptyList(), 0, 0, false, null, null), response.getBody());
+
+        verify(playerService, times(1)).findAll(pageable, PageCountMode.NONE, PlayerFilter.NONE);
+    }
+
+    @Test
+    void testSearchPlayers() {
+        List<SearchHitDTO> hits = List.of(new SearchHitDTO(SearchHitDTO.Type.TEAM, 1L, "Team Name", "TN", null));
+
+        when(playerService.search("tea", 10)).thenReturn(hits);
 
-        ResponseEntity<Page<PlayerDTO>> response = playerController.getPlayers(pageable);
+        ResponseEntity<List<SearchHitDTO>> response = playerController.searchPlayers("tea", 10);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(hits, response.getBody());
+    }
+
+    @Test
+    void testScrollPlayers() {
+        PlayerDTO playerDTO = new PlayerDTO(1L, "Player Name", 10, 0, "Forward", null, null, null);
+        CursorPageDTO<PlayerDTO> page = new CursorPageDTO<>(List.of(playerDTO), 1, true, "cursor-2");
+
+        when(playerService.scroll("cursor-1", 1)).thenReturn(page);
+
+        ResponseEntity<CursorPageDTO<PlayerDTO>> response = playerController.scrollPlayers("cursor-1", 1);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(page, response.getBody());
 
-        verify(playerService, times(1)).findAll(pageable);
+        verify(playerService, times(1)).scroll("cursor-1", 1);
     }
 
     @Test
@@ -63,19 +135,55 @@ class PlayerControllerTest {
         verify(playerService, times(1)).create(playerDTO);
     }
 
+    @Test
+    void testCreatePlayers() {
+        List<PlayerDTO> playerDTOs = List.of(
+                new PlayerDTO(null, "Player One", 10, 0, "Forward", 1L, null, null),
+                new PlayerDTO(null, "Player Two", 11, 0, "Defender", 1L, null, null));
+        List<PlayerDTO> createdPlayers = List.of(
+                new PlayerDTO(1L, "Player One", 10, 0, "Forward", 1L, null, null),
+                new PlayerDTO(2L, "Player Two", 11, 0, "Defender", 1L, null, null));
+
+        when(playerService.createAll(playerDTOs)).thenReturn(createdPlayers);
+
+        ResponseEntity<List<PlayerDTO>> response = playerController.createPlayers(playerDTOs);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(createdPlayers, response.getBody());
+
+        verify(playerService, times(1)).createAll(playerDTOs);
+    }
+
     @Test
     void testGetPlayerById() {
         Long playerId = 1L;
         PlayerDTO playerDTO = new PlayerDTO(playerId, "Player Name", 10, 0, "Forward", null, null, null);
 
-        when(playerService.findById(playerId)).thenReturn(playerDTO);
+        ResourceVersion version = new ResourceVersion(LocalDateTime.of(2024, 6, 15, 10, 0), 1);
+        when(playerService.findVersion(playerId)).thenReturn(version);
+        when(playerService.findById(playerId, version)).thenReturn(playerDTO);
 
-        ResponseEntity<PlayerDTO> response = playerController.getPlayerById(playerId);
+        ResponseEntity<PlayerDTO> response = playerController.getPlayerById(playerId, request(null));
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(playerDTO, response.getBody());
 
-        verify(playerService, times(1)).findById(playerId);
+        verify(playerService, times(1)).findById(playerId, version);
+    }
+
+    @Test
+    void testGetPlayerByIdNotModified() {
+        Long playerId = 1L;
+        ResourceVersion version = new ResourceVersion(LocalDateTime.of(2024, 6, 15, 10, 0), 1);
+        ServletWebRequest request = request("\"" + version.eTag() + "\"");
+
+        when(playerService.findVersion(playerId)).thenReturn(version);
+
+        ResponseEntity<PlayerDTO> response = playerController.getPlayerById(playerId, request);
+
+        assertNull(response);
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), request.getResponse().getStatus());
+        verify(playerService, never()).findById(playerId, version);
     }
 
     @Test
@@ -83,40 +191,120 @@ class PlayerControllerTest {
         Long playerId = 1L;
         PlayerDTO playerDTO = new PlayerDTO(playerId, "Updated Name", 10, 0, "Forward", null, null, null);
 
-        when(playerService.update(playerDTO, playerId)).thenReturn(playerDTO);
+        when(playerService.update(playerDTO, playerId, null)).thenReturn(playerDTO);
 
-        ResponseEntity<?> response = playerController.updatePlayer(playerDTO, playerId);
+        ResponseEntity<?> response = playerController.updatePlayer(playerDTO, playerId, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(playerDTO, response.getBody());
 
-        verify(playerService, times(1)).update(playerDTO, playerId);
+        verify(playerService, times(1)).update(playerDTO, playerId, null);
+    }
+
+    @Test
+    void testUpdatePlayerWithIfMatch() {
+        Long playerId = 1L;
+        PlayerDTO playerDTO = new PlayerDTO(playerId, "Updated Name", 10, 0, "Forward", null, null, null);
+
+        when(playerService.update(playerDTO, playerId, 3L)).thenReturn(playerDTO);
+
+        ResponseEntity<?> response = playerController.updatePlayer(playerDTO, playerId, "\"3.65e20a6c573ef-1\"");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(playerService, times(1)).update(playerDTO, playerId, 3L);
+    }
+
+    @Test
+    void testPatchPlayer() throws Exception {
+        JsonNode patch = new ObjectMapper().readTree("{\"matchPlayed\":12}");
+        PlayerDTO playerDTO = new PlayerDTO(1L, "Player Name", 10, 12, "Forward", null, null, null);
+
+        when(playerService.patch(1L, patch, 3L)).thenReturn(playerDTO);
+
+        ResponseEntity<PlayerDTO> response = playerController.patchPlayer(patch, 1L, "\"3.65e20a6c573ef-1\"");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(playerDTO, response.getBody());
+        verify(playerService, times(1)).patch(1L, patch, 3L);
     }
 
     @Test
     void testDeletePlayer() {
         Long playerId = 1L;
 
-        when(playerService.delete(playerId)).thenReturn(ResponseEntity.status(HttpStatus.NO_CONTENT).build());
+        when(playerService.delete(playerId, null)).thenReturn(ResponseEntity.status(HttpStatus.NO_CONTENT).build());
 
-        ResponseEntity<?> response = playerController.deletePlayer(playerId);
+        ResponseEntity<?> response = playerController.deletePlayer(playerId, null);
 
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
 
-        verify(playerService, times(1)).delete(playerId);
+        verify(playerService, times(1)).delete(playerId, null);
     }
 
     @Test
     void testGetPlayersByTeam() {
         Long teamId = 1L;
         PlayerDTO playerDTO = new PlayerDTO(1L, "Player Name", 10, 0, "Forward", teamId, null, null);
+        when(playerService.findVersionByTeam(teamId)).thenReturn(new ResourceVersion(LocalDateTime.of(2024, 6, 15, 10, 0), 1));
         when(playerService.findByTeam(teamId)).thenReturn(Collections.singletonList(playerDTO));
 
-        ResponseEntity<List<PlayerDTO>> response = playerController.getPlayersByTeam(teamId);
+        ResponseEntity<List<PlayerDTO>> response = playerController.getPlayersByTeam(teamId, request(null));
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(Collections.singletonList(playerDTO), response.getBody());
 
         verify(playerService, times(1)).findByTeam(teamId);
     }
+
+    @Test
+    void testScrollPlayersByTeam() {
+        Long teamId = 1L;
+        PlayerDTO playerDTO = new PlayerDTO(1L, "Player Name", 10, 0, "Forward", teamId, null, null);
+        CursorPageDTO<PlayerDTO> page = new CursorPageDTO<>(List.of(playerDTO), 1, false, null);
+
+        when(playerService.scrollByTeam(teamId, null, 10)).thenReturn(page);
+
+        ResponseEntity<CursorPageDTO<PlayerDTO>> response = playerController.scrollPlayersByTeam(teamId, null, 10);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(page, response.getBody());
+
+        verify(playerService, times(1)).scrollByTeam(teamId, null, 10);
+    }
+
+    @Test
+    void testExportPlayers() {
+        StreamingResponseBody body = output -> output.write('\n');
+
+        when(exportService.exportPlayers(100)).thenReturn(body);
+
+        ResponseEntity<StreamingResponseBody> response = playerController.exportPlayers(100);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        assertEquals(body, response.getBody());
+        verify(exportService, times(1)).exportPlayers(100);
+    }
+
+    @Test
+    void testImportPlayers() throws IOException {
+        InputStream body = new ByteArrayInputStream(new byte[0]);
+        ImportReportDTO report = new ImportReportDTO(0, 0, 0, List.of());
+
+        when(importService.importPlayers(body, ImportFormat.CSV, 100)).thenReturn(report);
+
+        ResponseEntity<ImportReportDTO> response = playerController.importPlayers(MediaType.valueOf("text/csv"), 100, body);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(report, response.getBody());
+        verify(importService, times(1)).importPlayers(body, ImportFormat.CSV, 100);
+    }
+
+    private static ServletWebRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
 }
@@ -0,0 +1,133 @@
+package com.foot.team_service.controller;
+
+import com.foot.team_service.IntegrationTest;
+import com.foot.team_service.model.Player;
+import com.foot.team_service.repository.PlayerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks the filters and the sorts of the list of players against the database, and that the
+ * queries they produce are served by the indexes of {@code Player}.
+ */
+@IntegrationTest
+class PlayerFilteringTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testFilters() throws Exception {
+        Player player = playerRepository.findAll().stream()
+                .filter(p -> p.getTeam() != null)
+                .findFirst()
+                .orElseThrow();
+        Long teamId = player.getTeam().getId();
+        long expected = playerRepository.findAll().stream()
+                .filter(p -> p.getTeam() != null && teamId.equals(p.getTeam().getId()))
+                .filter(p -> p.getPosition().equals(player.getPosition()))
+                .filter(p -> p.getMatchPlayed() >= 10 && p.getMatchPlayed() <= 90)
+                .count();
+
+        mockMvc.perform(get("/api/v1/players")
+                        .param("teamId", teamId.toString())
+                        .param("position", player.getPosition())
+                        .param("minMatchPlayed", "10")
+                        .param("maxMatchPlayed", "90")
+                        .param("size", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(expected))
+                .andExpect(jsonPath("$.content[*].teamId", everyItem(is(teamId.intValue()))))
+                .andExpect(jsonPath("$.content[*].position", everyItem(is(player.getPosition()))))
+                .andExpect(jsonPath("$.content[*].matchPlayed", everyItem(greaterThanOrEqualTo(10))))
+                .andExpect(jsonPath("$.content[*].matchPlayed", everyItem(lessThanOrEqualTo(90))));
+    }
+
+    @Test
+    void testSlicesWithoutCountMatchPages() throws Exception {
+        for (int page = 0; page < 3; page++) {
+            String exact = contentOf(page, "EXACT");
+            String none = contentOf(page, "NONE");
+            assertEquals(exact, none);
+        }
+        List<Player> sorted = playerRepository.findAll().stream()
+                .filter(p -> p.getNo() != null && p.getNo() >= 20)
+                .sorted(Comparator.comparing(Player::getNo).reversed().thenComparing(Player::getId, Comparator.reverseOrder()))
+                .toList();
+        mockMvc.perform(get("/api/v1/players").param("minNo", "20").param("sort", "no,desc").param("size", "5")
+                        .param("page", "1").param("count", "NONE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(sorted.get(5).getId()))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    void testUnsupportedSorts() throws Exception {
+        mockMvc.perform(get("/api/v1/players").param("sort", "createdAt"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(containsString("Unsupported sort :: createdAt")));
+        mockMvc.perform(get("/api/v1/players").param("fields", "id,name").param("sort", "team"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/players").param("minNo", "9").param("maxNo", "1"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/players").param("minNo", "nine"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testInvalidCountMode() throws Exception {
+        for (String path : List.of("/api/v1/players", "/api/v1/teams")) {
+            mockMvc.perform(get(path).param("count", "foo"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().string(containsString(
+                            "Invalid value for count :: foo, expected one of [EXACT, NONE, CACHED]")));
+        }
+    }
+
+    @Test
+    void testFilteredSortsReadAnIndex() {
+        assertThat(explain("select id from player where position = 'Milieu' order by name, id"),
+                containsString("IDX_PLAYER_POSITION_NAME_ID"));
+        assertThat(explain("select id from player where team_id = 1 order by name, id"),
+                containsString("IDX_PLAYER_TEAM_NAME_ID"));
+        assertThat(explain("select id from player where match_played between 10 and 20 order by match_played, id"),
+                containsString("IDX_PLAYER_MATCH_PLAYED_ID"));
+        assertThat(explain("select id from player where no >= 20 order by no desc, id desc"),
+                containsString("IDX_PLAYER_NO_ID"));
+        assertThat(explain("select id from player order by position, id limit 10"),
+                containsString("IDX_PLAYER_POSITION_ID"));
+    }
+
+    private String contentOf(int page, String count) throws Exception {
+        String body = mockMvc.perform(get("/api/v1/players").param("position", "Milieu").param("sort", "name")
+                        .param("size", "3").param("page", String.valueOf(page)).param("count", count))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return body.substring(0, body.indexOf("\"page\""));
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("explain " + sql, String.class);
+    }
+}
@@ -0,0 +1,207 @@
+package com.foot.team_service.controller;
+
+import com.foot.team_service.IntegrationTest;
+import com.foot.team_service.config.QueryCountProperties;
+import com.foot.team_service.model.Player;
+import com.foot.team_service.model.Team;
+import com.foot.team_service.repository.PlayerRepository;
+import com.foot.team_service.repository.TeamRepository;
+import com.foot.team_service.utils.querycount.QueryCountFilter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.foot.team_service.utils.querycount.QueryCountMatchers.queryCount;
+import static com.foot.team_service.utils.querycount.QueryCountMatchers.queryCountAtMost;
+import static com.foot.team_service.utils.querycount.QueryCountMatchers.withinBudget;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that the player routes stay within their SQL statement budget ({@code foot.query-count.budgets}).
+ * In particular, writing a player only references its team: the number of SQL statements does not
+ * depend on the size of the roster, and neither the team nor its roster is loaded.
+ */
+@IntegrationTest
+class PlayerQueryCountTest {
+
+    private static final int LARGE_ROSTER_SIZE = 500;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private QueryCountProperties properties;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Team smallTeam;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        smallTeam = team("Small Team", 1);
+    }
+
+    @Test
+    void testGetPlayers() throws Exception {
+        mockMvc.perform(get("/api/v1/players").param("size", "50"))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget(properties));
+    }
+
+    @Test
+    void testGetPlayerById() throws Exception {
+        Player player = playerRepository.findByTeamId(smallTeam.getId()).get(0);
+
+        mockMvc.perform(get("/api/v1/players/{id}", player.getId()))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget(properties));
+    }
+
+    @Test
+    void testGetPlayersByTeam() throws Exception {
+        mockMvc.perform(get("/api/v1/players/teams/{teamId}", smallTeam.getId()))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget(properties));
+    }
+
+    @Test
+    void testCreatePlayerOnlyReferencesTeam() throws Exception {
+        Team largeTeam = team("Large Team", LARGE_ROSTER_SIZE);
+        long small = statementsFor(post("/api/v1/players"), smallTeam, 201);
+
+        // seul un appel de séquence peut s'ajouter d'un INSERT à l'autre
+        statistics.clear();
+        mockMvc.perform(write(post("/api/v1/players"), largeTeam))
+                .andExpect(status().isCreated())
+                .andExpect(withinBudget(properties))
+                .andExpect(queryCountAtMost(small + 1));
+        assertTeamNotLoaded();
+    }
+
+    @Test
+    void testUpdatePlayerOnlyReferencesTeam() throws Exception {
+        Team largeTeam = team("Large Team", LARGE_ROSTER_SIZE);
+        Player player = playerRepository.findByTeamId(smallTeam.getId()).get(0);
+
+        long large = statementsFor(put("/api/v1/players/" + player.getId()), largeTeam, 200);
+
+        statistics.clear();
+        mockMvc.perform(write(put("/api/v1/players/" + player.getId()), smallTeam))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget(properties))
+                .andExpect(queryCount(large));
+        assertTeamNotLoaded();
+    }
+
+    @Test
+    void testUpdatePlayerKeepingTeam() throws Exception {
+        Player player = playerRepository.findByTeamId(smallTeam.getId()).get(0);
+
+        // le joueur vient du cache de second niveau et garde son équipe : seul l'UPDATE versionné est envoyé
+        mockMvc.perform(write(put("/api/v1/players/" + player.getId()), smallTeam))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(1));
+    }
+
+    @Test
+    void testPatchPlayerTeamOnlyReferencesTeam() throws Exception {
+        Team largeTeam = team("Large Team", LARGE_ROSTER_SIZE);
+        Player player = playerRepository.findByTeamId(smallTeam.getId()).get(0);
+
+        statistics.clear();
+        mockMvc.perform(patch("/api/v1/players/" + player.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"teamId\":" + largeTeam.getId() + "}"))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget(properties));
+        assertTeamNotLoaded();
+    }
+
+    @Test
+    void testPatchPlayer() throws Exception {
+        Player player = playerRepository.findByTeamId(smallTeam.getId()).get(0);
+
+        mockMvc.perform(patch("/api/v1/players/" + player.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"matchPlayed\":12}"))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget(properties));
+    }
+
+    @Test
+    void testDeletePlayer() throws Exception {
+        Player player = playerRepository.findByTeamId(smallTeam.getId()).get(0);
+
+        // le joueur vient du cache de second niveau : seul le DELETE versionné est envoyé
+        mockMvc.perform(delete("/api/v1/players/{id}", player.getId()))
+                .andExpect(status().isNoContent())
+                .andExpect(withinBudget(properties))
+                .andExpect(queryCount(1));
+    }
+
+    /**
+     * Sends a player write referencing the given team.
+     *
+     * @return the number of SQL statements run by the request
+     */
+    private long statementsFor(MockHttpServletRequestBuilder request, Team team, int expectedStatus) throws Exception {
+        statistics.clear();
+        String count = mockMvc.perform(write(request, team))
+                .andExpect(status().is(expectedStatus))
+                .andExpect(withinBudget(properties))
+                .andReturn().getResponse().getHeader(QueryCountFilter.HEADER);
+        assertTeamNotLoaded();
+        return Long.parseLong(count);
+    }
+
+    private static MockHttpServletRequestBuilder write(MockHttpServletRequestBuilder request, Team team) {
+        return request.contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"New Player\",\"no\":7,\"matchPlayed\":0,\"position\":\"Milieu\",\"teamId\":"
+                        + team.getId() + "}");
+    }
+
+    private void assertTeamNotLoaded() {
+        assertEquals(0, statistics.getEntityStatistics(Team.class.getName()).getLoadCount(), "the team should not be loaded");
+        assertEquals(0, statistics.getEntityStatistics(Team.class.getName()).getFetchCount(), "the team proxy should not be initialized");
+        assertEquals(0, statistics.getCollectionFetchCount(), "no roster should be loaded");
+    }
+
+    private Team team(String name, int rosterSize) {
+        Team team = new Team();
+        team.setName(name);
+        team.setAcronym("T" + rosterSize);
+        team.setBudget(1000);
+        teamRepository.save(team);
+        List<Player> players = new ArrayList<>(rosterSize);
+        for (int i = 0; i < rosterSize; i++) {
+            Player player = new Player();
+            player.setName("Player " + i);
+            player.setNo(i + 1);
+            player.setPosition("Milieu");
+            player.setTeam(team);
+            players.add(player);
+        }
+        playerRepository.saveAll(players);
+        return team;
+    }
+}
@@ -0,0 +1,62 @@
+package com.foot.team_service.controller;
+
+import com.foot.team_service.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.foot.team_service.utils.querycount.QueryCountMatchers.queryCount;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks the autocomplete search against the application: the index follows the writes made
+ * through the API, and a search runs no query once the index is loaded.
+ */
+@IntegrationTest
+class SearchTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testSearchFollowsWrites() throws Exception {
+        // charge l'index avant l'écriture, qui lui parvient ensuite par son événement
+        mockMvc.perform(get("/api/v1/players/search").param("q", "ogc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(7))
+                .andExpect(jsonPath("$[0].type").value("TEAM"));
+
+        String location = mockMvc.perform(post("/api/v1/players")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Kylian Mbappé\",\"no\":7,\"matchPlayed\":0,\"position\":\"Attaquant\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        String id = location.replaceAll(".*\"id\":(\\d+).*", "$1");
+
+        mockMvc.perform(get("/api/v1/players/search").param("q", "mbape").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(0))
+                .andExpect(jsonPath("$[0].type").value("PLAYER"))
+                .andExpect(jsonPath("$[0].name").value("Kylian Mbappé"))
+                .andExpect(jsonPath("$[0].acronym").doesNotExist());
+
+        mockMvc.perform(delete("/api/v1/players/{id}", id)).andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/players/search").param("q", "mbappe"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void testInvalidSearch() throws Exception {
+        mockMvc.perform(get("/api/v1/players/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/players/search").param("q", "smith").param("limit", "500"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -1,7 +1,18 @@
 package com.foot.team_service.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foot.team_service.dto.CursorPageDTO;
+import com.foot.team_service.dto.ImportReportDTO;
+import com.foot.team_service.dto.PageDTO;
 import com.foot.team_service.dto.TeamDTO;
+import com.foot.team_service.dto.TeamStatsDTO;
+import com.foot.team_service.service.ExportService;
+import com.foot.team_service.service.ImportService;
 import com.foot.team_service.service.TeamService;
+import com.foot.team_service.utils.http.ResourceVersion;
+import com.foot.team_service.utils.importing.ImportFormat;
+import com.foot.team_service.utils.pagination.PageCountMode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -11,11 +22,24 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.*;
 
 class TeamControllerTest {
@@ -23,6 +47,12 @@ class TeamControllerTest {
     @Mock
     private TeamService teamService;
 
+    @Mock
+    private ExportService exportService;
+
+    @Mock
+    private ImportService importService;
+
     @InjectMocks
     private TeamController teamController;
 
@@ -36,14 +66,29 @@ class TeamControllerTest {
         Pageable pageable = mock(Pageable.class);
         Page<TeamDTO> page = new PageImpl<>(Collections.emptyList());
 
-        when(teamService.findAll(pageable)).thenReturn(page);
+        when(teamService.findAll(pageable, PageCountMode.EXACT)).thenReturn(page);
+
+        ResponseEntity<PageDTO<TeamDTO>> response = teamController.getTeams(pageable, PageCountMode.EXACT);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(new PageDTO<>(Collections.emptyList(), 0, 0, false, 0L, 1), response.getBody());
+
+        verify(teamService, times(1)).findAll(pageable, PageCountMode.EXACT);
+    }
+
+    @Test
+    void testScrollTeams() {
+        TeamDTO teamDTO = new TeamDTO(1L, "Team Name", "TNAME", 1000, Collections.emptyList(), null, null);
+        CursorPageDTO<TeamDTO> page = new CursorPageDTO<>(Collections.singletonList(teamDTO), 1, false, null);
+
+        when(teamService.scroll(null, 10)).thenReturn(page);
 
-        ResponseEntity<Page<TeamDTO>> response = teamController.getTeams(pageable);
+        ResponseEntity<CursorPageDTO<TeamDTO>> response = teamController.scrollTeams(null, 10);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(page, response.getBody());
 
-        verify(teamService, times(1)).findAll(pageable);
+        verify(teamService, times(1)).scroll(null, 10);
     }
 
     @Test
@@ -66,14 +111,49 @@ class TeamControllerTest {
         Long teamId = 1L;
         TeamDTO teamDTO = new TeamDTO(teamId, "Team Name", "TNAME", 1000, Collections.emptyList(), null, null);
 
-        when(teamService.findById(teamId)).thenReturn(teamDTO);
+        ServletWebRequest request = request(null);
+
+        ResourceVersion version = new ResourceVersion(LocalDateTime.of(2024, 6, 15, 10, 0), 1);
+        when(teamService.findVersion(teamId)).thenReturn(version);
+        when(teamService.findById(teamId, version)).thenReturn(teamDTO);
 
-        ResponseEntity<TeamDTO> response = teamController.getTeamById(teamId);
+        ResponseEntity<TeamDTO> response = teamController.getTeamById(teamId, request);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(teamDTO, response.getBody());
+        assertNotNull(request.getResponse().getHeader("ETag"));
 
-        verify(teamService, times(1)).findById(teamId);
+        verify(teamService, times(1)).findById(teamId, version);
+    }
+
+    @Test
+    void testGetTeamStats() {
+        TeamStatsDTO stats = new TeamStatsDTO(1L, "Team Name", 1000, 0, 0, null, Map.of(), null);
+
+        when(teamService.findStats(1L)).thenReturn(stats);
+        when(teamService.findAllStats()).thenReturn(List.of(stats));
+
+        ResponseEntity<TeamStatsDTO> response = teamController.getTeamStatsById(1L);
+        ResponseEntity<List<TeamStatsDTO>> responses = teamController.getTeamsStats();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(stats, response.getBody());
+        assertEquals(List.of(stats), responses.getBody());
+    }
+
+    @Test
+    void testGetTeamByIdNotModified() {
+        Long teamId = 1L;
+        ResourceVersion version = new ResourceVersion(LocalDateTime.of(2024, 6, 15, 10, 0), 1);
+        ServletWebRequest request = request("\"" + version.eTag() + "\"");
+
+        when(teamService.findVersion(teamId)).thenReturn(version);
+
+        ResponseEntity<TeamDTO> response = teamController.getTeamById(teamId, request);
+
+        assertNull(response);
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), request.getResponse().getStatus());
+        verify(teamService, never()).findById(teamId, version);
     }
 
     @Test
@@ -81,26 +161,89 @@ class TeamControllerTest {
         Long teamId = 1L;
         TeamDTO teamDTO = new TeamDTO(teamId, "Updated Name", "UTNAME", 2000, Collections.emptyList(), null, null);
 
-        when(teamService.update(teamDTO, teamId)).thenReturn(teamDTO);
+        when(teamService.update(teamDTO, teamId, null)).thenReturn(teamDTO);
 
-        ResponseEntity<?> response = teamController.getTeamById(teamDTO, teamId);
+        ResponseEntity<?> response = teamController.getTeamById(teamDTO, teamId, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(teamDTO, response.getBody());
 
-        verify(teamService, times(1)).update(teamDTO, teamId);
+        verify(teamService, times(1)).update(teamDTO, teamId, null);
+    }
+
+    @Test
+    void testUpdateTeamWithIfMatch() {
+        Long teamId = 1L;
+        TeamDTO teamDTO = new TeamDTO(teamId, "Updated Name", "UTNAME", 2000, Collections.emptyList(), null, null);
+
+        when(teamService.update(teamDTO, teamId, "\"3.65e20a6c573ef-1\"")).thenReturn(teamDTO);
+
+        ResponseEntity<?> response = teamController.getTeamById(teamDTO, teamId, "\"3.65e20a6c573ef-1\"");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(teamService, times(1)).update(teamDTO, teamId, "\"3.65e20a6c573ef-1\"");
+    }
+
+    @Test
+    void testPatchTeam() throws Exception {
+        JsonNode patch = new ObjectMapper().readTree("{\"budget\":2500}");
+        TeamDTO teamDTO = new TeamDTO(1L, "Team Name", "TNAME", 2500, Collections.emptyList(), null, null);
+
+        when(teamService.patch(1L, patch, "\"3.65e20a6c573ef-1\"")).thenReturn(teamDTO);
+
+        ResponseEntity<TeamDTO> response = teamController.patchTeam(patch, 1L, "\"3.65e20a6c573ef-1\"");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(teamDTO, response.getBody());
+        verify(teamService, times(1)).patch(1L, patch, "\"3.65e20a6c573ef-1\"");
     }
 
     @Test
     void testDeleteTeam() {
         Long teamId = 1L;
 
-        when(teamService.delete(teamId)).thenReturn(ResponseEntity.status(HttpStatus.NO_CONTENT).build());
+        when(teamService.delete(teamId, null)).thenReturn(ResponseEntity.status(HttpStatus.NO_CONTENT).build());
 
-        ResponseEntity<?> response = teamController.deleteTeam(teamId);
+        ResponseEntity<?> response = teamController.deleteTeam(teamId, null);
 
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
 
-        verify(teamService, times(1)).delete(teamId);
+        verify(teamService, times(1)).delete(teamId, null);
+    }
+
+    @Test
+    void testExportTeams() {
+        StreamingResponseBody body = output -> output.write('\n');
+
+        when(exportService.exportTeams(100)).thenReturn(body);
+
+        ResponseEntity<StreamingResponseBody> response = teamController.exportTeams(100);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        assertEquals(body, response.getBody());
+        verify(exportService, times(1)).exportTeams(100);
+    }
+
+    @Test
+    void testImportTeams() throws IOException {
+        InputStream body = new ByteArrayInputStream(new byte[0]);
+        ImportReportDTO report = new ImportReportDTO(0, 0, 0, Collections.emptyList());
+
+        when(importService.importTeams(body, ImportFormat.NDJSON, 100)).thenReturn(report);
+
+        ResponseEntity<ImportReportDTO> response = teamController.importTeams(MediaType.APPLICATION_NDJSON, 100, body);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(report, response.getBody());
+        verify(importService, times(1)).importTeams(body, ImportFormat.NDJSON, 100);
+    }
+
+    private static ServletWebRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
     }
 }
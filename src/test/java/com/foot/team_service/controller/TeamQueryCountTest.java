@@ -0,0 +1,154 @@
+package com.foot.team_service.controller;
+
+import com.foot.team_service.IntegrationTest;
+import com.foot.team_service.config.QueryCountProperties;
+import com.foot.team_service.model.Player;
+import com.foot.team_service.model.Team;
+import com.foot.team_service.repository.PlayerRepository;
+import com.foot.team_service.repository.TeamRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.foot.team_service.utils.querycount.QueryCountMatchers.queryCount;
+import static com.foot.team_service.utils.querycount.QueryCountMatchers.withinBudget;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that the team routes stay within their SQL statement budget ({@code foot.query-count.budgets}),
+ * whatever the number of teams and the size of the rosters.
+ */
+@IntegrationTest
+class TeamQueryCountTest {
+
+    private static final int TEAM_COUNT = 30;
+    private static final int ROSTER_SIZE = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private QueryCountProperties properties;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Team team;
+
+    @BeforeEach
+    void setUp() {
+        team = team("Budget FC", ROSTER_SIZE);
+    }
+
+    @Test
+    void testGetTeamsRunsFixedNumberOfQueries() throws Exception {
+        for (int i = 0; i < TEAM_COUNT; i++) {
+            team("Team " + i, 3);
+        }
+
+        // page pleine : SELECT de la page + SELECT des effectifs + COUNT
+        mockMvc.perform(get("/api/v1/teams").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(10))
+                .andExpect(withinBudget(properties))
+                .andExpect(queryCount(3));
+
+        // dernière page incomplète : Spring Data se passe du COUNT
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/api/v1/teams").param("size", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].players").isNotEmpty())
+                .andExpect(queryCount(2));
+        assertEquals(0, statistics.getCollectionFetchCount(), "no roster should be loaded lazily");
+    }
+
+    @Test
+    void testGetTeamById() throws Exception {
+        mockMvc.perform(get("/api/v1/teams/{id}", team.getId()))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget(properties));
+    }
+
+    @Test
+    void testUpdateTeam() throws Exception {
+        Long playerId = playerRepository.findByTeamId(team.getId()).get(0).getId();
+
+        mockMvc.perform(put("/api/v1/teams/{id}", team.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Budget United\",\"acronym\":\"BUN\",\"budget\":2000,\"players\":["
+                                + "{\"id\":" + playerId + ",\"name\":\"Moved\",\"no\":1,\"matchPlayed\":1,\"position\":\"Milieu\"},"
+                                + "{\"name\":\"Rookie\",\"no\":99,\"matchPlayed\":0,\"position\":\"Gardien\"}]}"))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget(properties));
+    }
+
+    @Test
+    void testPatchTeam() throws Exception {
+        mockMvc.perform(patch("/api/v1/teams/{id}", team.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"budget\":2500}"))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget(properties));
+    }
+
+    @Test
+    void testDeleteTeam() throws Exception {
+        mockMvc.perform(delete("/api/v1/teams/{id}", team.getId()))
+                .andExpect(status().isNoContent())
+                .andExpect(withinBudget(properties))
+                .andExpect(queryCount(ROSTER_SIZE + 2));
+    }
+
+    @Test
+    void testDeleteTeamWithStaleETag() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/teams/{id}", team.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(patch("/api/v1/teams/{id}", team.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"budget\":2500}"))
+                .andExpect(status().isOk());
+
+        // seule la version de l'équipe et de son effectif est lue pour refuser la suppression
+        mockMvc.perform(delete("/api/v1/teams/{id}", team.getId()).header(HttpHeaders.IF_MATCH, eTag))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(withinBudget(properties))
+                .andExpect(queryCount(1));
+    }
+
+    private Team team(String name, int rosterSize) {
+        Team team = new Team();
+        team.setName(name);
+        team.setAcronym("T" + rosterSize);
+        team.setBudget(1000);
+        teamRepository.save(team);
+        List<Player> players = new ArrayList<>(rosterSize);
+        for (int i = 0; i < rosterSize; i++) {
+            Player player = new Player();
+            player.setName("Player " + i);
+            player.setNo(i + 1);
+            player.setPosition("Milieu");
+            player.setTeam(team);
+            players.add(player);
+        }
+        playerRepository.saveAll(players);
+        return team;
+    }
+}
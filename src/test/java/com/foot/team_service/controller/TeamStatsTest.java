@@ -0,0 +1,115 @@
+package com.foot.team_service.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foot.team_service.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static com.foot.team_service.utils.querycount.QueryCountMatchers.queryCount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks the team statistics against the application: they match an aggregation of the players,
+ * follow the writes made through the API, and are served without any query once loaded.
+ */
+@IntegrationTest
+class TeamStatsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testStatsMatchTheDatabase() throws Exception {
+        JsonNode stats = objectMapper.readTree(mockMvc.perform(get("/api/v1/teams/stats"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+
+        for (JsonNode team : stats) {
+            Map<String, Object> aggregate = jdbcTemplate.queryForMap(
+                    "SELECT COUNT(p.id) AS players, COALESCE(SUM(p.match_played), 0) AS total, t.budget"
+                            + " FROM team t LEFT JOIN player p ON p.team_id = t.id WHERE t.id = ? GROUP BY t.id, t.budget",
+                    team.get("teamId").asLong());
+            long players = ((Number) aggregate.get("PLAYERS")).longValue();
+            assertEquals(players, team.get("playerCount").asLong());
+            assertEquals(((Number) aggregate.get("TOTAL")).longValue(), team.get("totalMatchPlayed").asLong());
+            assertEquals(Math.round(((Number) aggregate.get("BUDGET")).doubleValue() / players),
+                    team.get("budgetPerPlayer").asLong());
+        }
+
+        mockMvc.perform(get("/api/v1/teams/stats"))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(0))
+                .andExpect(jsonPath("$.length()").value(stats.size()));
+    }
+
+    @Test
+    void testStatsFollowWrites() throws Exception {
+        // charge les statistiques avant les écritures, qui leur parviennent ensuite par leurs événements
+        mockMvc.perform(get("/api/v1/teams/stats")).andExpect(status().isOk());
+
+        String team = mockMvc.perform(post("/api/v1/teams")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Stats FC\",\"acronym\":\"SFC\",\"budget\":3000,\"players\":["
+                                + "{\"name\":\"Gardien Un\",\"no\":1,\"matchPlayed\":4,\"position\":\"Gardien\"},"
+                                + "{\"name\":\"Milieu Un\",\"no\":8,\"matchPlayed\":2,\"position\":\"Milieu\"}]}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode created = objectMapper.readTree(team);
+        long teamId = created.get("id").asLong();
+        long playerId = created.get("players").get(1).get("id").asLong();
+
+        mockMvc.perform(get("/api/v1/teams/{id}/stats", teamId))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(0))
+                .andExpect(jsonPath("$.name").value("Stats FC"))
+                .andExpect(jsonPath("$.playerCount").value(2))
+                .andExpect(jsonPath("$.totalMatchPlayed").value(6))
+                .andExpect(jsonPath("$.averageMatchPlayed").value(3.0))
+                .andExpect(jsonPath("$.positions.Gardien").value(1))
+                .andExpect(jsonPath("$.budgetPerPlayer").value(1500));
+
+        mockMvc.perform(put("/api/v1/players/{id}", playerId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Milieu Un\",\"no\":8,\"matchPlayed\":10,\"position\":\"Attaquant\",\"teamId\":" + teamId + "}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/v1/players")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Renfort\",\"no\":9,\"matchPlayed\":0,\"position\":\"Attaquant\",\"teamId\":" + teamId + "}"))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/v1/teams/{id}/stats", teamId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.playerCount").value(3))
+                .andExpect(jsonPath("$.totalMatchPlayed").value(14))
+                .andExpect(jsonPath("$.positions.Attaquant").value(2))
+                .andExpect(jsonPath("$.positions.Milieu").doesNotExist())
+                .andExpect(jsonPath("$.budgetPerPlayer").value(1000));
+
+        mockMvc.perform(delete("/api/v1/teams/{id}", teamId)).andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/teams/{id}/stats", teamId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testStatsOfUnknownTeam() throws Exception {
+        mockMvc.perform(get("/api/v1/teams/{id}/stats", 999_999))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,55 @@
+package com.foot.team_service.repository;
+
+import com.foot.team_service.IntegrationTest;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItems;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that the schema is created by the Flyway migrations (Hibernate only validates it), with
+ * the indexes of the default listings and of the roster queries.
+ */
+@IntegrationTest
+class SchemaMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testMigrationsAreApplied() {
+        List<String> versions = Arrays.stream(flyway.info().applied())
+                .map(MigrationInfo::getVersion)
+                .map(Object::toString)
+                .toList();
+
+        assertEquals(List.of("1", "2", "3"), versions);
+        assertEquals(0, flyway.info().pending().length);
+    }
+
+    @Test
+    void testIndexesOfAccessPaths() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "select index_name from information_schema.indexes where table_schema = 'PUBLIC'", String.class);
+
+        assertThat(indexes, hasItems("IDX_TEAM_NAME_ID", "IDX_PLAYER_NAME_ID", "IDX_PLAYER_TEAM_ID_UPDATED_AT"));
+        assertThat(explain("select id from team order by name, id limit 10"), containsString("IDX_TEAM_NAME_ID"));
+        assertThat(explain("select max(updated_at), count(*) from player where team_id = 1"),
+                containsString("IDX_PLAYER_TEAM_ID_UPDATED_AT"));
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("explain " + sql, String.class);
+    }
+}
@@ -0,0 +1,109 @@
+package com.foot.team_service.repository;
+
+import com.foot.team_service.IntegrationTest;
+import com.foot.team_service.dto.PlayerDTO;
+import com.foot.team_service.model.Player;
+import com.foot.team_service.model.Team;
+import com.foot.team_service.service.PlayerService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that players and roster queries are served by the Hibernate second-level cache,
+ * that writes on the player table invalidate the cached query results, and that writing a player
+ * leaves the other players in the cache.
+ */
+@IntegrationTest
+class SecondLevelCacheTest {
+
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private PlayerService playerService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Team team;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        team = new Team();
+        team.setName("Cached Team");
+        team.setAcronym("CACHE");
+        team.setBudget(1000);
+        teamRepository.save(team);
+        playerRepository.save(player("Player 1"));
+    }
+
+    @Test
+    void testFindByTeamIdIsServedFromQueryCache() {
+        playerRepository.findByTeamId(team.getId());
+        statistics.clear();
+
+        List<Player> players = playerRepository.findByTeamId(team.getId());
+
+        assertEquals(1, players.size());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void testFindByIdIsServedFromEntityCache() {
+        Long playerId = playerRepository.findByTeamId(team.getId()).get(0).getId();
+        statistics.clear();
+
+        playerRepository.findById(playerId);
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+    }
+
+    @Test
+    void testPlayerWriteInvalidatesQueryCache() {
+        playerRepository.findByTeamId(team.getId());
+        playerRepository.save(player("Player 2"));
+        statistics.clear();
+
+        List<Player> players = playerRepository.findByTeamId(team.getId());
+
+        assertEquals(2, players.size());
+        assertEquals(0, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void testPlayerUpdateKeepsOtherPlayersCached() {
+        Player cached = playerRepository.save(player("Player 2"));
+        Player updated = playerRepository.save(player("Player 3"));
+        playerRepository.findById(cached.getId());
+        playerService.update(new PlayerDTO(updated.getId(), "Player 3 bis", 11, 1, "Milieu", team.getId(), null, null),
+                updated.getId(), updated.getVersion());
+        statistics.clear();
+
+        playerRepository.findById(cached.getId());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+    }
+
+    private Player player(String name) {
+        Player player = new Player();
+        player.setName(name);
+        player.setNo(10);
+        player.setPosition("Milieu");
+        player.setTeam(team);
+        return player;
+    }
+}
@@ -0,0 +1,109 @@
+package com.foot.team_service.service;
+
+import com.foot.team_service.config.CacheConfig;
+import com.foot.team_service.dto.PlayerDTO;
+import com.foot.team_service.dto.TeamDTO;
+import com.foot.team_service.event.ChangeType;
+import com.foot.team_service.event.PlayerChangedEvent;
+import com.foot.team_service.event.TeamChangedEvent;
+import com.foot.team_service.utils.cache.VersionedValue;
+import com.foot.team_service.utils.http.ResourceVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class EntityCacheInvalidatorTest {
+
+    private static final ResourceVersion VERSION = new ResourceVersion(1L, LocalDateTime.of(2024, 6, 15, 10, 0), 1);
+
+    @Spy
+    private CacheManager cacheManager = new CaffeineCacheManager(CacheConfig.TEAMS, CacheConfig.PLAYERS);
+
+    @InjectMocks
+    private EntityCacheInvalidator entityCacheInvalidator;
+
+    private Cache teams;
+    private Cache players;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        teams = cacheManager.getCache(CacheConfig.TEAMS);
+        players = cacheManager.getCache(CacheConfig.PLAYERS);
+        teams.put(1L, new VersionedValue<>(VERSION, team(1L, player(10L, 1L))));
+        teams.put(2L, new VersionedValue<>(VERSION, team(2L, player(20L, 2L))));
+        teams.put(3L, new VersionedValue<>(VERSION, team(3L)));
+        players.put(10L, new VersionedValue<>(VERSION, player(10L, 1L)));
+        players.put(20L, new VersionedValue<>(VERSION, player(20L, 2L)));
+    }
+
+    @Test
+    void testTeamChangeEvictsOnlyThatTeam() {
+        entityCacheInvalidator.onTeamChanged(new TeamChangedEvent(ChangeType.UPDATED, 1L, null));
+
+        assertNull(teams.get(1L));
+        assertNotNull(teams.get(2L));
+        assertNotNull(players.get(10L));
+    }
+
+    @Test
+    void testTeamDeletionEvictsItsPlayers() {
+        entityCacheInvalidator.onTeamChanged(new TeamChangedEvent(ChangeType.DELETED, 1L, null));
+        entityCacheInvalidator.onPlayerChanged(new PlayerChangedEvent(ChangeType.UPDATED, 10L, 1L, player(10L, null)));
+
+        assertNull(teams.get(1L));
+        assertNull(players.get(10L));
+        assertNotNull(players.get(20L));
+        assertNotNull(teams.get(2L));
+    }
+
+    @Test
+    void testPlayerChangeEvictsPlayerAndFormerAndNewTeams() {
+        entityCacheInvalidator.onPlayerChanged(
+                new PlayerChangedEvent(ChangeType.UPDATED, 10L, 1L, player(10L, 3L)));
+
+        assertNull(players.get(10L));
+        assertNull(teams.get(1L));
+        assertNull(teams.get(3L));
+        assertNotNull(teams.get(2L));
+        assertNotNull(players.get(20L));
+    }
+
+    @Test
+    void testPlayerCreationEvictsOnlyItsTeam() {
+        entityCacheInvalidator.onPlayerChanged(
+                new PlayerChangedEvent(ChangeType.CREATED, 30L, null, player(30L, 3L)));
+
+        assertNull(teams.get(3L));
+        assertNotNull(teams.get(1L));
+        assertNotNull(teams.get(2L));
+    }
+
+    @Test
+    void testPlayerDeletionEvictsItsTeam() {
+        entityCacheInvalidator.onPlayerChanged(new PlayerChangedEvent(ChangeType.DELETED, 20L, 2L, null));
+
+        assertNull(players.get(20L));
+        assertNull(teams.get(2L));
+        assertNotNull(teams.get(1L));
+    }
+
+    private static TeamDTO team(Long id, PlayerDTO... players) {
+        return new TeamDTO(id, "Team " + id, "T" + id, 1000, List.of(players), null, null);
+    }
+
+    private static PlayerDTO player(Long id, Long teamId) {
+        return new PlayerDTO(id, "Player " + id, 10, 0, "Forward", teamId, null, null);
+    }
+}
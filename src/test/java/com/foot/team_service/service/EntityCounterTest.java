@@ -0,0 +1,127 @@
+package com.foot.team_service.service;
+
+import com.foot.team_service.event.ChangeType;
+import com.foot.team_service.event.PlayerChangedEvent;
+import com.foot.team_service.event.TeamChangedEvent;
+import com.foot.team_service.repository.PlayerRepository;
+import com.foot.team_service.repository.TeamRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+class EntityCounterTest {
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @InjectMocks
+    private EntityCounter entityCounter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testCountTeamsIsCountedOnce() {
+        when(teamRepository.count()).thenReturn(20L);
+
+        assertEquals(20L, entityCounter.countTeams());
+        assertEquals(20L, entityCounter.countTeams());
+
+        verify(teamRepository, times(1)).count();
+    }
+
+    @Test
+    void testCountPlayersFollowsChanges() {
+        when(playerRepository.count()).thenReturn(100L);
+        entityCounter.countPlayers();
+
+        entityCounter.onPlayerChanged(new PlayerChangedEvent(ChangeType.CREATED, 101L, null, null));
+        entityCounter.onPlayerChanged(new PlayerChangedEvent(ChangeType.CREATED, 102L, null, null));
+        entityCounter.onPlayerChanged(new PlayerChangedEvent(ChangeType.UPDATED, 1L, null, null));
+        entityCounter.onPlayerChanged(new PlayerChangedEvent(ChangeType.DELETED, 2L, null, null));
+
+        assertEquals(101L, entityCounter.countPlayers());
+        verify(playerRepository, times(1)).count();
+    }
+
+    @Test
+    void testTeamChangesDoNotCountPlayers() {
+        when(teamRepository.count()).thenReturn(5L);
+        when(playerRepository.count()).thenReturn(50L);
+        entityCounter.countTeams();
+        entityCounter.countPlayers();
+
+        entityCounter.onTeamChanged(new TeamChangedEvent(ChangeType.DELETED, 1L, null));
+
+        assertEquals(4L, entityCounter.countTeams());
+        assertEquals(50L, entityCounter.countPlayers());
+    }
+
+    @Test
+    void testReadersGetLastValueDuringRecount() throws Exception {
+        ReflectionTestUtils.setField(entityCounter, "timeToLive", Duration.ZERO);
+        CountDownLatch recounting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(teamRepository.count()).thenReturn(5L).thenAnswer(invocation -> {
+            recounting.countDown();
+            release.await();
+            return 6L;
+        });
+        entityCounter.countTeams();
+
+        CompletableFuture<Long> recount = CompletableFuture.supplyAsync(entityCounter::countTeams);
+        try {
+            assertTrue(recounting.await(5, TimeUnit.SECONDS));
+            assertEquals(5L, CompletableFuture.supplyAsync(entityCounter::countTeams).get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+        }
+        assertEquals(6L, recount.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testEventDuringRecountIsApplied() throws Exception {
+        ReflectionTestUtils.setField(entityCounter, "timeToLive", Duration.ZERO);
+        CountDownLatch recounting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(playerRepository.count()).thenReturn(100L).thenAnswer(invocation -> {
+            recounting.countDown();
+            release.await();
+            return 100L;
+        }).thenReturn(100L);
+        entityCounter.countPlayers();
+
+        CompletableFuture<Long> recount = CompletableFuture.supplyAsync(entityCounter::countPlayers);
+        assertTrue(recounting.await(5, TimeUnit.SECONDS));
+        // l'événement attend la fin du recomptage, au lieu d'être écrasé par lui
+        Thread event = new Thread(() ->
+                entityCounter.onPlayerChanged(new PlayerChangedEvent(ChangeType.CREATED, 101L, null, null)));
+        event.start();
+        while (event.getState() != Thread.State.WAITING && event.getState() != Thread.State.TERMINATED) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        recount.get(5, TimeUnit.SECONDS);
+        event.join(5_000);
+
+        ReflectionTestUtils.setField(entityCounter, "timeToLive", Duration.ofMinutes(5));
+        assertEquals(101L, entityCounter.countPlayers());
+    }
+}
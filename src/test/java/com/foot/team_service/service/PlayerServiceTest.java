@@ -1,24 +1,45 @@
 package com.foot.team_service.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foot.team_service.config.CacheConfig;
+import com.foot.team_service.dto.CursorPageDTO;
 import com.foot.team_service.dto.PlayerDTO;
+import com.foot.team_service.dto.SearchHitDTO;
+import com.foot.team_service.event.ChangeType;
+import com.foot.team_service.event.PlayerChangedEvent;
+import com.foot.team_service.exception.BadRequestException;
+import com.foot.team_service.exception.PreconditionFailedException;
+import com.foot.team_service.exception.ResourceNotFoundException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import com.foot.team_service.model.Player;
 import com.foot.team_service.model.Team;
 import com.foot.team_service.repository.PlayerRepository;
+import com.foot.team_service.repository.ProjectionRepository;
 import com.foot.team_service.repository.TeamRepository;
+import com.foot.team_service.utils.filter.PlayerFilter;
+import com.foot.team_service.utils.http.ResourceVersion;
 import com.foot.team_service.utils.mapper.PlayerMapper;
-import com.foot.team_service.utils.mapper.TeamMapper;
+import com.foot.team_service.utils.pagination.PageCountMode;
+import com.foot.team_service.utils.projection.FieldSelection;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.*;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -32,7 +53,25 @@ class PlayerServiceTest {
     private TeamRepository teamRepository;
 
     @Mock
-    private TeamService teamService;
+    private ProjectionRepository projectionRepository;
+
+    @Mock
+    private EntityCounter entityCounter;
+
+    @Mock
+    private SearchIndex searchIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private CacheManager cacheManager = new CaffeineCacheManager(CacheConfig.TEAMS, CacheConfig.PLAYERS);
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
 
     @InjectMocks
     private PlayerService playerService;
@@ -76,19 +115,168 @@ class PlayerServiceTest {
         verify(playerRepository, times(1)).findAll(pageable);
     }
 
+    @Test
+    void testFindAllWithoutCount() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Player player = new Player(1L, "Player Name", 10, 0, "Forward", null);
+        Slice<Player> slice = new SliceImpl<>(List.of(player), pageable, true);
+
+        when(playerRepository.findAllBy(pageable)).thenReturn(slice);
+
+        Slice<PlayerDTO> result = playerService.findAll(pageable, PageCountMode.NONE);
+
+        assertFalse(result instanceof Page);
+        assertEquals(1, result.getContent().size());
+        assertTrue(result.hasNext());
+        verify(playerRepository, never()).findAll(pageable);
+        verify(playerRepository, never()).count();
+    }
+
+    @Test
+    void testFindAllWithCachedCount() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Player player = new Player(1L, "Player Name", 10, 0, "Forward", null);
+
+        when(playerRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(player), pageable, true));
+        when(entityCounter.countPlayers()).thenReturn(42L);
+
+        Slice<PlayerDTO> result = playerService.findAll(pageable, PageCountMode.CACHED);
+
+        assertEquals(42L, ((Page<PlayerDTO>) result).getTotalElements());
+        verify(playerRepository, never()).findAll(pageable);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFindAllWithFilter() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "matchPlayed"));
+        Pageable indexedPageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "matchPlayed", "id"));
+        Player player = new Player(1L, "Player Name", 10, 12, "Forward", null);
+        PlayerFilter filter = new PlayerFilter("Forward", null, null, null, 10, null);
+
+        when(playerRepository.findAll(any(Specification.class), eq(indexedPageable)))
+                .thenReturn(new PageImpl<>(List.of(player), indexedPageable, 1));
+
+        Slice<PlayerDTO> result = playerService.findAll(pageable, PageCountMode.CACHED, filter);
+
+        // le compteur ne connaît que le nombre total de joueurs : le filtre est compté
+        assertEquals(1L, ((Page<PlayerDTO>) result).getTotalElements());
+        verifyNoInteractions(entityCounter);
+    }
+
+    @Test
+    void testFindAllWithUnindexedSort() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("createdAt"));
+
+        assertThrows(BadRequestException.class, () -> playerService.findAll(pageable, PageCountMode.EXACT));
+        verifyNoInteractions(playerRepository);
+    }
+
+    @Test
+    void testFindAllFields() {
+        Pageable pageable = PageRequest.of(0, 10);
+        FieldSelection fields = FieldSelection.of("id,name,no", PlayerService.FIELDS);
+        Page<Map<String, Object>> page = new PageImpl<>(List.of(Map.of("id", 1L, "name", "John Doe", "no", 10)));
+
+        when(projectionRepository.findPage(Player.class, fields, null, pageable)).thenReturn(page);
+
+        assertEquals(page, playerService.findAll(pageable, PageCountMode.EXACT, PlayerFilter.NONE, fields));
+        verifyNoInteractions(playerRepository, entityCounter);
+    }
+
+    @Test
+    void testFindFieldsByTeam() {
+        FieldSelection fields = FieldSelection.of("teamId,name", PlayerService.FIELDS);
+        List<Map<String, Object>> players = List.of(Map.of("teamId", 2L, "name", "John Doe"));
+
+        when(projectionRepository.findAll(eq(Player.class), eq(fields), any(), eq(Sort.by("id")))).thenReturn(players);
+
+        assertEquals(players, playerService.findByTeam(2L, fields));
+        verifyNoInteractions(playerRepository);
+    }
+
+    @Test
+    void testSearch() {
+        List<SearchHitDTO> hits = List.of(new SearchHitDTO(SearchHitDTO.Type.PLAYER, 1L, "John Doe", null, 2L));
+
+        when(searchIndex.search("joh", 5)).thenReturn(hits);
+
+        assertEquals(hits, playerService.search("joh", 5));
+        verifyNoInteractions(playerRepository);
+    }
+
+    @Test
+    void testScroll() {
+        Player player = fakePlayer();
+        Window<Player> window = Window.from(List.of(player),
+                index -> ScrollPosition.forward(Map.of("name", player.getName(), "id", player.getId())), true);
+
+        when(playerRepository.findAllByOrderByNameAscIdAsc(ScrollPosition.keyset(), Limit.of(1))).thenReturn(window);
+
+        CursorPageDTO<PlayerDTO> result = playerService.scroll(null, 1);
+
+        assertEquals(1, result.content().size());
+        assertTrue(result.hasNext());
+        assertNotNull(result.nextCursor());
+        verify(playerRepository, times(1)).findAllByOrderByNameAscIdAsc(ScrollPosition.keyset(), Limit.of(1));
+    }
+
     @Test
     void testCreate() {
         Player player = fakePlayer();
         Team team = fakePlayer().getTeam();
         PlayerDTO playerDTO = PlayerMapper.INSTANCE.playerToPlayerDTO(player);
 
-        when(playerRepository.save(any(Player.class))).thenReturn(player);
-        when(teamService.findById(team.getId())).thenReturn(TeamMapper.INSTANCE.teamToTeamDTO(team));
+        when(playerRepository.saveAndFlush(any(Player.class))).thenReturn(player);
+        when(teamRepository.existsById(team.getId())).thenReturn(true);
+        when(teamRepository.getReferenceById(team.getId())).thenReturn(team);
 
         PlayerDTO result = playerService.create(playerDTO);
 
         assertEquals(playerDTO, result);
-        verify(playerRepository, times(1)).save(player);
+        verify(playerRepository, times(1)).saveAndFlush(player);
+        verify(teamRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void testCreateWithUnknownTeam() {
+        PlayerDTO playerDTO = new PlayerDTO(null, "Player One", 10, 0, "Forward", 99L, null, null);
+
+        when(teamRepository.existsById(99L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> playerService.create(playerDTO));
+        verify(teamRepository, never()).getReferenceById(anyLong());
+        verify(playerRepository, never()).saveAndFlush(any(Player.class));
+    }
+
+    @Test
+    void testCreateAll() {
+        Team team = fakePlayer().getTeam();
+        List<PlayerDTO> playerDTOs = List.of(
+                new PlayerDTO(null, "Player One", 10, 0, "Forward", team.getId(), null, null),
+                new PlayerDTO(null, "Player Two", 11, 0, "Defender", team.getId(), null, null));
+
+        when(teamRepository.findIdsByIdIn(Set.of(team.getId()))).thenReturn(Set.of(team.getId()));
+        when(teamRepository.getReferenceById(team.getId())).thenReturn(team);
+        when(playerRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<PlayerDTO> result = playerService.createAll(playerDTOs);
+
+        assertEquals(playerDTOs, result);
+        verify(teamRepository, times(1)).findIdsByIdIn(Set.of(team.getId()));
+        verify(teamRepository, never()).findAllById(any());
+        verify(playerRepository, times(1)).saveAllAndFlush(anyList());
+        verify(playerRepository, never()).save(any(Player.class));
+    }
+
+    @Test
+    void testCreateAllWithUnknownTeam() {
+        List<PlayerDTO> playerDTOs = List.of(new PlayerDTO(null, "Player One", 10, 0, "Forward", 99L, null, null));
+
+        when(teamRepository.findIdsByIdIn(Set.of(99L))).thenReturn(Set.of());
+
+        assertThrows(ResourceNotFoundException.class, () -> playerService.createAll(playerDTOs));
+        verify(playerRepository, never()).saveAllAndFlush(anyList());
     }
 
     @Test
@@ -98,7 +286,7 @@ class PlayerServiceTest {
 
         when(playerRepository.findById(playerId)).thenReturn(Optional.of(PlayerMapper.INSTANCE.playerDTOToPlayer(playerDTO)));
 
-        PlayerDTO result = playerService.findById(playerId);
+        PlayerDTO result = playerService.findById(playerId, new ResourceVersion(3L, LocalDateTime.of(2024, 6, 15, 10, 0), 1));
 
         assertEquals(playerDTO, result);
         verify(playerRepository, times(1)).findById(playerId);
@@ -107,32 +295,113 @@ class PlayerServiceTest {
     @Test
     void testUpdate() {
         Long playerId = 1L;
-        PlayerDTO playerDTO = new PlayerDTO(playerId, "Updated Name", 10, 0, "Forward", null, null, null);
-        Team fakeTeam = new Team();
+        PlayerDTO playerDTO = new PlayerDTO(playerId, "Updated Name", 10, 0, "Forward", 1L, null, null);
+        Player player = fakePlayer();
 
-        when(playerRepository.findById(playerId)).thenReturn(Optional.of(PlayerMapper.INSTANCE.playerDTOToPlayer(playerDTO)));
-        when(playerRepository.save(any(Player.class))).thenReturn(PlayerMapper.INSTANCE.playerDTOToPlayer(playerDTO));
-        when(teamService.findById(anyLong())).thenReturn(TeamMapper.INSTANCE.teamToTeamDTO(fakeTeam));
+        when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
 
-        PlayerDTO result = playerService.update(playerDTO, playerId);
+        PlayerDTO result = playerService.update(playerDTO, playerId, 0L);
 
         assertEquals(playerDTO, result);
-        verify(playerRepository, times(1)).findById(playerId);
-        verify(playerRepository, times(1)).save(any(Player.class));
+        assertEquals("Updated Name", player.getName());
+        verify(teamRepository, never()).existsById(anyLong());
+        verify(playerRepository, times(1)).flush();
+        verify(eventPublisher).publishEvent(new PlayerChangedEvent(ChangeType.UPDATED, playerId, 1L, playerDTO));
     }
 
     @Test
-    void testDelete() {
+    void testUpdateWithStaleVersion() {
+        Long playerId = 1L;
+        PlayerDTO playerDTO = new PlayerDTO(playerId, "Updated Name", 10, 0, "Forward", null, null, null);
+
+        when(playerRepository.findById(playerId)).thenReturn(Optional.of(fakePlayer()));
+
+        assertThrows(PreconditionFailedException.class, () -> playerService.update(playerDTO, playerId, 3L));
+        verify(playerRepository, never()).flush();
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testUpdateLosingAgainstConcurrentWrite() {
         Long playerId = 1L;
+        PlayerDTO playerDTO = new PlayerDTO(playerId, "Updated Name", 10, 0, "Forward", 1L, null, null);
 
+        when(playerRepository.findById(playerId)).thenReturn(Optional.of(fakePlayer()));
+        doThrow(new ObjectOptimisticLockingFailureException(Player.class, playerId)).when(playerRepository).flush();
+
+        assertThrows(PreconditionFailedException.class, () -> playerService.update(playerDTO, playerId, 0L));
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> playerService.update(playerDTO, playerId, null));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testUpdateWithUnknownPlayer() {
+        Long playerId = 1L;
         PlayerDTO playerDTO = new PlayerDTO(playerId, "Updated Name", 10, 0, "Forward", null, null, null);
-        when(playerRepository.findById(playerId)).thenReturn(Optional.of(PlayerMapper.INSTANCE.playerDTOToPlayer(playerDTO)));
-        doNothing().when(playerRepository).deleteById(playerId);
 
-        ResponseEntity<?> result = playerService.delete(playerId);
+        when(playerRepository.findById(playerId)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> playerService.update(playerDTO, playerId, null));
+        verify(playerRepository, never()).flush();
+    }
+
+    @Test
+    void testPatch() throws Exception {
+        Player player = fakePlayer();
+        when(playerRepository.findById(1L)).thenReturn(Optional.of(player));
+
+        PlayerDTO result = playerService.patch(1L, objectMapper.readTree("{\"matchPlayed\":40}"), 0L);
+
+        assertEquals(40, result.matchPlayed());
+        assertEquals("Jhon Doe", result.name());
+        assertEquals(1L, result.teamId());
+        assertEquals(40, player.getMatchPlayed());
+        verify(teamRepository, never()).findById(anyLong());
+        verify(playerRepository, times(1)).flush();
+    }
+
+    @Test
+    void testPatchWithStaleVersion() throws Exception {
+        when(playerRepository.findById(1L)).thenReturn(Optional.of(fakePlayer()));
+
+        assertThrows(PreconditionFailedException.class,
+                () -> playerService.patch(1L, objectMapper.readTree("{\"matchPlayed\":40}"), 3L));
+        verify(playerRepository, never()).flush();
+    }
+
+    @Test
+    void testPatchWithInvalidValue() throws Exception {
+        Player player = fakePlayer();
+        when(playerRepository.findById(1L)).thenReturn(Optional.of(player));
+
+        assertThrows(BadRequestException.class,
+                () -> playerService.patch(1L, objectMapper.readTree("{\"name\":\"\"}"), null));
+        assertEquals("Jhon Doe", player.getName());
+    }
+
+    @Test
+    void testDelete() {
+        Long playerId = 1L;
+        Player player = fakePlayer();
+
+        when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
+
+        ResponseEntity<?> result = playerService.delete(playerId, null);
 
         assertEquals(HttpStatus.NO_CONTENT, result.getStatusCode());
-        verify(playerRepository, times(1)).deleteById(playerId);
+        verify(playerRepository, times(1)).delete(player);
+        verify(playerRepository, times(1)).flush();
+        verify(eventPublisher).publishEvent(new PlayerChangedEvent(ChangeType.DELETED, playerId, 1L, null));
+    }
+
+    @Test
+    void testDeleteWithStaleVersion() {
+        Long playerId = 1L;
+
+        when(playerRepository.findById(playerId)).thenReturn(Optional.of(fakePlayer()));
+
+        assertThrows(PreconditionFailedException.class, () -> playerService.delete(playerId, 3L));
+        verify(playerRepository, never()).delete(any(Player.class));
     }
 
     @Test
@@ -0,0 +1,156 @@
+package com.foot.team_service.service;
+
+import com.foot.team_service.dto.PlayerDTO;
+import com.foot.team_service.dto.SearchHitDTO;
+import com.foot.team_service.dto.TeamDTO;
+import com.foot.team_service.event.ChangeType;
+import com.foot.team_service.event.PlayerChangedEvent;
+import com.foot.team_service.event.TeamChangedEvent;
+import com.foot.team_service.exception.BadRequestException;
+import com.foot.team_service.model.Player;
+import com.foot.team_service.model.Team;
+import com.foot.team_service.repository.ProjectionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+class SearchIndexTest {
+
+    @Mock
+    private ProjectionRepository projectionRepository;
+
+    @InjectMocks
+    private SearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(projectionRepository.findAll(eq(Team.class), any(), isNull(), any())).thenReturn(List.of(
+                row("id", 1L, "name", "Equipe Nice Pro", "acronym", "OGC-PRO"),
+                row("id", 2L, "name", "Paris Saint-Germain", "acronym", "PSG")));
+        when(projectionRepository.findAll(eq(Player.class), any(), isNull(), any())).thenReturn(List.of(
+                row("id", 10L, "name", "Kylian Mbappé", "teamId", 2L),
+                row("id", 11L, "name", "Mbappa", "teamId", 2L),
+                row("id", 12L, "name", "Alex Smith", "teamId", 1L),
+                row("id", 13L, "name", "Max Smithson", "teamId", null)));
+    }
+
+    @Test
+    void testPrefixSearch() {
+        List<SearchHitDTO> hits = searchIndex.search("smith", 10);
+
+        // mot exact avant le mot qui commence par la requête
+        assertEquals(List.of(12L, 13L), ids(hits));
+        assertEquals(new SearchHitDTO(SearchHitDTO.Type.PLAYER, 12L, "Alex Smith", null, 1L), hits.get(0));
+    }
+
+    @Test
+    void testSearchIgnoresCaseAndAccents() {
+        // le mot exact, puis à une faute près
+        assertEquals(List.of(10L, 11L), ids(searchIndex.search("MBAPPÉ", 10)));
+        assertEquals(List.of(10L), ids(searchIndex.search("kylian mb", 10)));
+    }
+
+    @Test
+    void testSearchToleratesTypos() {
+        List<SearchHitDTO> hits = searchIndex.search("mbape", 10);
+
+        assertEquals(List.of(11L, 10L), ids(hits));
+        assertTrue(searchIndex.search("zzzzz", 10).isEmpty());
+    }
+
+    @Test
+    void testSearchTeamsByAcronym() {
+        List<SearchHitDTO> hits = searchIndex.search("psg", 10);
+
+        assertEquals(List.of(new SearchHitDTO(SearchHitDTO.Type.TEAM, 2L, "Paris Saint-Germain", "PSG", null)), hits);
+    }
+
+    @Test
+    void testSearchIsLimited() {
+        assertEquals(1, searchIndex.search("smith", 1).size());
+    }
+
+    @Test
+    void testIndexIsLoadedOnce() {
+        searchIndex.search("smith", 10);
+        searchIndex.search("nice", 10);
+
+        verify(projectionRepository, times(1)).findAll(eq(Player.class), any(), isNull(), any());
+        verify(projectionRepository, times(1)).findAll(eq(Team.class), any(), isNull(), any());
+    }
+
+    @Test
+    void testIndexFollowsPlayerChanges() {
+        searchIndex.search("smith", 10);
+
+        searchIndex.onPlayerChanged(new PlayerChangedEvent(ChangeType.UPDATED, 12L, null, player(12L, "Alex Dupont", 1L)));
+        searchIndex.onPlayerChanged(new PlayerChangedEvent(ChangeType.CREATED, 14L, null, player(14L, "Jordan Smith", 1L)));
+        searchIndex.onPlayerChanged(new PlayerChangedEvent(ChangeType.DELETED, 13L, null, null));
+
+        assertEquals(List.of(14L), ids(searchIndex.search("smith", 10)));
+        assertEquals(List.of(12L), ids(searchIndex.search("dupont", 10)));
+    }
+
+    @Test
+    void testIndexFollowsTeamChanges() {
+        searchIndex.search("psg", 10);
+
+        searchIndex.onTeamChanged(new TeamChangedEvent(ChangeType.UPDATED, 1L,
+                new TeamDTO(1L, "OGC Nice", "OGCN", 3000, null, null, null)));
+        searchIndex.onTeamChanged(new TeamChangedEvent(ChangeType.DELETED, 2L, null));
+        // la suppression d'une équipe publie le détachement de chacun de ses joueurs
+        searchIndex.onPlayerChanged(new PlayerChangedEvent(ChangeType.UPDATED, 11L, 2L, player(11L, "Mbappa", null)));
+
+        assertEquals(List.of(1L), ids(searchIndex.search("ogcn", 10)));
+        assertTrue(searchIndex.search("psg", 10).isEmpty());
+        assertEquals(List.of(new SearchHitDTO(SearchHitDTO.Type.PLAYER, 11L, "Mbappa", null, null)),
+                searchIndex.search("mbappa", 1));
+    }
+
+    @Test
+    void testEventsBeforeLoadAreIgnored() {
+        searchIndex.onPlayerChanged(new PlayerChangedEvent(ChangeType.DELETED, 12L, null, null));
+
+        assertEquals(List.of(12L, 13L), ids(searchIndex.search("smith", 10)));
+    }
+
+    @Test
+    void testInvalidSearch() {
+        assertThrows(BadRequestException.class, () -> searchIndex.search(" - ", 10));
+        assertThrows(BadRequestException.class, () -> searchIndex.search("smith", 0));
+        assertThrows(BadRequestException.class, () -> searchIndex.search("smith", SearchIndex.MAX_LIMIT + 1));
+        assertThrows(BadRequestException.class, () -> searchIndex.search("s".repeat(SearchIndex.MAX_QUERY_LENGTH + 1), 10));
+        verifyNoInteractions(projectionRepository);
+    }
+
+    private static PlayerDTO player(Long id, String name, Long teamId) {
+        return new PlayerDTO(id, name, 9, 0, "Attaquant", teamId, null, null);
+    }
+
+    private static List<Long> ids(List<SearchHitDTO> hits) {
+        return hits.stream().map(SearchHitDTO::id).toList();
+    }
+
+    private static Map<String, Object> row(Object... namesAndValues) {
+        Map<String, Object> row = new HashMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            row.put((String) namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return row;
+    }
+}
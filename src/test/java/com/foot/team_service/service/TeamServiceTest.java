@@ -1,21 +1,45 @@
 package com.foot.team_service.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foot.team_service.config.CacheConfig;
+import com.foot.team_service.dto.CursorPageDTO;
+import com.foot.team_service.dto.PlayerDTO;
 import com.foot.team_service.dto.TeamDTO;
+import com.foot.team_service.dto.TeamStatsDTO;
+import com.foot.team_service.event.ChangeType;
+import com.foot.team_service.event.PlayerChangedEvent;
+import com.foot.team_service.event.TeamChangedEvent;
+import com.foot.team_service.exception.PreconditionFailedException;
+import com.foot.team_service.exception.ResourceNotFoundException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import com.foot.team_service.model.Player;
 import com.foot.team_service.model.Team;
 import com.foot.team_service.repository.PlayerRepository;
+import com.foot.team_service.repository.ProjectionRepository;
 import com.foot.team_service.repository.TeamRepository;
+import com.foot.team_service.utils.cache.VersionedValue;
+import com.foot.team_service.utils.mapper.PlayerMapper;
 import com.foot.team_service.utils.mapper.TeamMapper;
+import com.foot.team_service.utils.http.ResourceVersion;
+import com.foot.team_service.utils.pagination.PageCountMode;
+import com.foot.team_service.utils.projection.FieldSelection;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.*;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -23,12 +47,36 @@ import static org.mockito.Mockito.*;
 
 class TeamServiceTest {
 
+    // version 0 de la ligne de l'équipe, avec deux joueurs
+    private static final ResourceVersion CURRENT_VERSION = new ResourceVersion(0L, LocalDateTime.of(2024, 6, 15, 10, 0), 3);
+
     @Mock
     private TeamRepository teamRepository;
 
     @Mock
     private PlayerRepository playerRepository;
 
+    @Mock
+    private ProjectionRepository projectionRepository;
+
+    @Mock
+    private EntityCounter entityCounter;
+
+    @Mock
+    private TeamStatistics teamStatistics;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private CacheManager cacheManager = new CaffeineCacheManager(CacheConfig.TEAMS, CacheConfig.PLAYERS);
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @InjectMocks
     private TeamService teamService;
 
@@ -52,6 +100,77 @@ class TeamServiceTest {
         verify(teamRepository, times(1)).findAll(pageable);
     }
 
+    @Test
+    void testFindStats() {
+        TeamStatsDTO stats = new TeamStatsDTO(1L, "Team Name", 1000, 1, 3, 3.0, Map.of("Forward", 1), 1000L);
+
+        when(teamStatistics.findByTeamId(1L)).thenReturn(stats);
+        when(teamStatistics.findAll()).thenReturn(List.of(stats));
+
+        assertEquals(stats, teamService.findStats(1L));
+        assertEquals(List.of(stats), teamService.findAllStats());
+        verifyNoInteractions(teamRepository, playerRepository, projectionRepository);
+    }
+
+    @Test
+    void testFindAllWithCachedCount() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Team team = TeamMapper.INSTANCE.teamDTOToTeam(
+                new TeamDTO(1L, "Team Name", "TNAME", 1000, Collections.emptyList(), null, null));
+
+        when(teamRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(team), pageable, false));
+        when(entityCounter.countTeams()).thenReturn(1L);
+
+        Slice<TeamDTO> result = teamService.findAll(pageable, PageCountMode.CACHED);
+
+        assertEquals(1L, ((Page<TeamDTO>) result).getTotalElements());
+        verify(teamRepository, never()).findAll(pageable);
+        verify(teamRepository, times(1)).findWithPlayersByIdIn(List.of(1L));
+    }
+
+    @Test
+    void testFindAllFieldsWithCachedCount() {
+        Pageable pageable = PageRequest.of(0, 10);
+        FieldSelection fields = FieldSelection.of("id,name", TeamService.FIELDS);
+        Map<String, Object> team = Map.of("id", 1L, "name", "Team Name");
+
+        when(projectionRepository.findSlice(Team.class, fields, null, pageable))
+                .thenReturn(new SliceImpl<>(List.of(team), pageable, false));
+        when(entityCounter.countTeams()).thenReturn(1L);
+
+        Slice<Map<String, Object>> result = teamService.findAll(pageable, PageCountMode.CACHED, fields);
+
+        assertEquals(List.of(team), result.getContent());
+        assertEquals(1L, ((Page<Map<String, Object>>) result).getTotalElements());
+        verify(projectionRepository, never()).findPage(any(), any(), any(), any());
+        verifyNoInteractions(teamRepository, playerRepository);
+    }
+
+    @Test
+    void testFindFieldsByIdNotFound() {
+        FieldSelection fields = FieldSelection.all(TeamService.FIELDS);
+
+        when(projectionRepository.findAll(eq(Team.class), eq(fields), any(), any())).thenReturn(List.of());
+
+        assertThrows(ResourceNotFoundException.class, () -> teamService.findById(1L, fields));
+    }
+
+    @Test
+    void testScroll() {
+        Team team = TeamMapper.INSTANCE.teamDTOToTeam(
+                new TeamDTO(1L, "Team Name", "TNAME", 1000, Collections.emptyList(), null, null));
+        Window<Team> window = Window.from(List.of(team), index -> ScrollPosition.keyset(), false);
+
+        when(teamRepository.findAllByOrderByNameAscIdAsc(ScrollPosition.keyset(), Limit.of(10))).thenReturn(window);
+
+        CursorPageDTO<TeamDTO> result = teamService.scroll(null, 10);
+
+        assertEquals(1, result.content().size());
+        assertFalse(result.hasNext());
+        assertNull(result.nextCursor());
+        verify(teamRepository, times(1)).findWithPlayersByIdIn(List.of(1L));
+    }
+
     @Test
     void testCreate() {
         TeamDTO teamDTO = new TeamDTO(null, "Team Name", "TNAME", 1000, Collections.emptyList(), null, null);
@@ -77,42 +196,192 @@ class TeamServiceTest {
 
         when(teamRepository.findById(teamId)).thenReturn(Optional.of(TeamMapper.INSTANCE.teamDTOToTeam(teamDTO)));
 
-        TeamDTO result = teamService.findById(teamId);
+        TeamDTO result = teamService.findById(teamId, new ResourceVersion(LocalDateTime.of(2024, 6, 15, 10, 0), 1));
 
         assertEquals(teamDTO, result);
         verify(teamRepository, times(1)).findById(teamId);
     }
 
+    @Test
+    void testFindByIdIsOnlyCachedForItsVersion() {
+        Long teamId = 1L;
+        ResourceVersion version = new ResourceVersion(3L, LocalDateTime.of(2024, 6, 15, 10, 0), 1);
+        ResourceVersion newerVersion = new ResourceVersion(4L, LocalDateTime.of(2024, 6, 15, 11, 0), 1);
+        TeamDTO staleTeamDTO = new TeamDTO(teamId, "Old Name", "TNAME", 1000, Collections.emptyList(), null, null);
+        TeamDTO teamDTO = new TeamDTO(teamId, "Team Name", "TNAME", 1000, Collections.emptyList(), null, null);
+
+        // une lecture commencée avant l'écriture remet l'ancien état en cache après l'éviction
+        cacheManager.getCache(CacheConfig.TEAMS).put(teamId, new VersionedValue<>(version, staleTeamDTO));
+        when(teamRepository.findById(teamId)).thenReturn(Optional.of(TeamMapper.INSTANCE.teamDTOToTeam(teamDTO)));
+
+        assertEquals(staleTeamDTO, teamService.findById(teamId, version));
+        assertEquals(teamDTO, teamService.findById(teamId, newerVersion));
+        assertEquals(teamDTO, teamService.findById(teamId, newerVersion));
+        verify(teamRepository, times(1)).findById(teamId);
+    }
+
+    @Test
+    void testFindVersion() {
+        ResourceVersion version = new ResourceVersion(LocalDateTime.of(2024, 6, 15, 10, 0), 12);
+
+        when(teamRepository.findVersionById(1L)).thenReturn(Optional.of(version));
+
+        assertEquals(version, teamService.findVersion(1L));
+        verify(teamRepository, never()).findById(1L);
+    }
+
+    @Test
+    void testFindVersionWithUnknownTeam() {
+        when(teamRepository.findVersionById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> teamService.findVersion(1L));
+    }
+
     @Test
     void testUpdate() {
         Long teamId = 1L;
         TeamDTO teamDTO = new TeamDTO(teamId, "Updated Name", "UTNAME", 2000, Collections.emptyList(), null, null);
-        Team team = new Team();
-        Player player = new Player();
+        Team team = new Team(teamId, "Equipe de Nice", "OGC", new ArrayList<>(), 1500);
 
         when(teamRepository.findById(teamId)).thenReturn(Optional.of(team));
-        when(teamRepository.save(any(Team.class))).thenReturn(TeamMapper.INSTANCE.teamDTOToTeam(teamDTO));
-        when(playerRepository.save(any(Player.class))).thenReturn(player);
-        when(playerRepository.findById(anyLong())).thenReturn(Optional.of(player));
+        when(teamRepository.findVersionById(teamId)).thenReturn(Optional.of(CURRENT_VERSION));
 
-        TeamDTO result = teamService.update(teamDTO, teamId);
+        TeamDTO result = teamService.update(teamDTO, teamId, ifMatch(CURRENT_VERSION));
 
         assertEquals(teamDTO, result);
-        verify(teamRepository, times(1)).findById(teamId);
-        verify(teamRepository, times(1)).save(any(Team.class));
+        assertEquals("Updated Name", team.getName());
+        verify(teamRepository, times(1)).flush();
+        verify(teamRepository, never()).save(any(Team.class));
     }
 
     @Test
-    void testDelete() {
+    void testUpdateMovesExistingPlayers() {
+        Long teamId = 1L;
+        Team team = new Team(teamId, "Equipe de Nice", "OGC", null, 1500);
+        Player existingPlayer = new Player(5L, "Old Name", 7, 10, "Milieu", null);
+        PlayerDTO movedPlayer = new PlayerDTO(5L, "New Name", 8, 11, "Milieu", null, null, null);
+        PlayerDTO newPlayer = new PlayerDTO(99L, "Rookie", 30, 0, "Gardien", null, null, null);
+        TeamDTO teamDTO = new TeamDTO(teamId, "Updated Name", "UTNAME", 2000, List.of(movedPlayer, newPlayer), null, null);
+
+        when(teamRepository.findById(teamId)).thenReturn(Optional.of(team));
+        when(playerRepository.findAllById(List.of(5L, 99L))).thenReturn(List.of(existingPlayer));
+
+        teamService.update(teamDTO, teamId, null);
+
+        ArgumentCaptor<List<Player>> saved = ArgumentCaptor.forClass(List.class);
+        verify(playerRepository).saveAll(saved.capture());
+        assertSame(existingPlayer, saved.getValue().get(0));
+        assertEquals("New Name", existingPlayer.getName());
+        assertSame(team, existingPlayer.getTeam());
+        assertNull(saved.getValue().get(1).getId());
+    }
+
+    @Test
+    void testUpdateWithStaleVersion() {
         Long teamId = 1L;
         TeamDTO teamDTO = new TeamDTO(teamId, "Updated Name", "UTNAME", 2000, Collections.emptyList(), null, null);
 
-        when(teamRepository.findById(teamId)).thenReturn(Optional.of(TeamMapper.INSTANCE.teamDTOToTeam(teamDTO)));
-        doNothing().when(teamRepository).deleteById(teamId);
+        when(teamRepository.findVersionById(teamId)).thenReturn(Optional.of(CURRENT_VERSION));
+
+        assertThrows(PreconditionFailedException.class, () -> teamService.update(teamDTO, teamId,
+                ifMatch(new ResourceVersion(2L, LocalDateTime.of(2024, 6, 15, 10, 0), 3))));
+        verify(teamRepository, never()).flush();
+    }
+
+    @Test
+    void testUpdateWithStaleRoster() {
+        Long teamId = 1L;
+        TeamDTO teamDTO = new TeamDTO(teamId, "Updated Name", "UTNAME", 2000, Collections.emptyList(), null, null);
+
+        // même version de la ligne de l'équipe, mais un joueur est arrivé depuis
+        when(teamRepository.findVersionById(teamId)).thenReturn(Optional.of(CURRENT_VERSION));
+
+        assertThrows(PreconditionFailedException.class, () -> teamService.update(teamDTO, teamId,
+                ifMatch(new ResourceVersion(0L, LocalDateTime.of(2024, 6, 15, 10, 0), 2))));
+        verify(teamRepository, never()).findById(teamId);
+    }
+
+    @Test
+    void testUpdateLosingAgainstConcurrentWrite() {
+        Long teamId = 1L;
+        TeamDTO teamDTO = new TeamDTO(teamId, "Updated Name", "UTNAME", 2000, Collections.emptyList(), null, null);
+
+        when(teamRepository.findById(teamId)).thenReturn(Optional.of(new Team(teamId, "Equipe de Nice", "OGC", null, 1500)));
+        when(teamRepository.findVersionById(teamId)).thenReturn(Optional.of(CURRENT_VERSION));
+        doThrow(new ObjectOptimisticLockingFailureException(Team.class, teamId)).when(teamRepository).flush();
+
+        assertThrows(PreconditionFailedException.class, () -> teamService.update(teamDTO, teamId, ifMatch(CURRENT_VERSION)));
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> teamService.update(teamDTO, teamId, null));
+    }
+
+    @Test
+    void testPatchLeavesRosterAlone() throws Exception {
+        Team team = new Team(1L, "Equipe de Nice", "OGC", null, 2000);
+        when(teamRepository.findById(1L)).thenReturn(Optional.of(team));
+
+        TeamDTO result = teamService.patch(1L, objectMapper.readTree("{\"budget\":2500}"), null);
+
+        assertEquals(2500, result.budget());
+        assertEquals("Equipe de Nice", team.getName());
+        verify(playerRepository, never()).findAllById(any());
+        verify(playerRepository, never()).saveAll(any());
+        verify(teamRepository, times(1)).flush();
+    }
+
+    @Test
+    void testPatchRoster() throws Exception {
+        Team team = new Team(1L, "Equipe de Nice", "OGC", null, 2000);
+        when(teamRepository.findById(1L)).thenReturn(Optional.of(team));
+        when(playerRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
-        ResponseEntity<?> result = teamService.delete(teamId);
+        teamService.patch(1L, objectMapper.readTree(
+                "{\"players\":[{\"name\":\"Rookie\",\"no\":30,\"matchPlayed\":0,\"position\":\"Gardien\"}]}"), null);
+
+        ArgumentCaptor<List<Player>> saved = ArgumentCaptor.forClass(List.class);
+        verify(playerRepository).saveAll(saved.capture());
+        assertEquals("Rookie", saved.getValue().get(0).getName());
+        assertSame(team, saved.getValue().get(0).getTeam());
+    }
+
+    @Test
+    void testPatchWithStaleVersion() throws Exception {
+        when(teamRepository.findVersionById(1L)).thenReturn(Optional.of(CURRENT_VERSION));
+
+        assertThrows(PreconditionFailedException.class, () -> teamService.patch(1L, objectMapper.readTree("{\"budget\":2500}"),
+                ifMatch(new ResourceVersion(4L, LocalDateTime.of(2024, 6, 15, 10, 0), 3))));
+    }
+
+    @Test
+    void testDelete() {
+        Long teamId = 1L;
+        // le joueur tel que le laisse le détachement de Team.preRemove
+        Player player = new Player(5L, "Jhon Doe", 7, 10, "Milieu", null);
+        Team team = new Team(teamId, "Equipe de Nice", "OGC", new ArrayList<>(List.of(player)), 1500);
+
+        when(teamRepository.findById(teamId)).thenReturn(Optional.of(team));
+
+        ResponseEntity<?> result = teamService.delete(teamId, null);
 
         assertEquals(HttpStatus.NO_CONTENT, result.getStatusCode());
-        verify(teamRepository, times(1)).deleteById(teamId);
+        verify(teamRepository, times(1)).delete(team);
+        verify(teamRepository, times(1)).flush();
+        InOrder events = inOrder(eventPublisher);
+        events.verify(eventPublisher).publishEvent(new PlayerChangedEvent(
+                ChangeType.UPDATED, 5L, teamId, PlayerMapper.INSTANCE.playerToPlayerDTO(player)));
+        events.verify(eventPublisher).publishEvent(new TeamChangedEvent(ChangeType.DELETED, teamId, null));
+    }
+
+    @Test
+    void testDeleteWithUnknownTeam() {
+        Long teamId = 1L;
+
+        when(teamRepository.findVersionById(teamId)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> teamService.delete(teamId, ifMatch(CURRENT_VERSION)));
+        verify(teamRepository, never()).delete(any(Team.class));
+    }
+
+    private static String ifMatch(ResourceVersion version) {
+        return "\"" + version.eTag() + "\"";
     }
 }
@@ -0,0 +1,140 @@
+package com.foot.team_service.service;
+
+import com.foot.team_service.dto.PlayerDTO;
+import com.foot.team_service.dto.TeamDTO;
+import com.foot.team_service.dto.TeamStatsDTO;
+import com.foot.team_service.event.ChangeType;
+import com.foot.team_service.event.PlayerChangedEvent;
+import com.foot.team_service.event.TeamChangedEvent;
+import com.foot.team_service.exception.ResourceNotFoundException;
+import com.foot.team_service.model.Player;
+import com.foot.team_service.model.Team;
+import com.foot.team_service.repository.ProjectionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+class TeamStatisticsTest {
+
+    @Mock
+    private ProjectionRepository projectionRepository;
+
+    @InjectMocks
+    private TeamStatistics teamStatistics;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(projectionRepository.findAll(eq(Team.class), any(), isNull(), any())).thenReturn(List.of(
+                row("id", 1L, "name", "OGC Nice", "budget", 3000),
+                row("id", 2L, "name", "PSG", "budget", 1000),
+                row("id", 3L, "name", "Sans Joueur", "budget", 500)));
+        when(projectionRepository.findAll(eq(Player.class), any(), any(), any())).thenReturn(List.of(
+                row("id", 10L, "teamId", 1L, "matchPlayed", 5, "position", "Attaquant"),
+                row("id", 11L, "teamId", 1L, "matchPlayed", 3, "position", "Gardien"),
+                row("id", 12L, "teamId", 2L, "matchPlayed", 8, "position", "Attaquant")));
+    }
+
+    @Test
+    void testStatsAreLoadedOnce() {
+        assertEquals(new TeamStatsDTO(1L, "OGC Nice", 3000, 2, 8, 4.0,
+                Map.of("Attaquant", 1, "Gardien", 1), 1500L), teamStatistics.findByTeamId(1L));
+        // une équipe sans joueur n'a ni moyenne ni budget par joueur
+        assertEquals(new TeamStatsDTO(3L, "Sans Joueur", 500, 0, 0, null, Map.of(), null),
+                teamStatistics.findByTeamId(3L));
+        assertEquals(List.of(1L, 2L, 3L), teamStatistics.findAll().stream().map(TeamStatsDTO::teamId).toList());
+
+        verify(projectionRepository, times(1)).findAll(eq(Team.class), any(), any(), any());
+        verify(projectionRepository, times(1)).findAll(eq(Player.class), any(), any(), any());
+    }
+
+    @Test
+    void testStatsFollowPlayerChanges() {
+        teamStatistics.findAll();
+
+        // transfert de Nice vers Paris, avec un changement de poste
+        teamStatistics.onPlayerChanged(new PlayerChangedEvent(ChangeType.UPDATED, 11L, 1L, player(11L, 4, "Milieu", 2L)));
+        teamStatistics.onPlayerChanged(new PlayerChangedEvent(ChangeType.CREATED, 13L, null, player(13L, 1, "Attaquant", 1L)));
+        teamStatistics.onPlayerChanged(new PlayerChangedEvent(ChangeType.DELETED, 12L, 2L, null));
+        // un joueur sans équipe ne compte nulle part
+        teamStatistics.onPlayerChanged(new PlayerChangedEvent(ChangeType.CREATED, 14L, null, player(14L, 9, "Milieu", null)));
+
+        assertEquals(new TeamStatsDTO(1L, "OGC Nice", 3000, 2, 6, 3.0, Map.of("Attaquant", 2), 1500L),
+                teamStatistics.findByTeamId(1L));
+        assertEquals(new TeamStatsDTO(2L, "PSG", 1000, 1, 4, 4.0, Map.of("Milieu", 1), 1000L),
+                teamStatistics.findByTeamId(2L));
+    }
+
+    @Test
+    void testApplyingAnEventTwiceChangesNothing() {
+        teamStatistics.findAll();
+        PlayerChangedEvent event = new PlayerChangedEvent(ChangeType.UPDATED, 10L, 1L, player(10L, 6, "Attaquant", 1L));
+
+        teamStatistics.onPlayerChanged(event);
+        teamStatistics.onPlayerChanged(event);
+
+        assertEquals(new TeamStatsDTO(1L, "OGC Nice", 3000, 2, 9, 4.5,
+                Map.of("Attaquant", 1, "Gardien", 1), 1500L), teamStatistics.findByTeamId(1L));
+    }
+
+    @Test
+    void testStatsFollowTeamChanges() {
+        teamStatistics.findAll();
+
+        teamStatistics.onTeamChanged(new TeamChangedEvent(ChangeType.UPDATED, 1L,
+                new TeamDTO(1L, "Nice", "OGCN", 5000, null, null, null)));
+        teamStatistics.onTeamChanged(new TeamChangedEvent(ChangeType.DELETED, 2L, null));
+        teamStatistics.onPlayerChanged(new PlayerChangedEvent(ChangeType.UPDATED, 12L, 2L, player(12L, 8, "Attaquant", null)));
+        // l'effectif d'une nouvelle équipe peut être publié avant l'équipe
+        teamStatistics.onPlayerChanged(new PlayerChangedEvent(ChangeType.CREATED, 20L, null, player(20L, 2, "Gardien", 4L)));
+        assertThrows(ResourceNotFoundException.class, () -> teamStatistics.findByTeamId(4L));
+        teamStatistics.onTeamChanged(new TeamChangedEvent(ChangeType.CREATED, 4L,
+                new TeamDTO(4L, "Lyon", "OL", 100, null, null, null)));
+
+        assertEquals(2500L, teamStatistics.findByTeamId(1L).budgetPerPlayer());
+        assertThrows(ResourceNotFoundException.class, () -> teamStatistics.findByTeamId(2L));
+        assertEquals(new TeamStatsDTO(4L, "Lyon", 100, 1, 2, 2.0, Map.of("Gardien", 1), 100L),
+                teamStatistics.findByTeamId(4L));
+        // le joueur détaché de l'équipe supprimée ne compte que dans sa nouvelle équipe
+        teamStatistics.onPlayerChanged(new PlayerChangedEvent(ChangeType.UPDATED, 12L, null, player(12L, 8, "Attaquant", 3L)));
+        assertEquals(1, teamStatistics.findByTeamId(3L).playerCount());
+        assertEquals(List.of(1L, 3L, 4L), teamStatistics.findAll().stream().map(TeamStatsDTO::teamId).toList());
+    }
+
+    @Test
+    void testEventsBeforeLoadAreIgnored() {
+        teamStatistics.onPlayerChanged(new PlayerChangedEvent(ChangeType.DELETED, 10L, 1L, null));
+
+        assertEquals(2, teamStatistics.findByTeamId(1L).playerCount());
+    }
+
+    @Test
+    void testStatsOfUnknownTeam() {
+        assertThrows(ResourceNotFoundException.class, () -> teamStatistics.findByTeamId(99L));
+    }
+
+    private static PlayerDTO player(Long id, int matchPlayed, String position, Long teamId) {
+        return new PlayerDTO(id, "Player " + id, 10, matchPlayed, position, teamId, null, null);
+    }
+
+    private static Map<String, Object> row(Object... namesAndValues) {
+        Map<String, Object> row = new HashMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            row.put((String) namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return row;
+    }
+}
@@ -0,0 +1,37 @@
+package com.foot.team_service.utils.filter;
+
+import com.foot.team_service.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlayerFilterTest {
+
+    @Test
+    void testEmptyFilter() {
+        PlayerFilter filter = new PlayerFilter(null, null, null, null, null, null);
+
+        assertTrue(filter.isEmpty());
+        assertNull(filter.toSpecification());
+    }
+
+    @Test
+    void testFilter() {
+        PlayerFilter filter = new PlayerFilter("Milieu", 3L, 1, 10, null, null);
+
+        assertFalse(filter.isEmpty());
+        assertNotNull(filter.toSpecification());
+    }
+
+    @Test
+    void testEmptyRangeIsRejected() {
+        assertThrows(BadRequestException.class,
+                () -> new PlayerFilter(null, null, 10, 1, null, null).toSpecification());
+        assertThrows(BadRequestException.class,
+                () -> new PlayerFilter(null, null, null, null, 50, 49).toSpecification());
+    }
+}
@@ -0,0 +1,45 @@
+package com.foot.team_service.utils.http;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foot.team_service.dto.PlayerDTO;
+import com.foot.team_service.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MergePatchTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void testApplyFollowsRfc7386() throws Exception {
+        JsonNode target = objectMapper.readTree("{\"a\":\"b\",\"c\":{\"d\":\"e\",\"f\":\"g\"},\"h\":[1,2]}");
+        JsonNode patch = objectMapper.readTree("{\"a\":\"z\",\"c\":{\"f\":null},\"h\":[3]}");
+
+        JsonNode result = MergePatch.apply(target, patch);
+
+        assertEquals(objectMapper.readTree("{\"a\":\"z\",\"c\":{\"d\":\"e\"},\"h\":[3]}"), result);
+        assertEquals("b", target.get("a").asText());
+    }
+
+    @Test
+    void testApplyToDto() throws Exception {
+        PlayerDTO player = new PlayerDTO(1L, "John Doe", 10, 5, "Milieu", 2L, null, null);
+
+        PlayerDTO patched = MergePatch.apply(objectMapper, player,
+                objectMapper.readTree("{\"matchPlayed\":6,\"teamId\":null}"), PlayerDTO.class);
+
+        assertEquals(new PlayerDTO(1L, "John Doe", 10, 6, "Milieu", null, null, null), patched);
+    }
+
+    @Test
+    void testApplyRejectsNonObjectPatch() throws Exception {
+        PlayerDTO player = new PlayerDTO(1L, "John Doe", 10, 5, "Milieu", 2L, null, null);
+
+        assertThrows(BadRequestException.class,
+                () -> MergePatch.apply(objectMapper, player, objectMapper.readTree("[]"), PlayerDTO.class));
+        assertThrows(BadRequestException.class,
+                () -> MergePatch.apply(objectMapper, player, objectMapper.readTree("{\"no\":\"ten\"}"), PlayerDTO.class));
+    }
+}
@@ -0,0 +1,106 @@
+package com.foot.team_service.utils.http;
+
+import com.foot.team_service.exception.PreconditionFailedException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourceVersionTest {
+
+    private static final LocalDateTime TEAM_UPDATED_AT = LocalDateTime.of(2024, 6, 15, 10, 0);
+    private static final LocalDateTime PLAYER_UPDATED_AT = TEAM_UPDATED_AT.plusSeconds(30);
+
+    @Test
+    void testTeamVersionUsesLatestDate() {
+        ResourceVersion version = new ResourceVersion(TEAM_UPDATED_AT, PLAYER_UPDATED_AT, 11L);
+
+        assertEquals(PLAYER_UPDATED_AT, version.lastModified());
+        assertEquals(12, version.count());
+    }
+
+    @Test
+    void testTeamWithoutPlayers() {
+        ResourceVersion version = new ResourceVersion(TEAM_UPDATED_AT, null, 0L);
+
+        assertEquals(TEAM_UPDATED_AT, version.lastModified());
+    }
+
+    @Test
+    void testETagChangesWithDateAndCount() {
+        ResourceVersion version = new ResourceVersion(PLAYER_UPDATED_AT, 11);
+
+        assertEquals(version.eTag(), new ResourceVersion(PLAYER_UPDATED_AT, 11).eTag());
+        assertNotEquals(version.eTag(), new ResourceVersion(PLAYER_UPDATED_AT, 10).eTag());
+        assertNotEquals(version.eTag(), new ResourceVersion(PLAYER_UPDATED_AT.plusNanos(1_000), 11).eTag());
+    }
+
+    @Test
+    void testEmptyRoster() {
+        ResourceVersion version = new ResourceVersion(null, 0);
+
+        assertEquals("0-0", version.eTag());
+        assertEquals(-1, version.lastModifiedMillis());
+    }
+
+    @Test
+    void testETagStartsWithRowVersion() {
+        ResourceVersion version = new ResourceVersion(4L, TEAM_UPDATED_AT, PLAYER_UPDATED_AT, 11L);
+
+        assertTrue(version.eTag().startsWith("4."));
+        assertEquals(4L, ResourceVersion.versionOf("\"" + version.eTag() + "\""));
+    }
+
+    @Test
+    void testETagOfEachRepresentation() {
+        ResourceVersion version = new ResourceVersion(4L, TEAM_UPDATED_AT, PLAYER_UPDATED_AT, 11L);
+
+        assertEquals(version.eTag(), version.eTag(request(null)));
+        assertEquals(version.eTag(), version.eTag(request("*/*")));
+        assertEquals(version.eTag(), version.eTag(request("application/json, application/cbor")));
+        assertEquals(version.eTag() + "+cbor", version.eTag(request("application/cbor")));
+        assertEquals(version.eTag() + "+cbor", version.eTag(request("application/json;q=0.5, application/cbor")));
+        assertEquals(version.eTag() + "+smile", version.eTag(request("application/x-jackson-smile")));
+        // la version de la ligne reste lisible pour If-Match, quelle que soit la représentation
+        assertEquals(4L, ResourceVersion.versionOf("\"" + version.eTag(request("application/cbor")) + "\""));
+    }
+
+    @Test
+    void testVersionOfUnconditionalWrite() {
+        assertNull(ResourceVersion.versionOf(null));
+        assertNull(ResourceVersion.versionOf(" "));
+        assertNull(ResourceVersion.versionOf("*"));
+    }
+
+    @Test
+    void testVersionOfInvalidETag() {
+        assertThrows(PreconditionFailedException.class, () -> ResourceVersion.versionOf("W/\"4.abc-1\""));
+        assertThrows(PreconditionFailedException.class, () -> ResourceVersion.versionOf("\"abc-1\""));
+        assertThrows(PreconditionFailedException.class, () -> ResourceVersion.versionOf("\"x.abc-1\""));
+    }
+
+    @Test
+    void testMatches() {
+        ResourceVersion version = new ResourceVersion(4L, TEAM_UPDATED_AT, PLAYER_UPDATED_AT, 11L);
+
+        assertTrue(version.matches(null));
+        assertTrue(version.matches("*"));
+        assertTrue(version.matches("\"" + version.eTag() + "\""));
+        assertTrue(version.matches("\"" + version.eTag(request("application/cbor")) + "\""));
+        // même version de la ligne, mais un effectif modifié
+        assertFalse(version.matches("\"" + new ResourceVersion(4L, TEAM_UPDATED_AT, PLAYER_UPDATED_AT, 12L).eTag() + "\""));
+        assertFalse(version.matches("W/\"" + version.eTag() + "\""));
+    }
+
+    private static ServletWebRequest request(String accept) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (accept != null) {
+            request.addHeader(HttpHeaders.ACCEPT, accept);
+        }
+        return new ServletWebRequest(request);
+    }
+}
@@ -0,0 +1,78 @@
+package com.foot.team_service.utils.importing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foot.team_service.dto.PlayerDTO;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void testReadNdjson() throws IOException {
+        List<RecordReader.Record<PlayerDTO>> records = read(ImportFormat.NDJSON, """
+                {"name":"Player One","no":1,"position":"Milieu","teamId":1}
+
+                {"name":"Player Two","no":2,"position":"Gardien"}
+                """);
+
+        assertEquals(2, records.size());
+        assertEquals("Player One", records.get(0).value().name());
+        assertEquals(1L, records.get(0).value().teamId());
+        assertEquals(3, records.get(1).line());
+        assertNull(records.get(1).value().teamId());
+    }
+
+    @Test
+    void testReadCsv() throws IOException {
+        List<RecordReader.Record<PlayerDTO>> records = read(ImportFormat.CSV, """
+                \uFEFFname,no,matchPlayed,position,teamId
+                "Doe, John",10,3,Attaquant,2
+                "Say ""Hi""\",11,0,Milieu,
+                """);
+
+        assertEquals(2, records.size());
+        assertEquals(2, records.get(0).line());
+        assertEquals("Doe, John", records.get(0).value().name());
+        assertEquals(3, records.get(0).value().matchPlayed());
+        assertEquals(2L, records.get(0).value().teamId());
+        assertEquals("Say \"Hi\"", records.get(1).value().name());
+        assertNull(records.get(1).value().teamId());
+    }
+
+    @Test
+    void testInvalidLinesAreReportedAndSkipped() throws IOException {
+        List<RecordReader.Record<PlayerDTO>> records = read(ImportFormat.CSV, """
+                name,no,matchPlayed,position,teamId
+                Player,ten,0,Milieu,1
+                Player,10,0,Milieu
+                Player,10,0,Milieu,1
+                """);
+
+        assertEquals(3, records.size());
+        assertNull(records.get(0).value());
+        assertNotNull(records.get(0).error());
+        assertTrue(records.get(1).error().contains("expected 5 fields but found 4"));
+        assertNull(records.get(2).error());
+    }
+
+    private List<RecordReader.Record<PlayerDTO>> read(ImportFormat format, String content) throws IOException {
+        List<RecordReader.Record<PlayerDTO>> records = new ArrayList<>();
+        try (RecordReader<PlayerDTO> reader = new RecordReader<>(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), format, PlayerDTO.class, objectMapper)) {
+            RecordReader.Record<PlayerDTO> record;
+            while ((record = reader.next()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,92 @@
+package com.foot.team_service.utils.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.foot.team_service.dto.PageDTO;
+import com.foot.team_service.dto.PlayerDTO;
+import com.foot.team_service.dto.TeamDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+/**
+ * Checks that the hand-written serializers, registered in the application mapper, write the same JSON
+ * as the default serializer of Jackson.
+ */
+@JsonTest
+class RecordSerializerTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 10, 0);
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 3, 2, 11, 30, 15, 123_000_000);
+
+    // sortie de référence : le sérialiseur par défaut de Jackson, configuré comme par Spring Boot
+    private final ObjectMapper defaultMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testSerializersAreRegistered() throws Exception {
+        SerializerProvider provider = objectMapper.getSerializerProviderInstance();
+
+        assertInstanceOf(PlayerDTOSerializer.class, provider.findValueSerializer(PlayerDTO.class));
+        assertInstanceOf(TeamDTOSerializer.class, provider.findValueSerializer(TeamDTO.class));
+    }
+
+    @Test
+    void testPlayerSerializerWritesTheDefaultOutput() throws Exception {
+        PlayerDTO player = new PlayerDTO(1L, "John \"JD\" Doe", 10, 5, "Milieu", 2L, CREATED_AT, UPDATED_AT);
+        PlayerDTO newPlayer = new PlayerDTO(null, "Jane Doe", null, 0, "Gardien", null, null, null);
+
+        assertEquals(defaultMapper.writeValueAsString(player), objectMapper.writeValueAsString(player));
+        assertEquals(defaultMapper.writeValueAsString(newPlayer), objectMapper.writeValueAsString(newPlayer));
+    }
+
+    @Test
+    void testTeamSerializerWritesTheDefaultOutput() throws Exception {
+        PlayerDTO player = new PlayerDTO(1L, "John Doe", 10, 5, "Milieu", 2L, CREATED_AT, UPDATED_AT);
+        TeamDTO team = new TeamDTO(2L, "Team Name", "TNAME", 1000, Arrays.asList(player, null), CREATED_AT, UPDATED_AT);
+        TeamDTO teamWithoutPlayers = new TeamDTO(null, "Team Name", "TNAME", null, null, null, null);
+
+        assertEquals(defaultMapper.writeValueAsString(team), objectMapper.writeValueAsString(team));
+        assertEquals(defaultMapper.writeValueAsString(teamWithoutPlayers), objectMapper.writeValueAsString(teamWithoutPlayers));
+    }
+
+    @Test
+    void testDatesFollowTheMapperConfiguration() throws Exception {
+        PlayerDTO player = new PlayerDTO(1L, "John Doe", 10, 5, "Milieu", 2L, CREATED_AT, UPDATED_AT);
+        ObjectMapper timestamps = Jackson2ObjectMapperBuilder.json()
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        ObjectMapper timestampsWithSerializers = Jackson2ObjectMapperBuilder.json()
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .serializers(new PlayerDTOSerializer(), new TeamDTOSerializer())
+                .build();
+
+        assertEquals(timestamps.writeValueAsString(player), timestampsWithSerializers.writeValueAsString(player));
+    }
+
+    @Test
+    void testPageEnvelope() throws Exception {
+        PlayerDTO player = new PlayerDTO(1L, "John Doe", 10, 5, "Milieu", 2L, null, null);
+        String playerJson = objectMapper.writeValueAsString(player);
+
+        assertEquals("{\"content\":[" + playerJson + "],\"page\":1,\"size\":1,\"hasNext\":true,\"totalElements\":3,\"totalPages\":3}",
+                objectMapper.writeValueAsString(PageDTO.of(new PageImpl<>(List.of(player), PageRequest.of(1, 1), 3))));
+        assertEquals("{\"content\":[" + playerJson + "],\"page\":0,\"size\":1,\"hasNext\":false}",
+                objectMapper.writeValueAsString(PageDTO.of(new SliceImpl<>(List.of(player), PageRequest.of(0, 1), false))));
+    }
+}
@@ -0,0 +1,73 @@
+package com.foot.team_service.utils.pagination;
+
+import com.foot.team_service.dto.CursorPageDTO;
+import com.foot.team_service.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorPaginationTest {
+
+    @Test
+    void testPositionWithoutCursor() {
+        assertEquals(ScrollPosition.keyset(), CursorPagination.position(null, CursorPagination.ID_KEYS));
+        assertEquals(ScrollPosition.keyset(), CursorPagination.position(" ", CursorPagination.ID_KEYS));
+    }
+
+    @Test
+    void testCursorRoundTrip() {
+        Map<String, Object> keys = Map.of("name", "Alex Brown", "id", 42L);
+        Window<String> window = Window.from(List.of("a", "b"), index -> ScrollPosition.forward(keys), true);
+
+        CursorPageDTO<String> page = CursorPagination.toPage(window, String::toUpperCase);
+        KeysetScrollPosition position = CursorPagination.position(page.nextCursor(), CursorPagination.NAME_AND_ID_KEYS);
+
+        assertEquals(List.of("A", "B"), page.content());
+        assertTrue(page.hasNext());
+        assertEquals(keys, position.getKeys());
+    }
+
+    @Test
+    void testLastPageHasNoCursor() {
+        Window<String> window = Window.from(List.of("a"), index -> ScrollPosition.keyset(), false);
+
+        CursorPageDTO<String> page = CursorPagination.toPage(window, String::toUpperCase);
+
+        assertFalse(page.hasNext());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void testInvalidCursor() {
+        assertThrows(BadRequestException.class, () -> CursorPagination.position("not a cursor", CursorPagination.ID_KEYS));
+    }
+
+    @Test
+    void testTamperedCursor() {
+        // clés inattendues, clé manquante, valeurs du mauvais type
+        for (String json : List.of("{\"foo\":1}", "{\"id\":1}", "{\"name\":\"a\",\"id\":1,\"foo\":1}",
+                "{\"name\":{\"a\":1},\"id\":\"x\"}", "{\"name\":\"a\",\"id\":1.5}", "{\"name\":null,\"id\":1}",
+                "[1]", "null")) {
+            String cursor = Base64.getUrlEncoder().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+            assertThrows(BadRequestException.class,
+                    () -> CursorPagination.position(cursor, CursorPagination.NAME_AND_ID_KEYS), json);
+        }
+        assertThrows(BadRequestException.class, () -> CursorPagination.position(
+                Base64.getUrlEncoder().encodeToString("{\"name\":\"a\",\"id\":1}".getBytes(StandardCharsets.UTF_8)),
+                CursorPagination.ID_KEYS));
+    }
+
+    @Test
+    void testInvalidSize() {
+        assertThrows(BadRequestException.class, () -> CursorPagination.limit(0));
+        assertThrows(BadRequestException.class, () -> CursorPagination.limit(CursorPagination.MAX_SIZE + 1));
+    }
+}
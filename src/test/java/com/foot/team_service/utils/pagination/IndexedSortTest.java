@@ -0,0 +1,50 @@
+package com.foot.team_service.utils.pagination;
+
+import com.foot.team_service.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IndexedSortTest {
+
+    private static final List<String> INDEXED = List.of("id", "name", "no");
+
+    @Test
+    void testSortIsCompletedWithId() {
+        Pageable pageable = PageRequest.of(2, 20, Sort.by(Sort.Order.desc("name").ignoreCase()));
+
+        Pageable indexed = IndexedSort.restrict(pageable, INDEXED);
+
+        assertEquals(PageRequest.of(2, 20, Sort.by(Sort.Direction.DESC, "name", "id")), indexed);
+    }
+
+    @Test
+    void testUnsortedAndIdSortAreKept() {
+        Pageable unsorted = PageRequest.of(0, 10);
+        Pageable byId = PageRequest.of(0, 10, Sort.by("id"));
+
+        assertSame(unsorted, IndexedSort.restrict(unsorted, INDEXED));
+        assertSame(byId, IndexedSort.restrict(byId, INDEXED));
+    }
+
+    @Test
+    void testUnindexedSortIsRejected() {
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> IndexedSort.restrict(PageRequest.of(0, 10, Sort.by("createdAt")), INDEXED));
+
+        assertEquals("Unsupported sort :: createdAt, expected one of [id, name, no]", exception.getMessage());
+    }
+
+    @Test
+    void testSeveralSortPropertiesAreRejected() {
+        assertThrows(BadRequestException.class,
+                () -> IndexedSort.restrict(PageRequest.of(0, 10, Sort.by("name", "no")), INDEXED));
+    }
+}
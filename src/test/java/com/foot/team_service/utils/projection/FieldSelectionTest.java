@@ -0,0 +1,40 @@
+package com.foot.team_service.utils.projection;
+
+import com.foot.team_service.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldSelectionTest {
+
+    private static final Map<String, String> FIELDS = FieldSelection.fields(
+            "id", "id", "name", "name", "teamId", "team.id");
+
+    @Test
+    void testOfKeepsTheRequestOrder() {
+        FieldSelection selection = FieldSelection.of("teamId, name,,id", FIELDS);
+
+        assertEquals(List.of("teamId", "name", "id"), List.copyOf(selection.paths().keySet()));
+        assertEquals("team.id", selection.paths().get("teamId"));
+    }
+
+    @Test
+    void testOfRejectsUnknownField() {
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> FieldSelection.of("id,budget", FIELDS));
+
+        assertTrue(exception.getMessage().contains("budget"));
+    }
+
+    @Test
+    void testOfRejectsEmptySelection() {
+        assertThrows(BadRequestException.class, () -> FieldSelection.of(" , ", FIELDS));
+    }
+
+    @Test
+    void testAll() {
+        assertEquals(FIELDS, FieldSelection.all(FIELDS).paths());
+    }
+}
@@ -0,0 +1,55 @@
+package com.foot.team_service.utils.querycount;
+
+import com.foot.team_service.config.QueryCountProperties;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MockMvc assertions on the number of SQL statements of a request, read from the
+ * {@value QueryCountFilter#HEADER} header (the test must set {@code foot.query-count.header=true}).
+ */
+public final class QueryCountMatchers {
+
+    private QueryCountMatchers() {
+    }
+
+    /**
+     * Checks that the request ran exactly the given number of statements.
+     */
+    public static ResultMatcher queryCount(long expected) {
+        return result -> assertEquals(expected, queryCountOf(result), () -> "SQL statements of " + route(result));
+    }
+
+    /**
+     * Checks that the request ran at most the given number of statements.
+     */
+    public static ResultMatcher queryCountAtMost(long max) {
+        return result -> {
+            long count = queryCountOf(result);
+            assertTrue(count <= max, () -> route(result) + " ran " + count + " SQL statements, expected at most " + max);
+        };
+    }
+
+    /**
+     * Checks that the request stayed within the budget configured for its route.
+     */
+    public static ResultMatcher withinBudget(QueryCountProperties properties) {
+        return result -> queryCountAtMost(properties.budgetOf(route(result))).match(result);
+    }
+
+    private static long queryCountOf(MvcResult result) {
+        String header = result.getResponse().getHeader(QueryCountFilter.HEADER);
+        assertNotNull(header, "no " + QueryCountFilter.HEADER + " header, is foot.query-count.header enabled?");
+        return Long.parseLong(header);
+    }
+
+    private static String route(MvcResult result) {
+        return result.getRequest().getMethod() + " "
+                + result.getRequest().getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    }
+}
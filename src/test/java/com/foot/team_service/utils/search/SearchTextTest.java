@@ -0,0 +1,50 @@
+package com.foot.team_service.utils.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SearchTextTest {
+
+    @Test
+    void testNormalize() {
+        assertEquals("kylian mbappe", SearchText.normalize("  Kylian MBAPPÉ "));
+        assertEquals("saint etienne", SearchText.normalize("Saint-Étienne"));
+        assertEquals("ogc u17", SearchText.normalize("OGC-U17"));
+        assertEquals("", SearchText.normalize("--"));
+        assertEquals("", SearchText.normalize(null));
+    }
+
+    @Test
+    void testTerms() {
+        assertEquals(Set.of("kylian", "mbappe", "kylian mbappe"), SearchText.terms("kylian mbappe"));
+        assertEquals(Set.of("smith"), SearchText.terms("smith"));
+        assertEquals(Set.of(), SearchText.terms(""));
+    }
+
+    @Test
+    void testTrigrams() {
+        assertEquals(Set.of("$mb", "mba", "bap"), SearchText.trigrams("mbap"));
+        assertEquals(Set.of("$u8"), SearchText.trigrams("u8"));
+    }
+
+    @Test
+    void testPrefixDistance() {
+        assertEquals(0, SearchText.prefixDistance("mbap", "mbappe", 1));
+        // lettre oubliée, lettre en trop, lettres inversées
+        assertEquals(1, SearchText.prefixDistance("mbape", "mbappe", 1));
+        assertEquals(1, SearchText.prefixDistance("mbbap", "mbappe", 1));
+        assertEquals(1, SearchText.prefixDistance("mabp", "mbappe", 1));
+        assertEquals(2, SearchText.prefixDistance("jonhsno", "johnson", 2));
+        assertEquals(2, SearchText.prefixDistance("garcia", "smith", 1));
+    }
+
+    @Test
+    void testMaximumDistance() {
+        assertEquals(0, SearchText.maximumDistance("mb"));
+        assertEquals(1, SearchText.maximumDistance("mbape"));
+        assertEquals(2, SearchText.maximumDistance("mbappe"));
+    }
+}